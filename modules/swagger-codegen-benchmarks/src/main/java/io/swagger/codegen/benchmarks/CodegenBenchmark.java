@@ -0,0 +1,80 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.DefaultCodegen;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.models.HttpMethod;
+import io.swagger.models.Model;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.Swagger;
+import io.swagger.models.properties.Property;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of the spec to the codegen model: fromModel, fromProperty and fromOperation over all
+ * definitions, properties and operations of a spec.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodegenBenchmark {
+    @Param({"petstore", "wordnik", "synthetic-1000"})
+    public String spec;
+
+    private Swagger swagger;
+    private DefaultCodegen codegen;
+
+    @Setup
+    public void setUp() {
+        swagger = Specs.load(spec);
+        codegen = new JavaClientCodegen();
+        codegen.processOpts();
+    }
+
+    @Benchmark
+    public void fromModel(Blackhole bh) {
+        Map<String, Model> definitions = swagger.getDefinitions();
+        for (Map.Entry<String, Model> entry : definitions.entrySet()) {
+            bh.consume(codegen.fromModel(entry.getKey(), entry.getValue(), definitions));
+        }
+    }
+
+    @Benchmark
+    public void fromProperty(Blackhole bh) {
+        for (Model model : swagger.getDefinitions().values()) {
+            if (model.getProperties() == null) {
+                continue;
+            }
+            for (Map.Entry<String, Property> entry : model.getProperties().entrySet()) {
+                bh.consume(codegen.fromProperty(entry.getKey(), entry.getValue()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void fromOperation(Blackhole bh) {
+        for (Map.Entry<String, Path> path : swagger.getPaths().entrySet()) {
+            for (Map.Entry<HttpMethod, Operation> operation : path.getValue().getOperationMap().entrySet()) {
+                bh.consume(codegen.fromOperation(path.getKey(), operation.getKey().toString().toLowerCase(),
+                        operation.getValue(), swagger.getDefinitions(), swagger));
+            }
+        }
+    }
+}
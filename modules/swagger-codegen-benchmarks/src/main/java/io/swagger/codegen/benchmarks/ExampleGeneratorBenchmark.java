@@ -0,0 +1,51 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.examples.ExampleGenerator;
+import io.swagger.models.Swagger;
+import io.swagger.models.properties.RefProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON and XML examples for every definition of a spec, as generated for operation responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExampleGeneratorBenchmark {
+    @Param({"petstore", "wordnik", "synthetic-100"})
+    public String spec;
+
+    private final List<String> mediaTypes = Arrays.asList("application/json", "application/xml");
+    private Swagger swagger;
+
+    @Setup
+    public void setUp() {
+        swagger = Specs.load(spec);
+    }
+
+    @Benchmark
+    public void generate(Blackhole bh) {
+        ExampleGenerator generator = new ExampleGenerator(swagger.getDefinitions());
+        for (String name : swagger.getDefinitions().keySet()) {
+            bh.consume(generator.generate(null, mediaTypes, new RefProperty(name)));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.ClientOpts;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenConfigLoader;
+import io.swagger.codegen.DefaultGenerator;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end generation of a client into a temporary folder.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GeneratorBenchmark {
+    @Param({"petstore", "wordnik", "synthetic-1000"})
+    public String spec;
+
+    @Param({"java"})
+    public String language;
+
+    private File output;
+    private ClientOptInput input;
+
+    @Setup(Level.Trial)
+    public void createOutput() throws IOException {
+        output = File.createTempFile("swagger-codegen-benchmark", "");
+        output.delete();
+        output.mkdirs();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() throws IOException {
+        // optional files are skipped and unchanged files aren't rewritten when they already exist,
+        // so every invocation starts from an empty folder
+        FileUtils.cleanDirectory(output);
+        // generate() modifies both the spec and the config
+        CodegenConfig config = CodegenConfigLoader.forName(language);
+        config.setOutputDir(output.getAbsolutePath());
+        input = new ClientOptInput().opts(new ClientOpts()).swagger(Specs.load(spec)).config(config);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteOutput() throws IOException {
+        FileUtils.deleteDirectory(output);
+    }
+
+    @Benchmark
+    public List<File> generate() {
+        return new DefaultGenerator().opts(input).generate();
+    }
+}
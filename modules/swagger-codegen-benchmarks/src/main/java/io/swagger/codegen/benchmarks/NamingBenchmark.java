@@ -0,0 +1,80 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.DefaultCodegen;
+import io.swagger.codegen.utils.NamingUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Name conversions, called for every model, property, operation and parameter. See
+ * {@link RegexNamingBenchmark} for the regex based implementations they replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NamingBenchmark {
+    static final String[] WORDS = {
+            "pet", "Pet", "petId", "pet_id", "api_key", "find-pets-by-status", "updatePetWithForm",
+            "ApiResponse", "$special[property.name]", "_links", "x-rate-limit", "HTTPStatusCode",
+            "order/details", "user name", "Category", "tag123"
+    };
+    private final DefaultCodegen codegen = new DefaultCodegen();
+
+    @Benchmark
+    public void camelize(Blackhole bh) {
+        for (String word : WORDS) {
+            bh.consume(NamingUtils.camelize(word, false));
+        }
+    }
+
+    @Benchmark
+    public void camelizeLowercaseFirst(Blackhole bh) {
+        for (String word : WORDS) {
+            bh.consume(NamingUtils.camelize(word, true));
+        }
+    }
+
+    /**
+     * DefaultCodegen.camelize, which looks the words up in the shared name cache first.
+     */
+    @Benchmark
+    public void camelizeShared(Blackhole bh) {
+        for (String word : WORDS) {
+            bh.consume(DefaultCodegen.camelize(word));
+        }
+    }
+
+    @Benchmark
+    public void underscore(Blackhole bh) {
+        for (String word : WORDS) {
+            bh.consume(NamingUtils.underscore(word));
+        }
+    }
+
+    @Benchmark
+    public void sanitizeName(Blackhole bh) {
+        for (String word : WORDS) {
+            bh.consume(codegen.sanitizeName(word));
+        }
+    }
+
+    @Benchmark
+    public void removeNonNameElementToCamelCase(Blackhole bh) {
+        for (String word : WORDS) {
+            bh.consume(codegen.removeNonNameElementToCamelCase(word));
+        }
+    }
+}
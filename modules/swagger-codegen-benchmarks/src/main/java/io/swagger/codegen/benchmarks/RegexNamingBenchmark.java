@@ -0,0 +1,137 @@
+package io.swagger.codegen.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Baseline for {@link NamingBenchmark}: the regex based name conversions DefaultCodegen used
+ * before they moved to NamingUtils, run over the same words.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegexNamingBenchmark {
+
+    @Benchmark
+    public void camelize(Blackhole bh) {
+        for (String word : NamingBenchmark.WORDS) {
+            bh.consume(camelize(word, false));
+        }
+    }
+
+    @Benchmark
+    public void camelizeLowercaseFirst(Blackhole bh) {
+        for (String word : NamingBenchmark.WORDS) {
+            bh.consume(camelize(word, true));
+        }
+    }
+
+    @Benchmark
+    public void underscore(Blackhole bh) {
+        for (String word : NamingBenchmark.WORDS) {
+            bh.consume(underscore(word));
+        }
+    }
+
+    @Benchmark
+    public void sanitizeName(Blackhole bh) {
+        for (String word : NamingBenchmark.WORDS) {
+            bh.consume(sanitizeName(word));
+        }
+    }
+
+    @Benchmark
+    public void removeNonNameElementToCamelCase(Blackhole bh) {
+        for (String word : NamingBenchmark.WORDS) {
+            bh.consume(removeNonNameElementToCamelCase(word));
+        }
+    }
+
+    static String underscore(String word) {
+        word = word.replaceAll("\\.", "/");
+        word = word.replaceAll("\\$", "__");
+        word = word.replaceAll("([A-Z]+)([A-Z][a-z])", "$1_$2");
+        word = word.replaceAll("([a-z\\d])([A-Z])", "$1_$2");
+        word = word.replace('-', '_');
+        return word.toLowerCase();
+    }
+
+    static String removeNonNameElementToCamelCase(String name) {
+        StringBuilder sb = new StringBuilder();
+        for (String part : name.split("[-_:;#]")) {
+            if (part.length() > 0) {
+                sb.append(Character.toTitleCase(part.charAt(0))).append(part.substring(1));
+            }
+        }
+        name = sb.toString();
+        if (name.length() > 0) {
+            name = name.substring(0, 1).toLowerCase() + name.substring(1);
+        }
+        return name;
+    }
+
+    static String camelize(String word, boolean lowercaseFirstLetter) {
+        Pattern p = Pattern.compile("\\/(.?)");
+        Matcher m = p.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst("." + m.group(1));
+            m = p.matcher(word);
+        }
+        StringBuilder f = new StringBuilder();
+        for (String z : word.split("\\.")) {
+            if (z.length() > 0) {
+                f.append(Character.toUpperCase(z.charAt(0))).append(z.substring(1));
+            }
+        }
+        word = f.toString();
+        m = p.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0)) + m.group(1).substring(1));
+            m = p.matcher(word);
+        }
+        p = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
+        m = p.matcher(word);
+        if (m.find()) {
+            String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
+            rep = rep.replaceAll("\\$", "\\\\\\$");
+            word = m.replaceAll(rep);
+        }
+        p = Pattern.compile("(_)(.)");
+        m = p.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst(m.group(2).toUpperCase());
+            m = p.matcher(word);
+        }
+        if (lowercaseFirstLetter) {
+            word = word.substring(0, 1).toLowerCase() + word.substring(1);
+        }
+        return word;
+    }
+
+    static String sanitizeName(String name) {
+        name = name.replaceAll("\\[\\]", "");
+        name = name.replaceAll("\\[", "_");
+        name = name.replaceAll("\\]", "");
+        name = name.replaceAll("\\(", "_");
+        name = name.replaceAll("\\)", "");
+        name = name.replaceAll("\\.", "_");
+        name = name.replaceAll("-", "_");
+        name = name.replaceAll(" ", "_");
+        return name.replaceAll("[^a-zA-Z0-9_]", "");
+    }
+}
@@ -0,0 +1,68 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.utils.SpecSynthesizer;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import io.swagger.util.Json;
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Specs used as benchmark input: either one of the test fixtures ("petstore", "wordnik") or a
+ * synthetic spec with the given number of definitions ("synthetic-10000").
+ */
+public final class Specs {
+    private static final String SYNTHETIC = "synthetic-";
+
+    private static final Map<String, String> SOURCES = new ConcurrentHashMap<String, String>();
+
+    private Specs() {
+    }
+
+    /**
+     * @param spec Spec name
+     * @return a freshly parsed spec, safe to modify
+     */
+    public static Swagger load(String spec) {
+        String source = SOURCES.get(spec);
+        if (source == null) {
+            source = spec.startsWith(SYNTHETIC) ? synthesize(spec) : read(spec);
+            SOURCES.put(spec, source);
+        }
+        return new SwaggerParser().parse(source);
+    }
+
+    private static String synthesize(String spec) {
+        int definitions = Integer.parseInt(spec.substring(SYNTHETIC.length()));
+        Swagger swagger = new SpecSynthesizer()
+                .definitions(definitions)
+                .paths(Math.max(1, definitions / 2))
+                .tags(Math.max(1, definitions / 100))
+                .inlineSchemas(definitions / 10)
+                .enums(definitions / 10)
+                .generate();
+        try {
+            return Json.mapper().writeValueAsString(swagger);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String read(String spec) {
+        InputStream in = Specs.class.getClassLoader().getResourceAsStream("2_0/" + spec + ".json");
+        if (in == null) {
+            throw new IllegalArgumentException("unknown spec " + spec);
+        }
+        try {
+            return IOUtils.toString(in, "UTF-8");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package io.swagger.codegen;
+
+import org.apache.commons.io.IOUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.Properties;
+
+/**
+ * Forwards commands to a running generation daemon (see {@link io.swagger.codegen.cmd.Daemon}).
+ * The daemon listens on a loopback port, which it publishes together with an access token in
+ * <code>~/.swagger-codegen/daemon.properties</code>.
+ *
+ * Forwarding can be disabled with <code>-Dswagger.codegen.daemon=false</code>. It is also skipped
+ * when selective generation or debug output is requested with JVM system properties, as those
+ * would not reach the daemon.
+ */
+public class DaemonClient {
+    public static final String DISABLE_PROPERTY = "swagger.codegen.daemon";
+
+    public static final String GENERATE = "generate";
+    public static final String STOP = "stop";
+
+    private static final int CONNECT_TIMEOUT = 1000;
+    /**
+     * Milliseconds to wait for the daemon to take up a request. A daemon that is busy or hung for
+     * longer is bypassed and the command runs in-process.
+     */
+    public static final int ACCEPT_TIMEOUT = 10000;
+
+    // read by the generator from the system properties of the JVM it runs in
+    private static final String[] LOCAL_PROPERTIES = {
+            "models", "apis", "supportingFiles", "debugSwagger", "debugModels", "debugOperations",
+            "debugSupportingFiles", "debugParser"
+    };
+
+    /**
+     * @return the file the daemon publishes its port and token in
+     */
+    public static File getInfoFile() {
+        return new File(System.getProperty("user.home"), ".swagger-codegen" + File.separator + "daemon.properties");
+    }
+
+    /**
+     * Run the given command line in the daemon, if one is running.
+     *
+     * @param args Command line, starting with the command name
+     * @return the exit code of the command, or null if no daemon could be reached
+     */
+    public static Integer forward(String[] args) {
+        if (args.length == 0 || !GENERATE.equals(args[0]) || "false".equals(System.getProperty(DISABLE_PROPERTY))) {
+            return null;
+        }
+        for (String property : LOCAL_PROPERTIES) {
+            if (System.getProperty(property) != null) {
+                return null;
+            }
+        }
+        String[] commandArgs = new String[args.length - 1];
+        System.arraycopy(args, 1, commandArgs, 0, commandArgs.length);
+        return send(GENERATE, commandArgs, new File("").getAbsoluteFile());
+    }
+
+    /**
+     * Ask the running daemon, if any, to shut down.
+     *
+     * @return true if a daemon was running
+     */
+    public static boolean stop() {
+        return send(STOP, new String[0], new File("").getAbsoluteFile()) != null;
+    }
+
+    /**
+     * @param command Command name
+     * @param args Arguments of the command
+     * @param workingDir Directory relative paths of the command are resolved against
+     * @return the exit code of the command, or null if no daemon took up the command
+     */
+    static Integer send(String command, String[] args, File workingDir) {
+        Properties info = readInfo();
+        if (info == null) {
+            return null;
+        }
+        Socket socket = new Socket();
+        try {
+            int port = Integer.parseInt(info.getProperty("port"));
+            socket.connect(new InetSocketAddress(InetAddress.getByName(null), port), CONNECT_TIMEOUT);
+        } catch (Exception e) {
+            // stale info file, run in-process
+            IOUtils.closeQuietly(socket);
+            return null;
+        }
+        try {
+            socket.setSoTimeout(ACCEPT_TIMEOUT);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            out.writeUTF(info.getProperty("token"));
+            out.writeLong(System.currentTimeMillis());
+            out.writeUTF(command);
+            out.writeUTF(workingDir.getAbsolutePath());
+            out.writeInt(args.length);
+            for (String arg : args) {
+                out.writeUTF(arg);
+            }
+            out.flush();
+
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            try {
+                if (!in.readBoolean()) {
+                    return null;
+                }
+            } catch (SocketTimeoutException e) {
+                // busy with a long generation or hung, run in-process
+                return null;
+            }
+            // taken up, the generation itself may take as long as it needs
+            socket.setSoTimeout(0);
+            int exitCode = in.readInt();
+            byte[] output = new byte[in.readInt()];
+            in.readFully(output);
+            System.out.print(new String(output, "UTF-8"));
+            return exitCode;
+        } catch (IOException e) {
+            throw new RuntimeException("Lost connection to the generation daemon", e);
+        } finally {
+            IOUtils.closeQuietly(socket);
+        }
+    }
+
+    private static Properties readInfo() {
+        File file = getInfoFile();
+        if (!file.isFile()) {
+            return null;
+        }
+        InputStream in = null;
+        try {
+            in = new FileInputStream(file);
+            Properties info = new Properties();
+            info.load(in);
+            return info.getProperty("port") != null && info.getProperty("token") != null ? info : null;
+        } catch (IOException e) {
+            return null;
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+    }
+}
@@ -2,10 +2,13 @@ package io.swagger.codegen;
 
 import io.airlift.airline.Cli;
 import io.airlift.airline.Help;
+import io.swagger.codegen.cmd.Batch;
 import io.swagger.codegen.cmd.ConfigHelp;
+import io.swagger.codegen.cmd.Daemon;
 import io.swagger.codegen.cmd.Generate;
 import io.swagger.codegen.cmd.Langs;
 import io.swagger.codegen.cmd.Meta;
+import io.swagger.codegen.cmd.Synthesize;
 
 /**
  * User: lanwen
@@ -21,18 +24,30 @@ public class SwaggerCodegen {
 
 
     public static void main(String[] args) {
+        Integer exitCode = DaemonClient.forward(args);
+        if (exitCode == null) {
+            cli().parse(args).run();
+        } else if (exitCode != 0) {
+            System.exit(exitCode);
+        }
+    }
+
+    public static Cli<Runnable> cli() {
         @SuppressWarnings("unchecked")
         Cli.CliBuilder<Runnable> builder = Cli.<Runnable>builder("swagger-codegen-cli")
                 .withDescription("Swagger code generator CLI. More info on swagger.io")
                 .withDefaultCommand(Langs.class)
                 .withCommands(
                         Generate.class,
+                        Batch.class,
                         Meta.class,
                         Langs.class,
                         Help.class,
-                        ConfigHelp.class
+                        ConfigHelp.class,
+                        Synthesize.class,
+                        Daemon.class
                 );
 
-        builder.build().parse(args).run();
+        return builder.build();
     }
 }
@@ -0,0 +1,70 @@
+package io.swagger.codegen.cmd;
+
+import io.airlift.airline.Arguments;
+import io.airlift.airline.Command;
+import io.airlift.airline.Option;
+import io.swagger.codegen.BatchGenerator;
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.auth.AuthParser;
+import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates several targets from one spec, which is parsed and flattened only once.
+ */
+@Command(name = "batch", description = "Generate code for several targets from one spec. Each target is " +
+        "described by a config file as used with generate -c, which must also set lang and outputDir.")
+public class Batch implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Batch.class);
+
+    @Option(name = {"-i", "--input-spec"}, title = "spec file", required = true,
+            description = "location of the swagger spec, as URL or file (required)")
+    private String spec;
+
+    @Option(name = {"-a", "--auth"}, title = "authorization",
+            description = "adds authorization headers when fetching the swagger definitions remotely. " +
+                    "Pass in a URL-encoded string of name:header with a comma separating multiple values")
+    private String auth;
+
+    @Option(name = {"--threads"}, title = "threads",
+            description = "number of targets generated at the same time (number of processors by default)")
+    private Integer threads;
+
+    @Option(name = {"--incremental"}, title = "incremental", description = "only regenerate files whose inputs changed " +
+            "since the last run, as recorded in .swagger-codegen/manifest in each output folder")
+    private Boolean incremental;
+
+    @Arguments(title = "config files", required = true, description = "one JSON config file per target")
+    private List<String> configFiles;
+
+    @Override
+    public void run() {
+        Swagger swagger = new SwaggerParser().read(spec, AuthParser.parse(auth), true);
+
+        List<ClientOptInput> targets = new ArrayList<ClientOptInput>();
+        for (String configFile : configFiles) {
+            CodegenConfigurator configurator = CodegenConfigurator.fromFile(configFile);
+            if (configurator == null) {
+                throw new RuntimeException("Unable to read configuration file " + configFile);
+            }
+            targets.add(configurator.toClientOptInput(swagger));
+        }
+
+        BatchGenerator generator = new BatchGenerator();
+        if (threads != null) {
+            generator.threads(threads);
+        }
+        if (incremental != null) {
+            generator.incremental(incremental);
+        }
+        generator.generate(swagger, targets);
+        LOGGER.info("generated " + targets.size() + " targets");
+    }
+}
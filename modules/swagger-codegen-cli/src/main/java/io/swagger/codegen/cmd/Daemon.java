@@ -0,0 +1,185 @@
+package io.swagger.codegen.cmd;
+
+import io.airlift.airline.Command;
+import io.airlift.airline.Option;
+import io.swagger.codegen.DaemonClient;
+import io.swagger.codegen.SwaggerCodegen;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.security.SecureRandom;
+import java.util.Properties;
+
+/**
+ * Keeps a JVM running with loaded configs and compiled templates. Later <code>generate</code>
+ * invocations of the CLI are forwarded to it by {@link DaemonClient} and run in-process when no
+ * daemon is running.
+ *
+ * Requests are handled one at a time, because the output of a request is captured by replacing
+ * <code>System.out</code>, which is shared by the whole JVM. Settings such as the models to
+ * generate are options of the request's own run and don't leak into other requests.
+ */
+@Command(name = "daemon", description = "Starts a background generation server, to which later " +
+        "generate commands are forwarded to save JVM startup and warm-up time.")
+public class Daemon implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Daemon.class);
+
+    @Option(name = {"--port"}, title = "port", description = "loopback port to listen on (any free port by default)")
+    private int port = 0;
+
+    @Option(name = {"--idle-timeout"}, title = "idle timeout",
+            description = "minutes without requests after which the daemon exits (180 by default)")
+    private int idleTimeout = 180;
+
+    @Option(name = {"--stop"}, description = "stops the running daemon")
+    private boolean stop;
+
+    private volatile boolean running = true;
+
+    @Override
+    public void run() {
+        if (stop) {
+            if (!DaemonClient.stop()) {
+                System.out.println("No daemon running");
+            }
+            return;
+        }
+
+        final File infoFile = DaemonClient.getInfoFile();
+        ServerSocket server = null;
+        try {
+            server = new ServerSocket(port, 50, InetAddress.getByName(null));
+            server.setSoTimeout(idleTimeout * 60 * 1000);
+            String token = new BigInteger(130, new SecureRandom()).toString(32);
+            writeInfo(infoFile, server.getLocalPort(), token);
+            Runtime.getRuntime().addShutdownHook(new Thread() {
+                @Override
+                public void run() {
+                    infoFile.delete();
+                }
+            });
+            LOGGER.info("generation daemon listening on port " + server.getLocalPort());
+
+            while (running) {
+                Socket socket;
+                try {
+                    socket = server.accept();
+                } catch (SocketTimeoutException e) {
+                    LOGGER.info("no requests for " + idleTimeout + " minutes, exiting");
+                    break;
+                }
+                try {
+                    handle(socket, token);
+                } catch (Exception e) {
+                    LOGGER.warn("request failed: " + e.getMessage());
+                } finally {
+                    IOUtils.closeQuietly(socket);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not start generation daemon", e);
+        } finally {
+            IOUtils.closeQuietly(server);
+            infoFile.delete();
+        }
+    }
+
+    private void handle(Socket socket, String token) throws IOException {
+        // a client that connects but doesn't send its request must not block later clients
+        socket.setSoTimeout(DaemonClient.ACCEPT_TIMEOUT / 2);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        if (!token.equals(in.readUTF())) {
+            LOGGER.warn("rejected request with invalid token");
+            return;
+        }
+        long sentAt = in.readLong();
+        String command = in.readUTF();
+        File workingDir = new File(in.readUTF());
+        String[] args = new String[in.readInt()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = in.readUTF();
+        }
+
+        // the client stops waiting after ACCEPT_TIMEOUT and generates in-process, so a request
+        // that waited too long for the previous one is skipped rather than run twice
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        if (System.currentTimeMillis() - sentAt > DaemonClient.ACCEPT_TIMEOUT / 2) {
+            LOGGER.warn("skipped request that waited too long");
+            out.writeBoolean(false);
+            out.flush();
+            return;
+        }
+        out.writeBoolean(true);
+        out.flush();
+
+        int exitCode = 0;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        if (DaemonClient.STOP.equals(command)) {
+            running = false;
+        } else {
+            exitCode = generate(workingDir, args, output);
+        }
+
+        out.writeInt(exitCode);
+        out.writeInt(output.size());
+        output.writeTo(out);
+        out.flush();
+    }
+
+    private static int generate(File workingDir, String[] args, OutputStream output) {
+        String[] commandLine = new String[args.length + 1];
+        commandLine[0] = DaemonClient.GENERATE;
+        System.arraycopy(args, 0, commandLine, 1, args.length);
+
+        Properties systemProperties = (Properties) System.getProperties().clone();
+        PrintStream stdout = System.out;
+        PrintStream captured = new PrintStream(output, true);
+        System.setOut(captured);
+        try {
+            Generate generate = (Generate) SwaggerCodegen.cli().parse(commandLine);
+            generate.resolvePaths(workingDir);
+            generate.run();
+            return 0;
+        } catch (Exception e) {
+            LOGGER.error("generation failed", e);
+            captured.println("Generation failed: " + e.getMessage());
+            return 1;
+        } finally {
+            System.setOut(stdout);
+            System.setProperties(systemProperties);
+        }
+    }
+
+    private static void writeInfo(File file, int port, String token) throws IOException {
+        file.getParentFile().mkdirs();
+        Properties info = new Properties();
+        info.setProperty("port", String.valueOf(port));
+        info.setProperty("token", token);
+        OutputStream out = new FileOutputStream(file);
+        try {
+            // only the current user may connect
+            file.setReadable(false, false);
+            file.setReadable(true, true);
+            info.store(out, "swagger-codegen daemon");
+        } finally {
+            out.close();
+        }
+    }
+}
@@ -1,16 +1,21 @@
 package io.swagger.codegen.cmd;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.airlift.airline.Command;
 import io.airlift.airline.Option;
 import io.swagger.codegen.ClientOptInput;
 import io.swagger.codegen.CodegenConstants;
 import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.TemplateRegistry;
 import io.swagger.codegen.utils.OptionUtils;
 import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.util.Json;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -54,7 +59,7 @@ public class Generate implements Runnable {
                     "Pass in a URL-encoded string of name:header with a comma separating multiple values")
     private String auth;
 
-    @Option(name = {"-D"}, title = "system properties", description = "sets specified system properties in " +
+    @Option(name = {"-D"}, title = "system properties", description = "sets specified system properties of this generation in " +
             "the format of name=value,name=value")
     private String systemProperties;
 
@@ -113,6 +118,26 @@ public class Generate implements Runnable {
     @Option(name = {"--library"}, title = "library", description = CodegenConstants.LIBRARY_DESC)
     private String library;
 
+    @Option(name = {"--threads"}, title = "threads", description = "number of threads used to generate models and apis " +
+            "(1 by default). Only languages checked for parallel generation (currently the default java client) " +
+            "use more than one thread.")
+    private Integer threads;
+
+    @Option(name = {"--incremental"}, title = "incremental", description = "only regenerate files whose inputs changed " +
+            "since the last run, as recorded in .swagger-codegen/manifest in the output folder")
+    private Boolean incremental;
+
+    @Option(name = {"--name-cache-size"}, title = "name cache size", description = "cache up to this many model, " +
+            "property, parameter and api names per kind of conversion during the run (disabled by default)")
+    private Integer nameCacheSize;
+
+    @Option(name = {"--profile"}, title = "profile", description = "print the time and memory spent in each phase " +
+            "of the generation, and the slowest models, apis and templates")
+    private Boolean profile;
+
+    // working directory of the client the command runs for, see resolvePaths
+    private File baseDir;
+
     @Override
     public void run() {
 
@@ -123,6 +148,8 @@ public class Generate implements Runnable {
         if(configurator == null) {
             //createa a fresh configurator
             configurator = new CodegenConfigurator();
+        } else if (baseDir != null) {
+            resolveConfigFilePaths(configurator);
         }
 
         //now override with any specified parameters
@@ -197,9 +224,76 @@ public class Generate implements Runnable {
         setAdditionalProperties(configurator);
         setLanguageSpecificPrimitives(configurator);
 
+        if (baseDir != null && configurator.getTemplateDir() != null) {
+            // runs in a long-lived process, the templates may have been edited since the last run
+            TemplateRegistry.getShared().invalidate(configurator.getTemplateDir());
+        }
+
         final ClientOptInput clientOptInput = configurator.toClientOptInput();
 
-        new DefaultGenerator().opts(clientOptInput).generate();
+        DefaultGenerator generator = new DefaultGenerator();
+        if (threads != null) {
+            generator.threads(threads);
+        }
+        if (incremental != null) {
+            generator.incremental(incremental);
+        }
+        if (nameCacheSize != null) {
+            generator.nameCache(nameCacheSize);
+        }
+        generator.opts(clientOptInput).generate();
+        if (Boolean.TRUE.equals(profile)) {
+            System.out.print(generator.getMetrics().report(10));
+        }
+    }
+
+    /**
+     * Resolve relative file options against the given directory, for commands run on behalf of
+     * a client in another working directory.
+     *
+     * @param baseDir Working directory of the client
+     */
+    public void resolvePaths(File baseDir) {
+        this.baseDir = baseDir;
+        output = resolvePath(baseDir, output);
+        templateDir = resolvePath(baseDir, templateDir);
+        configFile = resolvePath(baseDir, configFile);
+        if (spec != null && !spec.contains("://")) {
+            spec = resolvePath(baseDir, spec);
+        }
+    }
+
+    /**
+     * The configurator makes the paths of the config file absolute against the working directory
+     * of this process; resolve the relative ones against the client's instead.
+     */
+    private void resolveConfigFilePaths(CodegenConfigurator configurator) {
+        JsonNode config;
+        try {
+            config = Json.mapper().readTree(new File(configFile));
+        } catch (IOException e) {
+            // the configurator was read from it, so this doesn't happen
+            throw new RuntimeException("Unable to read config file " + configFile, e);
+        }
+        String value = config.path("templateDir").textValue();
+        if (isNotEmpty(value)) {
+            configurator.setTemplateDir(resolvePath(baseDir, value));
+        }
+        value = config.path("outputDir").textValue();
+        if (isNotEmpty(value)) {
+            configurator.setOutputDir(resolvePath(baseDir, value));
+        }
+        value = config.path("inputSpec").textValue();
+        if (isNotEmpty(value) && !value.contains("://")) {
+            configurator.setInputSpec(resolvePath(baseDir, value));
+        }
+    }
+
+    private static String resolvePath(File baseDir, String path) {
+        if (path == null || new File(path).isAbsolute()) {
+            return path;
+        }
+        return new File(baseDir, path).getAbsolutePath();
     }
 
     private void setSystemProperties(CodegenConfigurator configurator) {
@@ -0,0 +1,82 @@
+package io.swagger.codegen.cmd;
+
+import io.airlift.airline.Command;
+import io.airlift.airline.Option;
+import io.swagger.codegen.utils.SpecSynthesizer;
+import io.swagger.models.Swagger;
+import io.swagger.util.Json;
+import io.swagger.util.Yaml;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+
+/**
+ * Writes a synthetic spec of the requested size, for benchmarks and scaling tests.
+ */
+@Command(name = "synthesize", description = "Generates a synthetic swagger spec of the given size. " +
+        "The same options and seed always produce the same spec.")
+public class Synthesize implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Synthesize.class);
+
+    @Option(name = {"-o", "--output"}, title = "output file",
+            description = "where to write the spec, as JSON or as YAML if the file name ends with .yaml (stdout by default)")
+    private String output;
+
+    @Option(name = {"--seed"}, title = "seed", description = "random seed (0 by default)")
+    private long seed = 0;
+
+    @Option(name = {"--definitions"}, title = "definitions", description = "number of definitions (100 by default)")
+    private int definitions = 100;
+
+    @Option(name = {"--paths"}, title = "paths", description = "number of paths (50 by default)")
+    private int paths = 50;
+
+    @Option(name = {"--tags"}, title = "tags", description = "number of tags (10 by default)")
+    private int tags = 10;
+
+    @Option(name = {"--inheritance-depth"}, title = "inheritance depth",
+            description = "length of the allOf chains definitions are arranged in, 0 for none (2 by default)")
+    private int inheritanceDepth = 2;
+
+    @Option(name = {"--inline-schemas"}, title = "inline schemas",
+            description = "number of operations with inline body and response schemas (10 by default)")
+    private int inlineSchemas = 10;
+
+    @Option(name = {"--enums"}, title = "enums", description = "number of definitions with an enum property (10 by default)")
+    private int enums = 10;
+
+    @Option(name = {"--shared-parameters"}, title = "shared parameters",
+            description = "number of parameters defined once and referenced by operations (5 by default)")
+    private int sharedParameters = 5;
+
+    @Override
+    public void run() {
+        Swagger swagger = new SpecSynthesizer()
+                .seed(seed)
+                .definitions(definitions)
+                .paths(paths)
+                .tags(tags)
+                .inheritanceDepth(inheritanceDepth)
+                .inlineSchemas(inlineSchemas)
+                .enums(enums)
+                .sharedParameters(sharedParameters)
+                .generate();
+        try {
+            if (output == null) {
+                System.out.println(Json.pretty().writeValueAsString(swagger));
+                return;
+            }
+            File file = new File(output);
+            String spec = output.endsWith(".yaml") || output.endsWith(".yml")
+                    ? Yaml.pretty().writeValueAsString(swagger)
+                    : Json.pretty().writeValueAsString(swagger);
+            FileUtils.writeStringToFile(file, spec, "UTF-8");
+            LOGGER.info("wrote spec with " + definitions + " definitions to " + file.getAbsolutePath());
+        } catch (Exception e) {
+            throw new RuntimeException("Could not write synthetic spec", e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.swagger.codegen;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.util.Properties;
+
+import static org.testng.Assert.*;
+
+public class DaemonClientTest {
+    private static final String SPEC = "{\"swagger\": \"2.0\", \"info\": {\"title\": \"test\", \"version\": \"1.0\"}, " +
+            "\"paths\": {}, \"definitions\": {\"Pet\": {\"type\": \"object\", " +
+            "\"properties\": {\"name\": {\"type\": \"string\"}}}}}";
+
+    private String userHome;
+    private File home;
+    private File workingDir;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        userHome = System.getProperty("user.home");
+        home = Files.createTempDirectory("daemon-home").toFile();
+        workingDir = Files.createTempDirectory("daemon-client").toFile();
+        System.setProperty("user.home", home.getAbsolutePath());
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        DaemonClient.stop();
+        System.setProperty("user.home", userHome);
+        FileUtils.deleteQuietly(home);
+        FileUtils.deleteQuietly(workingDir);
+    }
+
+    @Test
+    public void testConfigFilePathsAreResolvedForTheClient() throws Exception {
+        FileUtils.writeStringToFile(new File(workingDir, "spec.json"), SPEC);
+        FileUtils.writeStringToFile(new File(workingDir, "config.json"),
+                "{\"inputSpec\": \"spec.json\", \"outputDir\": \"out\", \"templateDir\": \"templates\"}");
+        File template = new File(workingDir, "templates/model.mustache");
+        FileUtils.writeStringToFile(template, "first");
+        startDaemon();
+
+        String[] args = {"-l", "java", "-c", "config.json"};
+        assertEquals(DaemonClient.send(DaemonClient.GENERATE, args, workingDir), Integer.valueOf(0));
+        File model = new File(workingDir, "out/src/main/java/io/swagger/client/model/Pet.java");
+        assertEquals(FileUtils.readFileToString(model), "first");
+
+        // the template dir of the config file is not cached across requests
+        FileUtils.writeStringToFile(template, "second");
+        assertEquals(DaemonClient.send(DaemonClient.GENERATE, args, workingDir), Integer.valueOf(0));
+        assertEquals(FileUtils.readFileToString(model), "second");
+    }
+
+    @Test
+    public void testSilentClientDoesntBlockTheDaemon() throws Exception {
+        FileUtils.writeStringToFile(new File(workingDir, "spec.json"), SPEC);
+        startDaemon();
+
+        Socket silent = new Socket(InetAddress.getByName(null), Integer.parseInt(readInfo().getProperty("port")));
+        try {
+            String[] args = {"-l", "java", "-i", "spec.json", "-o", "out"};
+            assertEquals(DaemonClient.send(DaemonClient.GENERATE, args, workingDir), Integer.valueOf(0));
+            assertTrue(new File(workingDir, "out/src/main/java/io/swagger/client/model/Pet.java").exists());
+        } finally {
+            silent.close();
+        }
+    }
+
+    private void startDaemon() throws Exception {
+        Thread daemon = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                SwaggerCodegen.cli().parse("daemon").run();
+            }
+        });
+        daemon.setDaemon(true);
+        daemon.start();
+        for (int i = 0; i < 100 && readInfo() == null; i++) {
+            Thread.sleep(100);
+        }
+        assertNotNull(readInfo(), "daemon did not start");
+    }
+
+    private static Properties readInfo() throws Exception {
+        File file = DaemonClient.getInfoFile();
+        if (!file.isFile()) {
+            return null;
+        }
+        Properties info = new Properties();
+        InputStream in = new FileInputStream(file);
+        try {
+            info.load(in);
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+        return info.getProperty("token") != null ? info : null;
+    }
+}
@@ -0,0 +1,141 @@
+package io.swagger.codegen.plugin;
+
+import io.swagger.codegen.BatchGenerator;
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.TemplateRegistry;
+import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.codegen.utils.OptionUtils;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Goal which generates several targets from one swagger json/yaml definition, parsing it only once.
+ */
+@Mojo(name = "batch", defaultPhase = LifecyclePhase.GENERATE_SOURCES)
+public class BatchMojo extends AbstractMojo {
+    /**
+     * Location of the swagger spec, as URL or file.
+     */
+    @Parameter(name = "inputSpec", required = true)
+    private String inputSpec;
+
+    /**
+     * Targets to generate, each with its own language, output directory and options.
+     */
+    @Parameter(name = "targets", required = true)
+    private List<Target> targets;
+
+    /**
+     * Add the output directories to the project as source roots, so that the
+     * generated java types are compiled and included in the project artifact.
+     */
+    @Parameter(defaultValue = "true")
+    private boolean addCompileSourceRoot = true;
+
+    /**
+     * Number of targets generated at the same time, the number of processors by default.
+     */
+    @Parameter(name = "threads", property = "swagger.codegen.maven.plugin.threads")
+    private Integer threads;
+
+    /**
+     * Only regenerate files whose inputs changed since the last run.
+     */
+    @Parameter(name = "incremental", property = "swagger.codegen.maven.plugin.incremental", defaultValue = "false")
+    private boolean incremental = false;
+
+    /**
+     * The project being built.
+     */
+    @Parameter(readonly = true, required = true, defaultValue = "${project}")
+    private MavenProject project;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        Swagger swagger = new SwaggerParser().read(inputSpec);
+
+        List<ClientOptInput> inputs = new ArrayList<ClientOptInput>();
+        for (Target target : targets) {
+            if (target.getLanguage() == null || target.getOutput() == null) {
+                throw new MojoExecutionException("Every target needs a language and an output directory.");
+            }
+            inputs.add(toConfigurator(target).toClientOptInput(swagger));
+        }
+
+        try {
+            BatchGenerator generator = new BatchGenerator().incremental(incremental);
+            if (threads != null) {
+                generator.threads(threads);
+            }
+            generator.generate(swagger, inputs);
+        } catch (Exception e) {
+            // see CodeGenMojo, log it in any case
+            getLog().error(e);
+            throw new MojoExecutionException("Code generation failed. See above for the full exception.");
+        }
+
+        if (addCompileSourceRoot) {
+            for (Target target : targets) {
+                project.addCompileSourceRoot(target.getOutput().toString());
+            }
+        }
+    }
+
+    private static CodegenConfigurator toConfigurator(Target target) {
+        CodegenConfigurator configurator = new CodegenConfigurator()
+                .setLang(target.getLanguage())
+                .setOutputDir(target.getOutput().getAbsolutePath());
+
+        if (null != target.getLibrary()) {
+            configurator.setLibrary(target.getLibrary());
+        }
+        if (null != target.getTemplateDirectory()) {
+            configurator.setTemplateDir(target.getTemplateDirectory().getAbsolutePath());
+            // templates in the project may have changed since an earlier build in this JVM
+            TemplateRegistry.getShared().invalidate(target.getTemplateDirectory().getAbsolutePath());
+        }
+        if (null != target.getModelPackage()) {
+            configurator.setModelPackage(target.getModelPackage());
+        }
+        if (null != target.getApiPackage()) {
+            configurator.setApiPackage(target.getApiPackage());
+        }
+        if (null != target.getInvokerPackage()) {
+            configurator.setInvokerPackage(target.getInvokerPackage());
+        }
+
+        if (target.getConfigOptions() != null) {
+            for (Map.Entry<?, ?> entry : target.getConfigOptions().entrySet()) {
+                String key = entry.getKey().toString();
+                String value = String.valueOf(entry.getValue());
+                if ("import-mappings".equals(key)) {
+                    for (Pair<String, String> pair : OptionUtils.parseCommaSeparatedTuples(value)) {
+                        configurator.addImportMapping(pair.getLeft(), pair.getRight());
+                    }
+                } else if ("type-mappings".equals(key)) {
+                    for (Pair<String, String> pair : OptionUtils.parseCommaSeparatedTuples(value)) {
+                        configurator.addTypeMapping(pair.getLeft(), pair.getRight());
+                    }
+                } else if ("instantiation-types".equals(key)) {
+                    for (Pair<String, String> pair : OptionUtils.parseCommaSeparatedTuples(value)) {
+                        configurator.addInstantiationType(pair.getLeft(), pair.getRight());
+                    }
+                } else {
+                    configurator.addAdditionalProperty(key, value);
+                }
+            }
+        }
+        return configurator;
+    }
+}
@@ -22,6 +22,7 @@ import io.swagger.codegen.*;
 import io.swagger.codegen.utils.OptionUtils;
 import io.swagger.models.Swagger;
 import io.swagger.parser.SwaggerParser;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -119,6 +120,30 @@ public class CodeGenMojo extends AbstractMojo {
     @Parameter
     private boolean configHelp = false;
 
+    /**
+     * Number of threads used to generate models and apis.
+     */
+    @Parameter(name = "threads", property = "swagger.codegen.maven.plugin.threads", defaultValue = "1")
+    private int threads = 1;
+
+    /**
+     * Only regenerate files whose inputs changed since the last run.
+     */
+    @Parameter(name = "incremental", property = "swagger.codegen.maven.plugin.incremental", defaultValue = "false")
+    private boolean incremental = false;
+
+    /**
+     * Maximum number of cached names per kind of name conversion, 0 to disable the cache.
+     */
+    @Parameter(name = "nameCacheSize", property = "swagger.codegen.maven.plugin.nameCacheSize", defaultValue = "0")
+    private int nameCacheSize = 0;
+
+    /**
+     * File to write the time and memory spent in each phase of the generation to.
+     */
+    @Parameter(name = "profileOutput", property = "swagger.codegen.maven.plugin.profileOutput")
+    private File profileOutput;
+
     /**
      * The project being built.
      */
@@ -132,6 +157,8 @@ public class CodeGenMojo extends AbstractMojo {
         CodegenConfig config = CodegenConfigLoader.forName(language);
         config.setOutputDir(output.getAbsolutePath());
 
+        // set per execution, so that they don't leak into later executions of the build
+        GenerationOptions generationOptions = GenerationOptions.fromSystemProperties();
         if (environmentVariables != null) {
             for(String key : environmentVariables.keySet()) {
                 String value = environmentVariables.get(key);
@@ -139,7 +166,7 @@ public class CodeGenMojo extends AbstractMojo {
                     // don't put null values
                     value = "";
                 }
-                System.setProperty(key, value);
+                generationOptions.set(key, value);
             }
         }
         if (null != library) {
@@ -147,6 +174,8 @@ public class CodeGenMojo extends AbstractMojo {
         }
         if (null != templateDirectory) {
             config.additionalProperties().put(TEMPLATE_DIR_PARAM, templateDirectory.getAbsolutePath());
+            // templates in the project may have changed since an earlier build in this JVM
+            TemplateRegistry.getShared().invalidate(templateDirectory.getAbsolutePath());
         }
         if (null != modelPackage) {
             config.additionalProperties().put(MODEL_PACKAGE_PARAM, modelPackage);
@@ -192,6 +221,7 @@ public class CodeGenMojo extends AbstractMojo {
         
         ClientOptInput input = new ClientOptInput().opts(new ClientOpts()).swagger(swagger);
         input.setConfig(config);
+        input.setGenerationOptions(generationOptions);
 
         if(configHelp) {
             for (CliOption langCliOption : config.cliOptions()) {
@@ -202,7 +232,12 @@ public class CodeGenMojo extends AbstractMojo {
             return;
         }
         try {
-            new DefaultGenerator().opts(input).generate();
+            DefaultGenerator generator = new DefaultGenerator().threads(threads).incremental(incremental)
+                    .nameCache(nameCacheSize);
+            generator.opts(input).generate();
+            if (null != profileOutput) {
+                FileUtils.writeStringToFile(profileOutput, generator.getMetrics().report(10), "UTF-8");
+            }
         } catch (Exception e) {
             // Maven logs exceptions thrown by plugins only if invoked with -e
             // I find it annoying to jump through hoops to get basic diagnostic information,
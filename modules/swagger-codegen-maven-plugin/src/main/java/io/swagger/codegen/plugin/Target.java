@@ -0,0 +1,81 @@
+package io.swagger.codegen.plugin;
+
+import java.io.File;
+import java.util.Map;
+
+/**
+ * One target of the <code>batch</code> goal, configured as a <code>&lt;target&gt;</code> element.
+ */
+public class Target {
+    /**
+     * Client language to generate.
+     */
+    private String language;
+
+    /**
+     * Location of the output directory.
+     */
+    private File output;
+
+    /**
+     * Sets the library
+     */
+    private String library;
+
+    /**
+     * Folder containing the template files.
+     */
+    private File templateDirectory;
+
+    /**
+     * The package to use for generated model objects/classes
+     */
+    private String modelPackage;
+
+    /**
+     * The package to use for generated api objects/classes
+     */
+    private String apiPackage;
+
+    /**
+     * The package to use for the generated invoker objects
+     */
+    private String invokerPackage;
+
+    /**
+     * A map of language-specific parameters as passed with the -c option to the command line
+     */
+    private Map<?, ?> configOptions;
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public File getOutput() {
+        return output;
+    }
+
+    public String getLibrary() {
+        return library;
+    }
+
+    public File getTemplateDirectory() {
+        return templateDirectory;
+    }
+
+    public String getModelPackage() {
+        return modelPackage;
+    }
+
+    public String getApiPackage() {
+        return apiPackage;
+    }
+
+    public String getInvokerPackage() {
+        return invokerPackage;
+    }
+
+    public Map<?, ?> getConfigOptions() {
+        return configOptions;
+    }
+}
@@ -1,9 +1,10 @@
 package io.swagger.codegen;
 
+import com.samskivert.mustache.Template;
+
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -19,26 +20,64 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractGenerator {
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractGenerator.class);
 
-    @SuppressWarnings("static-method")
+    // large enough that most generated files are passed down in a few chunks
+    private static final int OUTPUT_BUFFER_SIZE = 32 * 1024;
+
+    protected OutputSink outputSink = new DefaultOutputSink();
+
     public File writeToFile(String filename, String contents) throws IOException {
-        LOGGER.info("writing file " + filename);
-        File output = new File(filename);
+        return outputSink.write(filename, contents.getBytes("UTF-8"));
+    }
 
-        if (output.getParent() != null && !new File(output.getParent()).exists()) {
-            File parent = new File(output.getParent());
-            parent.mkdirs();
+    /**
+     * Render a template straight into a file, without building the output in memory first. If
+     * rendering fails, the file is left as it was.
+     *
+     * @param filename Output file
+     * @param template Compiled template
+     * @param context Template context
+     * @return the output file
+     * @throws IOException if the file can't be written
+     */
+    public File writeToFile(String filename, Template template, Object context) throws IOException {
+        SinkOutputStream stream = outputSink.open(filename);
+        boolean rendered = false;
+        try {
+            Writer out = new BufferedWriter(new OutputStreamWriter(stream, "UTF-8"), OUTPUT_BUFFER_SIZE);
+            template.execute(context, out);
+            out.close();
+            rendered = true;
+        } finally {
+            if (!rendered) {
+                // keep the previous content of the file instead of a partial rendering
+                stream.discard();
+            }
         }
-        Writer out = new BufferedWriter(new OutputStreamWriter(
-                new FileOutputStream(output), "UTF-8"));
+        return new File(filename);
+    }
 
-        out.write(contents);
-        out.close();
-        return output;
+    public OutputSink getOutputSink() {
+        return outputSink;
+    }
+
+    public void setOutputSink(OutputSink outputSink) {
+        this.outputSink = outputSink;
     }
 
     public String readTemplate(String name) {
+        return readTemplate(getClass().getClassLoader(), name);
+    }
+
+    /**
+     * Read a template from the class path of the given class loader, or from the file system.
+     *
+     * @param classLoader Class loader of embedded templates
+     * @param name Template file path
+     * @return template source
+     */
+    private static String readTemplate(ClassLoader classLoader, String name) {
         try {
-            Reader reader = getTemplateReader(name);
+            Reader reader = getTemplateReader(classLoader, name);
             if (reader == null) {
                 throw new RuntimeException("no file found");
             }
@@ -51,8 +90,12 @@ public abstract class AbstractGenerator {
     }
 
     public Reader getTemplateReader(String name) {
+        return getTemplateReader(getClass().getClassLoader(), name);
+    }
+
+    private static Reader getTemplateReader(ClassLoader classLoader, String name) {
         try {
-            InputStream is = this.getClass().getClassLoader().getResourceAsStream(getCPResourcePath(name));
+            InputStream is = classLoader.getResourceAsStream(cpResourcePath(name));
             if (is == null) {
                 is = new FileInputStream(new File(name)); // May throw but never return a null value
             }
@@ -71,9 +114,25 @@ public abstract class AbstractGenerator {
      * @param templateFile Template file
      */
     public String getFullTemplateFile(CodegenConfig config, String templateFile) {
-        String library = config.getLibrary();
+        return getFullTemplateFile(getClass().getClassLoader(), config.templateDir(), config.embeddedTemplateDir(),
+                config.getLibrary(), templateFile);
+    }
+
+    /**
+     * Resolve a template file like {@link #getFullTemplateFile(CodegenConfig, String)}, from the
+     * settings of a config rather than the config itself.
+     *
+     * @param classLoader Class loader of embedded templates
+     * @param templateDir Template dir of the config
+     * @param embeddedTemplateDir Embedded template dir of the config
+     * @param library Library of the config, may be null
+     * @param templateFile Template file
+     * @return full template file path
+     */
+    private static String getFullTemplateFile(ClassLoader classLoader, String templateDir, String embeddedTemplateDir,
+                                              String library, String templateFile) {
         if (library != null && !"".equals(library)) {
-            String libTemplateFile = config.templateDir() + File.separator +
+            String libTemplateFile = templateDir + File.separator +
                 "libraries" + File.separator + library + File.separator +
                 templateFile;
 
@@ -81,29 +140,37 @@ public abstract class AbstractGenerator {
                 return libTemplateFile;
             }
 
-            libTemplateFile = config.embeddedTemplateDir() + File.separator +
+            libTemplateFile = embeddedTemplateDir + File.separator +
                 "libraries" + File.separator + library + File.separator +
                 templateFile;
-            if (embeddedTemplateExists(libTemplateFile)) {
+            if (embeddedTemplateExists(classLoader, libTemplateFile)) {
                 // Fall back to the template file embedded/packaged in the JAR file...
                 return libTemplateFile;
             }
         }
-        String template = config.templateDir() + File.separator + templateFile;
+        String template = templateDir + File.separator + templateFile;
         if (new File(template).exists()) {
             return template;
         } else {
             // Fall back to the template file embedded/packaged in the JAR file...
-            return config.embeddedTemplateDir() + File.separator + templateFile;
+            return embeddedTemplateDir + File.separator + templateFile;
         }
     }
 
     public boolean embeddedTemplateExists(String name) {
-        return this.getClass().getClassLoader().getResource(getCPResourcePath(name)) != null;
+        return embeddedTemplateExists(getClass().getClassLoader(), name);
+    }
+
+    private static boolean embeddedTemplateExists(ClassLoader classLoader, String name) {
+        return classLoader.getResource(cpResourcePath(name)) != null;
     }
 
     @SuppressWarnings("static-method")
     public String getCPResourcePath(String name) {
+        return cpResourcePath(name);
+    }
+
+    private static String cpResourcePath(String name) {
         if (!"/".equals(File.separator)) {
             return name.replaceAll(Pattern.quote(File.separator), "/");
         }
@@ -0,0 +1,87 @@
+package io.swagger.codegen;
+
+import io.swagger.models.Swagger;
+import io.swagger.util.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Generates several targets (language, output dir and options) from one spec. The spec is
+ * flattened once; every target then runs its own {@link DefaultGenerator} on a private copy of
+ * that snapshot, since generators and configs modify the spec they are given.
+ *
+ * Every target runs with the {@link GenerationOptions} of its input, so targets can e.g. generate
+ * different models; a target without options falls back to system properties such as
+ * <code>models</code> or <code>apis</code>.
+ */
+public class BatchGenerator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchGenerator.class);
+
+    protected int threads = Runtime.getRuntime().availableProcessors();
+    protected boolean incremental;
+    protected TemplateRegistry templateRegistry = TemplateRegistry.getShared();
+
+    /**
+     * @param threads Number of targets generated at the same time, defaults to the number of
+     *                processors
+     * @return this generator
+     */
+    public BatchGenerator threads(int threads) {
+        this.threads = threads;
+        return this;
+    }
+
+    public BatchGenerator incremental(boolean incremental) {
+        this.incremental = incremental;
+        return this;
+    }
+
+    public BatchGenerator templateRegistry(TemplateRegistry templateRegistry) {
+        this.templateRegistry = templateRegistry;
+        return this;
+    }
+
+    /**
+     * Generate all targets. The spec of each input is ignored and replaced by a copy of the
+     * flattened <code>swagger</code>.
+     *
+     * @param swagger Parsed spec, flattened in place
+     * @param targets One input (config and options) per target
+     * @return the generated files of each target, in target order
+     */
+    public List<List<File>> generate(Swagger swagger, List<ClientOptInput> targets) {
+        new InlineModelResolver().flatten(swagger);
+
+        final byte[] snapshot;
+        try {
+            snapshot = Json.mapper().writeValueAsBytes(swagger);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not snapshot the spec", e);
+        }
+
+        List<Callable<List<File>>> tasks = new ArrayList<Callable<List<File>>>(targets.size());
+        for (final ClientOptInput target : targets) {
+            tasks.add(new Callable<List<File>>() {
+                @Override
+                public List<File> call() throws Exception {
+                    target.setSwagger(Json.mapper().readValue(snapshot, Swagger.class));
+                    LOGGER.info("generating " + target.getConfig().getName() + " into "
+                            + target.getConfig().getOutputDir());
+                    return new DefaultGenerator()
+                            .resolveInlineModels(false)
+                            .incremental(incremental)
+                            .templateRegistry(templateRegistry)
+                            .opts(target)
+                            .generate();
+                }
+            });
+        }
+        return TaskRunner.run(tasks, threads);
+    }
+}
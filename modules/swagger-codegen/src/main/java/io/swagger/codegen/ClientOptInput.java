@@ -12,6 +12,7 @@ public class ClientOptInput {
     private ClientOpts opts;
     private Swagger swagger;
     private List<AuthorizationValue> auths;
+    private GenerationOptions generationOptions;
 
     public ClientOptInput swagger(Swagger swagger) {
         this.setSwagger(swagger);
@@ -28,6 +29,11 @@ public class ClientOptInput {
         return this;
     }
 
+    public ClientOptInput generationOptions(GenerationOptions generationOptions) {
+        this.setGenerationOptions(generationOptions);
+        return this;
+    }
+
     @Deprecated
     public ClientOptInput auth(String urlEncodedAuthString) {
         this.setAuth(urlEncodedAuthString);
@@ -73,4 +79,15 @@ public class ClientOptInput {
     public void setSwagger(Swagger swagger) {
         this.swagger = swagger;
     }
+
+    /**
+     * @return switches of this run, or null to read them from system properties
+     */
+    public GenerationOptions getGenerationOptions() {
+        return generationOptions;
+    }
+
+    public void setGenerationOptions(GenerationOptions generationOptions) {
+        this.generationOptions = generationOptions;
+    }
 }
\ No newline at end of file
@@ -137,6 +137,16 @@ public interface CodegenConfig {
 
     boolean shouldOverwrite(String filename);
 
+    /**
+     * Whether models and operations can be processed on several threads at once, i.e. whether
+     * fromModel, fromOperation and the postProcess* methods (except postProcessAllModels and
+     * postProcessSupportingFileData) leave the config's own state untouched. Configs must opt in
+     * after checking their overrides; {@link DefaultCodegen} returns false.
+     *
+     * @return true if the config supports parallel generation
+     */
+    boolean isThreadSafe();
+
     boolean isSkipOverwrite();
 
     void setSkipOverwrite(boolean skipOverwrite);
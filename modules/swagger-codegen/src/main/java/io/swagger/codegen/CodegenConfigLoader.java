@@ -1,10 +1,16 @@
 package io.swagger.codegen;
 
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.ServiceLoader.load;
 
 public class CodegenConfigLoader {
+    // config classes by name, so that the service loader only has to instantiate all configs once
+    private static final Map<String, Class<? extends CodegenConfig>> CONFIG_CLASSES =
+            new ConcurrentHashMap<String, Class<? extends CodegenConfig>>();
+
     /**
      * Tries to load config class with SPI first, then with class name directly from classpath
      *
@@ -12,11 +18,21 @@ public class CodegenConfigLoader {
      * @return config class
      */
     public static CodegenConfig forName(String name) {
+        Class<? extends CodegenConfig> configClass = CONFIG_CLASSES.get(name);
+        if (configClass != null) {
+            try {
+                return configClass.newInstance();
+            } catch (Exception e) {
+                throw new RuntimeException("Can't instantiate config class " + configClass.getName(), e);
+            }
+        }
+
         ServiceLoader<CodegenConfig> loader = load(CodegenConfig.class);
 
         StringBuilder availableConfigs = new StringBuilder();
 
         for (CodegenConfig config : loader) {
+            CONFIG_CLASSES.put(config.getName(), config.getClass());
             if (config.getName().equals(name)) {
                 return config;
             }
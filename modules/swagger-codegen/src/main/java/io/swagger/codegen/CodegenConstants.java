@@ -87,4 +87,7 @@ public class CodegenConstants {
 
     public static final String MODEL_NAME_SUFFIX = "modelNameSuffix";
     public static final String MODEL_NAME_SUFFIX_DESC = "Suffix that will be appended to all model names. Default is the empty string.";
+
+    public static final String SKIP_EXAMPLES = "skipExamples";
+    public static final String SKIP_EXAMPLES_DESC = "Do not generate response examples ({{examples}} is empty).";
 }
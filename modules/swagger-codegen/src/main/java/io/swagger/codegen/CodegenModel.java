@@ -7,6 +7,7 @@ import java.util.*;
 public class CodegenModel {
     public String parent, parentSchema;
     public String name, classname, description, classVarName, modelJson, dataType;
+    private LazyValue<String> lazyModelJson;
     public String unescapedDescription;
     public String defaultValue;
     public List<CodegenProperty> vars = new ArrayList<CodegenProperty>();
@@ -20,4 +21,18 @@ public class CodegenModel {
     public ExternalDocs externalDocs;
 
     public Map<String, Object> vendorExtensions;
+
+    /**
+     * @return the JSON of the model, computed when first requested unless modelJson was set directly
+     */
+    public String getModelJson() {
+        if (modelJson == null && lazyModelJson != null) {
+            return lazyModelJson.get();
+        }
+        return modelJson;
+    }
+
+    public void setLazyModelJson(LazyValue<String> lazyModelJson) {
+        this.lazyModelJson = lazyModelJson;
+    }
 }
@@ -29,6 +29,7 @@ public class CodegenOperation {
     public List<CodegenResponse> responses = new ArrayList<CodegenResponse>();
     public Set<String> imports = new HashSet<String>();
     public List<Map<String, String>> examples;
+    private LazyValue<List<Map<String, String>>> lazyExamples;
     public ExternalDocs externalDocs;
     public Map<String, Object> vendorExtensions;
     public String nickname; // legacy support
@@ -87,4 +88,17 @@ public class CodegenOperation {
         return nonempty(formParams);
     }
 
+    /**
+     * @return the response examples, computed when first requested unless examples was set directly
+     */
+    public List<Map<String, String>> getExamples() {
+        if (examples == null && lazyExamples != null) {
+            return lazyExamples.get();
+        }
+        return examples;
+    }
+
+    public void setLazyExamples(LazyValue<List<Map<String, String>>> lazyExamples) {
+        this.lazyExamples = lazyExamples;
+    }
 }
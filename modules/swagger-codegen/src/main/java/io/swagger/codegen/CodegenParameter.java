@@ -11,6 +11,7 @@ public class CodegenParameter {
             secondaryParam, isCollectionFormatMulti;
     public String baseName, paramName, dataType, collectionFormat, description, baseType, defaultValue;
     public String jsonSchema;
+    private LazyValue<String> lazyJsonSchema;
     public Boolean isString, isInteger, isLong, isFloat, isDouble, isByteArray, isBinary, isBoolean, isDate, isDateTime;
     public Boolean isListContainer, isMapContainer;
     public Boolean isFile, notFile;
@@ -104,6 +105,7 @@ public class CodegenParameter {
         output.uniqueItems = this.uniqueItems;
         output.multipleOf = this.multipleOf;
         output.jsonSchema = this.jsonSchema;
+        output.lazyJsonSchema = this.lazyJsonSchema;
         output.defaultValue = this.defaultValue;
         output.isEnum = this.isEnum;
         if (this._enum != null) {
@@ -128,5 +130,18 @@ public class CodegenParameter {
 
         return output;
     }
-}
 
+    /**
+     * @return the JSON of the parameter, computed when first requested unless jsonSchema was set directly
+     */
+    public String getJsonSchema() {
+        if (jsonSchema == null && lazyJsonSchema != null) {
+            return lazyJsonSchema.get();
+        }
+        return jsonSchema;
+    }
+
+    public void setLazyJsonSchema(LazyValue<String> lazyJsonSchema) {
+        this.lazyJsonSchema = lazyJsonSchema;
+    }
+}
@@ -27,6 +27,7 @@ public class CodegenProperty {
     public String example;
 
     public String jsonSchema;
+    private LazyValue<String> lazyJsonSchema;
     public Double minimum;
     public Double maximum;
     public Boolean exclusiveMinimum;
@@ -42,6 +43,31 @@ public class CodegenProperty {
     public CodegenProperty items;
     public Map<String, Object> vendorExtensions;
 
+    /**
+     * @return the JSON schema of the property, computed when first requested unless jsonSchema was set directly
+     */
+    public String getJsonSchema() {
+        if (jsonSchema == null && lazyJsonSchema != null) {
+            return lazyJsonSchema.get();
+        }
+        return jsonSchema;
+    }
+
+    public void setLazyJsonSchema(LazyValue<String> lazyJsonSchema) {
+        this.lazyJsonSchema = lazyJsonSchema;
+    }
+
+    /**
+     * @return what the JSON schema is derived from, so that comparing properties doesn't compute it
+     */
+    private Object jsonSchemaSource() {
+        if (jsonSchema == null && lazyJsonSchema != null) {
+            Object source = lazyJsonSchema.getSource();
+            return source != null ? source : lazyJsonSchema.get();
+        }
+        return jsonSchema;
+    }
+
     @Override
     public int hashCode()
     {
@@ -69,7 +95,7 @@ public class CodegenProperty {
         result = prime * result + ((isPrimitiveType == null) ? 0 : isPrimitiveType.hashCode());
         result = prime * result + ((isReadOnly == null) ? 0 : isReadOnly.hashCode());
         result = prime * result + ((items == null) ? 0 : items.hashCode());
-        result = prime * result + ((jsonSchema == null) ? 0 : jsonSchema.hashCode());
+        result = prime * result + ((jsonSchemaSource() == null) ? 0 : jsonSchemaSource().hashCode());
         result = prime * result + ((max == null) ? 0 : max.hashCode());
         result = prime * result + ((maxLength == null) ? 0 : maxLength.hashCode());
         result = prime * result + ((maximum == null) ? 0 : maximum.hashCode());
@@ -158,7 +184,7 @@ public class CodegenProperty {
         if ((this.example == null) ? (other.example != null) : !this.example.equals(other.example)) {
             return false;
         }
-        if ((this.jsonSchema == null) ? (other.jsonSchema != null) : !this.jsonSchema.equals(other.jsonSchema)) {
+        if ((this.jsonSchemaSource() == null) ? (other.jsonSchemaSource() != null) : !this.jsonSchemaSource().equals(other.jsonSchemaSource())) {
             return false;
         }
         if (this.minimum != other.minimum && (this.minimum == null || !this.minimum.equals(other.minimum))) {
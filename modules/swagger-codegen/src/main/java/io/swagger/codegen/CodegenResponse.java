@@ -18,8 +18,23 @@ public class CodegenResponse {
     public Boolean isBinary = Boolean.FALSE;
     public Object schema;
     public String jsonSchema;
+    private LazyValue<String> lazyJsonSchema;
 
     public boolean isWildcard() {
         return "0".equals(code) || "default".equals(code);
     }
+
+    /**
+     * @return the JSON of the response, computed when first requested unless jsonSchema was set directly
+     */
+    public String getJsonSchema() {
+        if (jsonSchema == null && lazyJsonSchema != null) {
+            return lazyJsonSchema.get();
+        }
+        return jsonSchema;
+    }
+
+    public void setLazyJsonSchema(LazyValue<String> lazyJsonSchema) {
+        this.lazyJsonSchema = lazyJsonSchema;
+    }
 }
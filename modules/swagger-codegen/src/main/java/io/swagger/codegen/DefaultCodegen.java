@@ -1,9 +1,10 @@
 package io.swagger.codegen;
 
-import com.google.common.base.Function;
-import com.google.common.collect.Lists;
-
+import io.swagger.codegen.examples.ExampleCache;
 import io.swagger.codegen.examples.ExampleGenerator;
+import io.swagger.codegen.metrics.GenerationMetrics;
+import io.swagger.codegen.utils.ListDecorator;
+import io.swagger.codegen.utils.NamingUtils;
 import io.swagger.models.ArrayModel;
 import io.swagger.models.ComposedModel;
 import io.swagger.models.Model;
@@ -29,13 +30,13 @@ import io.swagger.models.properties.*;
 import io.swagger.models.properties.PropertyBuilder.PropertyId;
 import io.swagger.util.Json;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.annotation.Nullable;
-
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -48,13 +49,17 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 
 public class DefaultCodegen {
     protected static final Logger LOGGER = LoggerFactory.getLogger(DefaultCodegen.class);
 
+    /**
+     * Results of camelize and underscore. These only depend on their input, so the results are
+     * shared by all configs and runs, including the calls language configs make directly.
+     */
+    private static final NameCache SHARED_NAMES = new NameCache();
+
     protected String outputFolder = "";
     protected Set<String> defaultIncludes = new HashSet<String>();
     protected Map<String, String> typeMapping = new HashMap<String, String>();
@@ -81,6 +86,13 @@ public class DefaultCodegen {
     protected String library;
     protected Boolean sortParamsByRequiredFlag = true;
     protected Boolean ensureUniqueParams = true;
+    protected boolean skipExamples;
+    protected ExampleCache exampleCache;
+    protected InheritanceIndex inheritanceIndex;
+    protected GenerationMetrics metrics;
+    protected NameCache nameCache;
+    protected OutputSink outputSink;
+    protected GenerationOptions generationOptions = GenerationOptions.fromSystemProperties();
 
     public List<CliOption> cliOptions() {
         return cliOptions;
@@ -109,6 +121,11 @@ public class DefaultCodegen {
                     .get(CodegenConstants.ENSURE_UNIQUE_PARAMS).toString()));
         }
 
+        if (additionalProperties.containsKey(CodegenConstants.SKIP_EXAMPLES)) {
+            this.setSkipExamples(Boolean.valueOf(additionalProperties
+                    .get(CodegenConstants.SKIP_EXAMPLES).toString()));
+        }
+
         if(additionalProperties.containsKey(CodegenConstants.MODEL_NAME_PREFIX)){
             this.setModelNamePrefix((String) additionalProperties.get(CodegenConstants.MODEL_NAME_PREFIX));
         }
@@ -312,6 +329,159 @@ public class DefaultCodegen {
         this.ensureUniqueParams = ensureUniqueParams;
     }
 
+    /**
+     * Skip the response examples of operations, for templates that do not use them.
+     *
+     * @param skipExamples true to skip examples
+     */
+    public void setSkipExamples(boolean skipExamples) {
+        this.skipExamples = skipExamples;
+    }
+
+    public boolean isSkipExamples() {
+        return skipExamples;
+    }
+
+    public ExampleCache getExampleCache() {
+        return exampleCache;
+    }
+
+    /**
+     * Share the response examples of operations returning the same model. The cache must only
+     * be used while the model definitions do not change, i.e. for one run.
+     *
+     * @param exampleCache Example cache, or null to generate every example
+     */
+    public void setExampleCache(ExampleCache exampleCache) {
+        this.exampleCache = exampleCache;
+    }
+
+    /**
+     * @return parents and children of the model definitions of the current run, or null if the
+     * generator did not set them
+     */
+    public InheritanceIndex getInheritanceIndex() {
+        return inheritanceIndex;
+    }
+
+    public void setInheritanceIndex(InheritanceIndex inheritanceIndex) {
+        this.inheritanceIndex = inheritanceIndex;
+    }
+
+    public NameCache getNameCache() {
+        return nameCache;
+    }
+
+    /**
+     * Cache the results of toModelName, toVarName, toParamName, toApiName, toModelFilename and
+     * toModelImport for the calls made by the generator. Only set it once the options have been
+     * processed, as the conversions depend on them.
+     *
+     * @param nameCache Name cache, or null to disable caching
+     */
+    public void setNameCache(NameCache nameCache) {
+        this.nameCache = nameCache;
+    }
+
+    /**
+     * Apply a name conversion, looking it up in the name cache first if there is one. Overridden
+     * conversions of language configs are cached as well.
+     *
+     * @param conversion Conversion
+     * @param name Input of the conversion
+     * @return the converted name
+     */
+    public String convertName(NameCache.Conversion conversion, String name) {
+        if (nameCache == null || name == null) {
+            return applyConversion(conversion, name);
+        }
+        String converted = nameCache.get(conversion, name);
+        if (converted == null) {
+            converted = applyConversion(conversion, name);
+            if (converted != null) {
+                nameCache.put(conversion, name, converted);
+            }
+        }
+        return converted;
+    }
+
+    private String applyConversion(NameCache.Conversion conversion, String name) {
+        switch (conversion) {
+            case MODEL_NAME:
+                return toModelName(name);
+            case VAR_NAME:
+                return toVarName(name);
+            case PARAM_NAME:
+                return toParamName(name);
+            case API_NAME:
+                return toApiName(name);
+            case MODEL_FILENAME:
+                return toModelFilename(name);
+            case MODEL_IMPORT:
+                return toModelImport(name);
+            case CAMELIZE:
+                return camelize(name);
+            case CAMELIZE_LOWERCASE_FIRST:
+                return camelize(name, true);
+            case UNDERSCORE:
+                return underscore(name);
+            default:
+                throw new IllegalArgumentException("unknown name conversion " + conversion);
+        }
+    }
+
+    /**
+     * Set the metrics of the current run, which record the lazy values (model JSON, examples, etc.)
+     * that templates actually used.
+     *
+     * @param metrics Metrics of the run, or null
+     */
+    public void setMetrics(GenerationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Set the output sink of the current run, for configs that write files of their own.
+     *
+     * @param outputSink Output sink of the run, or null to write to the file system
+     */
+    public void setOutputSink(OutputSink outputSink) {
+        this.outputSink = outputSink;
+    }
+
+    public OutputSink getOutputSink() {
+        return outputSink;
+    }
+
+    /**
+     * Set the switches of the current run, which configs should read instead of system properties.
+     *
+     * @param generationOptions Options of the run
+     */
+    public void setGenerationOptions(GenerationOptions generationOptions) {
+        this.generationOptions = generationOptions;
+    }
+
+    public GenerationOptions getGenerationOptions() {
+        return generationOptions;
+    }
+
+    /**
+     * Write a file through the output sink of the current run, or to the file system if there
+     * is none.
+     *
+     * @param filename Output file
+     * @param contents File content
+     * @throws IOException if the file can't be written
+     */
+    protected void writeFile(String filename, String contents) throws IOException {
+        if (outputSink != null) {
+            outputSink.write(filename, contents.getBytes("UTF-8"));
+        } else {
+            FileUtils.writeStringToFile(new File(filename), contents);
+        }
+    }
+
     /**
      * Return the file name of the Api Test
      *
@@ -528,6 +698,7 @@ public class DefaultCodegen {
                 CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG_DESC).defaultValue(Boolean.TRUE.toString()));
         cliOptions.add(CliOption.newBoolean(CodegenConstants.ENSURE_UNIQUE_PARAMS, CodegenConstants
                 .ENSURE_UNIQUE_PARAMS_DESC).defaultValue(Boolean.TRUE.toString()));
+        cliOptions.add(CliOption.newBoolean(CodegenConstants.SKIP_EXAMPLES, CodegenConstants.SKIP_EXAMPLES_DESC));
     }
 
     /**
@@ -875,9 +1046,9 @@ public class DefaultCodegen {
         }
         m.description = escapeText(model.getDescription());
         m.unescapedDescription = model.getDescription();
-        m.classname = toModelName(name);
-        m.classVarName = toVarName(name);
-        m.modelJson = Json.pretty(model);
+        m.classname = convertName(NameCache.Conversion.MODEL_NAME, name);
+        m.classVarName = convertName(NameCache.Conversion.VAR_NAME, name);
+        m.setLazyModelJson(LazyValue.json("modelJson", model, metrics));
         m.externalDocs = model.getExternalDocs();
         m.vendorExtensions = model.getVendorExtensions();
 
@@ -898,7 +1069,7 @@ public class DefaultCodegen {
             if (parent != null) {
                 final String parentRef = parent.getSimpleRef();
                 m.parentSchema = parentRef;
-                m.parent = toModelName(parent.getSimpleRef());
+                m.parent = convertName(NameCache.Conversion.MODEL_NAME, parent.getSimpleRef());
                 addImport(m, m.parent);
                 if (!supportsInheritance && allDefinitions != null) {
                     final Model parentModel = allDefinitions.get(m.parentSchema);
@@ -916,7 +1087,7 @@ public class DefaultCodegen {
             // interfaces (intermediate models)
             if (allDefinitions != null && composed.getInterfaces() != null) {
                 for (RefModel _interface : composed.getInterfaces()) {
-                    final String interfaceRef = toModelName(_interface.getSimpleRef());
+                    final String interfaceRef = convertName(NameCache.Conversion.MODEL_NAME, _interface.getSimpleRef());
                     final Model interfaceModel = allDefinitions.get(interfaceRef);
                     if (interfaceModel instanceof ModelImpl) {
                         final ModelImpl _interfaceModel = (ModelImpl) interfaceModel;
@@ -979,7 +1150,7 @@ public class DefaultCodegen {
             return name;
         }
 
-        return camelize(toVarName(name));
+        return camelize(convertName(NameCache.Conversion.VAR_NAME, name));
 
     }
 
@@ -998,7 +1169,7 @@ public class DefaultCodegen {
 
         CodegenProperty property = CodegenModelFactory.newInstance(CodegenModelType.PROPERTY);
 
-        property.name = toVarName(name);
+        property.name = convertName(NameCache.Conversion.VAR_NAME, name);
         property.baseName = name;
         property.description = escapeText(p.getDescription());
         property.unescapedDescription = p.getDescription();
@@ -1007,7 +1178,7 @@ public class DefaultCodegen {
         property.example = toExampleValue(p);
         property.defaultValue = toDefaultValue(p);
         property.defaultValueWithParam = toDefaultValueWithParam(name, p);
-        property.jsonSchema = Json.pretty(p);
+        property.setLazyJsonSchema(LazyValue.json("propertyJsonSchema", p, metrics));
         property.isReadOnly = p.getReadOnly();
         property.vendorExtensions = p.getVendorExtensions();
 
@@ -1301,20 +1472,7 @@ public class DefaultCodegen {
 
         // if "consumes" is defined (per operation or using global definition)
         if (consumes != null && consumes.size() > 0) {
-            List<Map<String, String>> c = new ArrayList<Map<String, String>>();
-            int count = 0;
-            for (String key : consumes) {
-                Map<String, String> mediaType = new HashMap<String, String>();
-                mediaType.put("mediaType", key);
-                count += 1;
-                if (count < consumes.size()) {
-                    mediaType.put("hasMore", "true");
-                } else {
-                    mediaType.put("hasMore", null);
-                }
-                c.add(mediaType);
-            }
-            op.consumes = c;
+            op.consumes = ListDecorator.mediaTypes(consumes);
             op.hasConsumes = true;
         }
 
@@ -1334,20 +1492,7 @@ public class DefaultCodegen {
 
         // if "produces" is defined (per operation or using global definition)
         if (produces != null && produces.size() > 0) {
-            List<Map<String, String>> c = new ArrayList<Map<String, String>>();
-            int count = 0;
-            for (String key : produces) {
-                Map<String, String> mediaType = new HashMap<String, String>();
-                mediaType.put("mediaType", key);
-                count += 1;
-                if (count < produces.size()) {
-                    mediaType.put("hasMore", "true");
-                } else {
-                    mediaType.put("hasMore", null);
-                }
-                c.add(mediaType);
-            }
-            op.produces = c;
+            op.produces = ListDecorator.mediaTypes(produces);
             op.hasProduces = true;
         }
 
@@ -1388,7 +1533,9 @@ public class DefaultCodegen {
                             op.returnBaseType = cm.baseType;
                         }
                     }
-                    op.examples = new ExampleGenerator(definitions).generate(methodResponse.getExamples(), operation.getProduces(), responseProperty);
+                    if (!skipExamples) {
+                        op.setLazyExamples(lazyExamples(definitions, methodResponse.getExamples(), operation.getProduces(), responseProperty));
+                    }
                     op.defaultResponse = toDefaultValue(responseProperty);
                     op.returnType = cm.datatype;
                     op.hasReference = definitions != null && definitions.containsKey(op.returnBaseType);
@@ -1534,7 +1681,7 @@ public class DefaultCodegen {
         r.message = escapeText(response.getDescription());
         r.schema = response.getSchema();
         r.examples = toExamples(response.getExamples());
-        r.jsonSchema = Json.pretty(response);
+        r.setLazyJsonSchema(LazyValue.json("responseJsonSchema", response, metrics));
         addHeaders(response, r.headers);
 
         if (r.schema != null) {
@@ -1588,9 +1735,9 @@ public class DefaultCodegen {
         if (param.getRequired()) {
             p.required = param.getRequired();
         }
-        p.jsonSchema = Json.pretty(param);
+        p.setLazyJsonSchema(LazyValue.json("parameterJsonSchema", param, metrics));
 
-        if (System.getProperty("debugParser") != null) {
+        if (generationOptions.isSet(GenerationOptions.DEBUG_PARSER)) {
             LOGGER.info("working on Parameter " + param);
         }
 
@@ -1667,7 +1814,7 @@ public class DefaultCodegen {
             if(collectionFormat != null && collectionFormat.equals("multi")) {
                 p.isCollectionFormatMulti = true;
             }
-            p.paramName = toParamName(qp.getName());
+            p.paramName = convertName(NameCache.Conversion.PARAM_NAME, qp.getName());
 
             if (model.complexType != null) {
                 imports.add(model.complexType);
@@ -1738,7 +1885,7 @@ public class DefaultCodegen {
                     if (typeMapping.containsKey(name)) {
                         name = typeMapping.get(name);
                     } else {
-                        name = toModelName(name);
+                        name = convertName(NameCache.Conversion.MODEL_NAME, name);
                         if (defaultIncludes.contains(name)) {
                             imports.add(name);
                         }
@@ -1748,7 +1895,7 @@ public class DefaultCodegen {
                     p.dataType = name;
                 }
             }
-            p.paramName = toParamName(bp.getName());
+            p.paramName = convertName(NameCache.Conversion.PARAM_NAME, bp.getName());
         }
 
         postProcessParameter(p);
@@ -1795,22 +1942,13 @@ public class DefaultCodegen {
                 sec.tokenUrl = oauth2Definition.getTokenUrl();
                 if (oauth2Definition.getScopes() != null) {
                     List<Map<String, Object>> scopes = new ArrayList<Map<String, Object>>();
-                    int count = 0, numScopes = oauth2Definition.getScopes().size();
                     for(Map.Entry<String, String> scopeEntry : oauth2Definition.getScopes().entrySet()) {
                         Map<String, Object> scope = new HashMap<String, Object>();
                         scope.put("scope", scopeEntry.getKey());
                         scope.put("description", scopeEntry.getValue());
-
-                        count += 1;
-                        if (count < numScopes) {
-                            scope.put("hasMore", "true");
-                        } else {
-                            scope.put("hasMore", null);
-                        }
-
                         scopes.add(scope);
                     }
-                    sec.scopes = scopes;
+                    sec.scopes = ListDecorator.mark(scopes, ListDecorator.HAS_MORE_ENTRY);
                 }
             }
 
@@ -1879,6 +2017,25 @@ public class DefaultCodegen {
             && !languageSpecificPrimitives.contains(type);
     }
 
+    /**
+     * Response examples of an operation, generated only if a template uses them.
+     *
+     * @param definitions a map of Swagger models
+     * @param examples examples given in the spec
+     * @param mediaTypes media types the operation produces
+     * @param responseProperty schema of the response
+     * @return the lazy examples
+     */
+    protected LazyValue<List<Map<String, String>>> lazyExamples(final Map<String, Model> definitions,
+            final Map<String, Object> examples, final List<String> mediaTypes, final Property responseProperty) {
+        return new LazyValue<List<Map<String, String>>>("examples", metrics) {
+            @Override
+            protected List<Map<String, String>> compute() {
+                return new ExampleGenerator(definitions, exampleCache).generate(examples, mediaTypes, responseProperty);
+            }
+        };
+    }
+
     @SuppressWarnings("static-method")
     protected List<Map<String, Object>> toExamples(Map<String, Object> examples) {
         if (examples == null) {
@@ -1989,19 +2146,12 @@ public class DefaultCodegen {
      * @return The underscored version of the word
      */
     public static String underscore(String word) {
-        String firstPattern = "([A-Z]+)([A-Z][a-z])";
-        String secondPattern = "([a-z\\d])([A-Z])";
-        String replacementPattern = "$1_$2";
-        // Replace package separator with slash.
-        word = word.replaceAll("\\.", "/"); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-        // Replace $ with two underscores for inner classes.
-        word = word.replaceAll("\\$", "__");
-        // Replace capital letter with _ plus lowercase letter.
-        word = word.replaceAll(firstPattern, replacementPattern);
-        word = word.replaceAll(secondPattern, replacementPattern);
-        word = word.replace('-', '_');
-        word = word.toLowerCase();
-        return word;
+        String underscored = SHARED_NAMES.get(NameCache.Conversion.UNDERSCORE, word);
+        if (underscored == null) {
+            underscored = NamingUtils.underscore(word);
+            SHARED_NAMES.put(NameCache.Conversion.UNDERSCORE, word, underscored);
+        }
+        return underscored;
     }
 
     /**
@@ -2012,7 +2162,7 @@ public class DefaultCodegen {
      */
     @SuppressWarnings("static-method")
     protected String dashize(String word) {
-        return underscore(word).replaceAll("[_ ]", "-");
+        return NamingUtils.dashize(word);
     }
 
     /**
@@ -2026,15 +2176,7 @@ public class DefaultCodegen {
      * @return The next name for the base name
      */
     private static String generateNextName(String name) {
-        Pattern pattern = Pattern.compile("\\d+\\z");
-        Matcher matcher = pattern.matcher(name);
-        if (matcher.find()) {
-            String numStr = matcher.group();
-            int num = Integer.parseInt(numStr) + 1;
-            return name.substring(0, name.length() - numStr.length()) + num;
-        } else {
-            return name + "2";
-        }
+        return NamingUtils.generateNextName(name);
     }
 
     private void addImport(CodegenModel m, String type) {
@@ -2092,18 +2234,7 @@ public class DefaultCodegen {
      */
     @SuppressWarnings("static-method")
     public String removeNonNameElementToCamelCase(String name) {
-        String nonNameElementPattern = "[-_:;#]";
-        name = StringUtils.join(Lists.transform(Lists.newArrayList(name.split(nonNameElementPattern)), new Function<String, String>() { // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-            @Nullable
-            @Override
-            public String apply(String input) {
-                return StringUtils.capitalize(input);
-            }
-        }), "");
-        if (name.length() > 0) {
-            name = name.substring(0, 1).toLowerCase() + name.substring(1);
-        }
-        return name;
+        return NamingUtils.removeNonNameElementToCamelCase(name);
     }
 
     /**
@@ -2126,52 +2257,21 @@ public class DefaultCodegen {
      * @return camelized string
      */
     public static String camelize(String word, boolean lowercaseFirstLetter) {
-        // Replace all slashes with dots (package separator)
-        Pattern p = Pattern.compile("\\/(.?)");
-        Matcher m = p.matcher(word);
-        while (m.find()) {
-            word = m.replaceFirst("." + m.group(1)/*.toUpperCase()*/); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-            m = p.matcher(word);
-        }
-
-        // case out dots
-        String[] parts = word.split("\\.");
-        StringBuilder f = new StringBuilder();
-        for (String z : parts) {
-            if (z.length() > 0) {
-                f.append(Character.toUpperCase(z.charAt(0))).append(z.substring(1));
-            }
-        }
-        word = f.toString();
-
-        m = p.matcher(word);
-        while (m.find()) {
-            word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0)) + m.group(1).substring(1)/*.toUpperCase()*/);
-            m = p.matcher(word);
-        }
-
-        // Uppercase the class name.
-        p = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
-        m = p.matcher(word);
-        if (m.find()) {
-            String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
-            rep = rep.replaceAll("\\$", "\\\\\\$");
-            word = m.replaceAll(rep);
-        }
-
-        // Remove all underscores
-        p = Pattern.compile("(_)(.)");
-        m = p.matcher(word);
-        while (m.find()) {
-            word = m.replaceFirst(m.group(2).toUpperCase());
-            m = p.matcher(word);
-        }
-
-        if (lowercaseFirstLetter) {
-            word = word.substring(0, 1).toLowerCase() + word.substring(1);
+        NameCache.Conversion conversion = lowercaseFirstLetter
+                ? NameCache.Conversion.CAMELIZE_LOWERCASE_FIRST : NameCache.Conversion.CAMELIZE;
+        String camelized = SHARED_NAMES.get(conversion, word);
+        if (camelized == null) {
+            camelized = NamingUtils.camelize(word, lowercaseFirstLetter);
+            SHARED_NAMES.put(conversion, word, camelized);
         }
+        return camelized;
+    }
 
-        return word;
+    /**
+     * @return the cache of camelize and underscore, shared by all configs
+     */
+    public static NameCache getSharedNameCache() {
+        return SHARED_NAMES;
     }
 
     public String apiFilename(String templateName, String tag) {
@@ -2200,6 +2300,10 @@ public class DefaultCodegen {
         return skipOverwrite;
     }
 
+    public boolean isThreadSafe() {
+        return false;
+    }
+
     public void setSkipOverwrite(boolean skipOverwrite) {
         this.skipOverwrite = skipOverwrite;
     }
@@ -2245,11 +2349,6 @@ public class DefaultCodegen {
      */
     @SuppressWarnings("static-method")
     public String sanitizeName(String name) {
-        // NOTE: performance wise, we should have written with 2 replaceAll to replace desired
-        // character with _ or empty character. Below aims to spell out different cases we've
-        // encountered so far and hopefully make it easier for others to add more special
-        // cases in the future.
-
     	// better error handling when map/array type is invalid
     	if (name == null) {
     	    LOGGER.error("String to be sanitized is null. Default to ERROR_UNKNOWN");
@@ -2261,29 +2360,10 @@ public class DefaultCodegen {
             return "value";
         }
 
-        // input[] => input
-        name = name.replaceAll("\\[\\]", ""); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-
-        // input[a][b] => input_a_b
-        name = name.replaceAll("\\[", "_");
-        name = name.replaceAll("\\]", "");
-
-        // input(a)(b) => input_a_b
-        name = name.replaceAll("\\(", "_");
-        name = name.replaceAll("\\)", "");
-
-        // input.name => input_name
-        name = name.replaceAll("\\.", "_");
-
-        // input-name => input_name
-        name = name.replaceAll("-", "_");
-
-        // input name and age => input_name_and_age
-        name = name.replaceAll(" ", "_");
-
-        // remove everything else other than word, number and _
-        // $php_variable => php_variable
-        return name.replaceAll("[^a-zA-Z0-9_]", "");
+        // input[] => input, input[a][b] => input_a_b, input(a)(b) => input_a_b,
+        // input.name => input_name, input-name => input_name, input name => input_name,
+        // and remove everything else other than word, number and _ ($php_variable => php_variable)
+        return NamingUtils.sanitizeName(name);
     }
 
     /**
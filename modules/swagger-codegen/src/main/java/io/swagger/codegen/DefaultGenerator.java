@@ -2,11 +2,15 @@ package io.swagger.codegen;
 
 import com.samskivert.mustache.Mustache;
 import com.samskivert.mustache.Template;
+import io.swagger.codegen.examples.ExampleCache;
+import io.swagger.codegen.metrics.GenerationMetrics;
+import io.swagger.codegen.utils.ListDecorator;
 import io.swagger.models.*;
 import io.swagger.models.auth.OAuth2Definition;
 import io.swagger.models.auth.SecuritySchemeDefinition;
 import io.swagger.models.parameters.Parameter;
 import io.swagger.util.Json;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.joda.time.DateTime;
 import org.slf4j.Logger;
@@ -14,6 +18,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.Callable;
 
 import static org.apache.commons.lang3.StringUtils.capitalize;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
@@ -21,9 +26,42 @@ import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 public class DefaultGenerator extends AbstractGenerator implements Generator {
     protected Logger LOGGER = LoggerFactory.getLogger(DefaultGenerator.class);
 
+    // "hasMore" of the apis and models listed in the supporting files
+    private static final ListDecorator.Marker<Object> API_HAS_MORE = new ListDecorator.Marker<Object>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public void mark(Object item, int index, boolean last) {
+            if (!last) {
+                ((Map<String, Object>) item).put(ListDecorator.HAS_MORE, "true");
+            }
+        }
+    };
+    private static final ListDecorator.Marker<Object> MODEL_HAS_MORE = new ListDecorator.Marker<Object>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public void mark(Object item, int index, boolean last) {
+            if (!last) {
+                ((Map<String, CodegenModel>) item).get("model").hasMoreModels = true;
+            }
+        }
+    };
+
     protected CodegenConfig config;
     protected ClientOptInput opts;
     protected Swagger swagger;
+    protected TemplateRegistry templateRegistry = TemplateRegistry.getShared();
+    protected int threads = 1;
+    protected boolean incremental;
+    protected boolean resolveInlineModels = true;
+    protected int nameCacheSize;
+    protected GenerationManifest manifest;
+    protected String runFingerprint;
+    protected String definitionsFingerprint;
+    protected GenerationMetrics metrics = new GenerationMetrics();
+    protected GenerationOptions generationOptions = GenerationOptions.fromSystemProperties();
+    private Map<String, Object> globalProperties;
+    private final Map<CodegenOperation, Map<String, Object>> operationInputs =
+            Collections.synchronizedMap(new IdentityHashMap<CodegenOperation, Map<String, Object>>());
 
     @Override
     public Generator opts(ClientOptInput opts) {
@@ -32,12 +70,118 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         this.swagger = opts.getSwagger();
         this.config = opts.getConfig();
         this.config.additionalProperties().putAll(opts.getOpts().getProperties());
+        if (opts.getGenerationOptions() != null) {
+            this.generationOptions = opts.getGenerationOptions();
+        }
+
+        return this;
+    }
+
+    /**
+     * Use the given registry for compiled templates instead of the JVM-wide shared one. The
+     * shared registry doesn't notice edits to a custom template dir; processes that generate
+     * repeatedly from a dir that may change must invalidate it first, see
+     * {@link TemplateRegistry#invalidate(String)}.
+     *
+     * @param templateRegistry Template registry
+     * @return this generator
+     */
+    public DefaultGenerator templateRegistry(TemplateRegistry templateRegistry) {
+        this.templateRegistry = templateRegistry;
+        return this;
+    }
+
+    public TemplateRegistry getTemplateRegistry() {
+        return templateRegistry;
+    }
+
+    /**
+     * Number of threads used to process and render models and APIs. Defaults to 1; values
+     * above 1 are ignored for configs that are not thread-safe (see {@link CodegenConfig#isThreadSafe()}).
+     *
+     * @param threads Number of threads
+     * @return this generator
+     */
+    public DefaultGenerator threads(int threads) {
+        this.threads = threads;
+        return this;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @param resolveInlineModels false if inline models of the spec have already been flattened
+     *                            with {@link InlineModelResolver}
+     * @return this generator
+     */
+    public DefaultGenerator resolveInlineModels(boolean resolveInlineModels) {
+        this.resolveInlineModels = resolveInlineModels;
+        return this;
+    }
+
+    /**
+     * Cache the name conversions of the config (model, variable, parameter and API names, model
+     * file names and imports) for the duration of each run. Only configs extending
+     * {@link DefaultCodegen} are cached; the hit rate is added to the metrics counters.
+     *
+     * @param maxSize Maximum number of cached names per conversion, 0 to disable the cache
+     * @return this generator
+     */
+    public DefaultGenerator nameCache(int maxSize) {
+        this.nameCacheSize = maxSize;
+        return this;
+    }
+
+    public int getNameCacheSize() {
+        return nameCacheSize;
+    }
+
+    public DefaultGenerator metrics(GenerationMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
 
+    /**
+     * @return timings of the last run, see {@link GenerationMetrics#report(int)}
+     */
+    public GenerationMetrics getMetrics() {
+        return metrics;
+    }
+
+    public DefaultGenerator outputSink(OutputSink outputSink) {
+        setOutputSink(outputSink);
+        return this;
+    }
+
+    /**
+     * Skip output files whose inputs have not changed since the previous run, as recorded in
+     * the manifest in the output folder (see {@link GenerationManifest}).
+     *
+     * @param incremental true to enable incremental generation
+     * @return this generator
+     */
+    public DefaultGenerator incremental(boolean incremental) {
+        this.incremental = incremental;
         return this;
     }
 
+    public boolean isIncremental() {
+        return incremental;
+    }
+
     @Override
     public List<File> generate() {
+        try {
+            return doGenerate();
+        } finally {
+            // the inputs hold on to the processed operations, which are only needed while generating
+            operationInputs.clear();
+        }
+    }
+
+    private List<File> doGenerate() {
         Boolean generateApis = null;
         Boolean generateModels = null;
         Boolean generateSupportingFiles = null;
@@ -47,22 +191,22 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         Set<String> supportingFilesToGenerate = null;
 
         // allows generating only models by specifying a CSV of models to generate, or empty for all
-        if(System.getProperty("models") != null) {
-            String modelNames = System.getProperty("models");
+        if(generationOptions.isSet(GenerationOptions.MODELS)) {
+            String modelNames = generationOptions.get(GenerationOptions.MODELS);
             generateModels = true;
             if(!modelNames.isEmpty()) {
                 modelsToGenerate = new HashSet<String>(Arrays.asList(modelNames.split(",")));
             }
         }
-        if(System.getProperty("apis") != null) {
-            String apiNames = System.getProperty("apis");
+        if(generationOptions.isSet(GenerationOptions.APIS)) {
+            String apiNames = generationOptions.get(GenerationOptions.APIS);
             generateApis = true;
             if(!apiNames.isEmpty()) {
                 apisToGenerate = new HashSet<String>(Arrays.asList(apiNames.split(",")));
             }
         }
-        if(System.getProperty("supportingFiles") != null) {
-            String supportingFiles = System.getProperty("supportingFiles");
+        if(generationOptions.isSet(GenerationOptions.SUPPORTING_FILES)) {
+            String supportingFiles = generationOptions.get(GenerationOptions.SUPPORTING_FILES);
             generateSupportingFiles = true;
             if(!supportingFiles.isEmpty()) {
                 supportingFilesToGenerate = new HashSet<String>(Arrays.asList(supportingFiles.split(",")));
@@ -88,11 +232,28 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if (swagger == null || config == null) {
             throw new RuntimeException("missing swagger input or config!");
         }
-        if (System.getProperty("debugSwagger") != null) {
+        metrics.begin();
+        globalProperties = null;
+        if (config instanceof DefaultCodegen) {
+            ((DefaultCodegen) config).setMetrics(metrics);
+            ((DefaultCodegen) config).setOutputSink(outputSink);
+            ((DefaultCodegen) config).setGenerationOptions(generationOptions);
+        }
+        if (generationOptions.isSet(GenerationOptions.DEBUG_SWAGGER)) {
             Json.prettyPrint(swagger);
         }
+        if (threads > 1 && !config.isThreadSafe()) {
+            LOGGER.warn(config.getName() + " does not support parallel generation, using a single thread");
+        }
         List<File> files = new ArrayList<File>();
         config.processOpts();
+        if (config instanceof DefaultCodegen) {
+            ((DefaultCodegen) config).setExampleCache(new ExampleCache());
+        }
+        if (nameCacheSize > 0 && config instanceof DefaultCodegen) {
+            // the conversions depend on the processed options, so the cache starts empty each run
+            ((DefaultCodegen) config).setNameCache(new NameCache(nameCacheSize));
+        }
         config.preprocessSwagger(swagger);
 
         config.additionalProperties().put("generatedDate", DateTime.now().toString());
@@ -155,22 +316,38 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if (swagger.getBasePath() != null) {
             hostBuilder.append(swagger.getBasePath());
         }
-        String contextPath = swagger.getBasePath() == null ? "" : swagger.getBasePath();
-        String basePath = hostBuilder.toString();
-        String basePathWithoutHost = swagger.getBasePath();
+        final String contextPath = swagger.getBasePath() == null ? "" : swagger.getBasePath();
+        final String basePath = hostBuilder.toString();
+        final String basePathWithoutHost = swagger.getBasePath();
 
 
         // resolve inline models
-        InlineModelResolver inlineModelResolver = new InlineModelResolver();
-        inlineModelResolver.flatten(swagger);
+        GenerationMetrics.Timer timer = metrics.start(GenerationMetrics.FLATTEN);
+        if (resolveInlineModels) {
+            InlineModelResolver inlineModelResolver = new InlineModelResolver();
+            inlineModelResolver.flatten(swagger);
+        }
+        timer.stop();
+
+        if (incremental) {
+            manifest = GenerationManifest.load(config.outputFolder());
+            runFingerprint = fingerprintRun();
+            definitionsFingerprint = GenerationManifest.fingerprint(swagger.getDefinitions());
+        } else {
+            manifest = null;
+        }
 
         List<Object> allOperations = new ArrayList<Object>();
         List<Object> allModels = new ArrayList<Object>();
 
         // models
-        Map<String, Model> definitions = swagger.getDefinitions();
+        final Map<String, Model> definitions = swagger.getDefinitions();
         if (definitions != null) {
-        	List<String> sortedModelKeys = sortModelsByInheritance(definitions);
+            InheritanceIndex inheritanceIndex = new InheritanceIndex(definitions);
+            if (config instanceof DefaultCodegen) {
+                ((DefaultCodegen) config).setInheritanceIndex(inheritanceIndex);
+            }
+            List<String> sortedModelKeys = new ArrayList<String>(inheritanceIndex.getSortedNames());
 
             if(generateModels) {
                 if(modelsToGenerate != null && modelsToGenerate.size() > 0) {
@@ -183,100 +360,87 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     sortedModelKeys = updatedKeys;
                 }
 
-                // store all processed models
-                Map<String,Object> allProcessedModels = new HashMap<String, Object>();
-
                 // process models only
-                for (String name : sortedModelKeys) {
-                    try {
-                        //don't generate models that have an import mapping
-                        if(config.importMapping().containsKey(name)) {
-                            continue;
+                List<Callable<Map<String, Object>>> processTasks = new ArrayList<Callable<Map<String, Object>>>();
+                for (final String name : sortedModelKeys) {
+                    //don't generate models that have an import mapping
+                    if(config.importMapping().containsKey(name)) {
+                        continue;
+                    }
+                    processTasks.add(new Callable<Map<String, Object>>() {
+                        @Override
+                        public Map<String, Object> call() {
+                            try {
+                                GenerationMetrics.Timer timer = metrics.start(GenerationMetrics.PROCESS_MODELS, name);
+                                Model model = definitions.get(name);
+                                Map<String, Model> modelMap = new HashMap<String, Model>();
+                                modelMap.put(name, model);
+                                Map<String, Object> models = processModels(config, modelMap, definitions);
+                                models = new TemplateContext(models, globalProperties());
+                                timer.stop();
+                                return models;
+                            } catch (Exception e) {
+                                throw new RuntimeException("Could not process model '" + name + "'", e);
+                            }
                         }
+                    });
+                }
 
-                        Model model = definitions.get(name);
-                        Map<String, Model> modelMap = new HashMap<String, Model>();
-                        modelMap.put(name, model);
-                        Map<String, Object> models = processModels(config, modelMap, definitions);
-                        models.putAll(config.additionalProperties());
-                        
-                        allProcessedModels.put(name, models);
-
-                    } catch (Exception e) {
-                        throw new RuntimeException("Could not process model '" + name + "'", e);
+                // store all processed models
+                Map<String,Object> allProcessedModels = new HashMap<String, Object>();
+                List<Map<String, Object>> processedModels = runTasks(processTasks);
+                int index = 0;
+                for (String name : sortedModelKeys) {
+                    if(!config.importMapping().containsKey(name)) {
+                        allProcessedModels.put(name, processedModels.get(index++));
                     }
                 }
-                
+
                 // post process all processed models
+                timer = metrics.start(GenerationMetrics.POST_PROCESS_ALL_MODELS);
                 allProcessedModels = config.postProcessAllModels(allProcessedModels);
-                
+                timer.stop();
+
                 // generate files based on processed models
-                for (String name: allProcessedModels.keySet()) {
-                	Map<String, Object> models = (Map<String, Object>)allProcessedModels.get(name);
-                
-                	try {
-                        //don't generate models that have an import mapping
-                        if(config.importMapping().containsKey(name)) {
-                            continue;
-                        }
+                List<Callable<List<File>>> generateTasks = new ArrayList<Callable<List<File>>>();
+                for (final String name: allProcessedModels.keySet()) {
+                    final Map<String, Object> models = (Map<String, Object>)allProcessedModels.get(name);
 
-                        allModels.add(((List<Object>) models.get("models")).get(0));
+                    //don't generate models that have an import mapping
+                    if(config.importMapping().containsKey(name)) {
+                        continue;
+                    }
 
-                        for (String templateName : config.modelTemplateFiles().keySet()) {
-                            String suffix = config.modelTemplateFiles().get(templateName);
-                            String filename = config.modelFileFolder() + File.separator + config.toModelFilename(name) + suffix;
-                            if (!config.shouldOverwrite(filename)) {
-                                continue;
-                            }
-                            String templateFile = getFullTemplateFile(config, templateName);
-                            String template = readTemplate(templateFile);
-                            Template tmpl = Mustache.compiler()
-                                    .withLoader(new Mustache.TemplateLoader() {
-                                        @Override
-                                        public Reader getTemplate(String name) {
-                                            return getTemplateReader(getFullTemplateFile(config, name + ".mustache"));
-                                        }
-                                    })
-                                    .defaultValue("")
-                                    .compile(template);
-                            writeToFile(filename, tmpl.execute(models));
-                            files.add(new File(filename));
-                        }
+                    allModels.add(((List<Object>) models.get("models")).get(0));
 
-                        // to generate model test files
-                        for (String templateName : config.modelTestTemplateFiles().keySet()) {
-                            String suffix = config.modelTestTemplateFiles().get(templateName);
-                            String filename = config.modelTestFileFolder() + File.separator + config.toModelTestFilename(name) + suffix;
-                            if (!config.shouldOverwrite(filename)) {
-                                continue;
+                    generateTasks.add(new Callable<List<File>>() {
+                        @Override
+                        public List<File> call() {
+                            try {
+                                GenerationMetrics.Timer timer = metrics.start(GenerationMetrics.GENERATE_MODELS, name);
+                                List<File> generated = generateModel(name, models);
+                                timer.stop();
+                                return generated;
+                            } catch (Exception e) {
+                                throw new RuntimeException("Could not generate model '" + name + "'", e);
                             }
-                            String templateFile = getFullTemplateFile(config, templateName);
-                            String template = readTemplate(templateFile);
-                            Template tmpl = Mustache.compiler()
-                                    .withLoader(new Mustache.TemplateLoader() {
-                                        @Override
-                                        public Reader getTemplate(String name) {
-                                            return getTemplateReader(getFullTemplateFile(config, name + ".mustache"));
-                                        }
-                                    })
-                                    .defaultValue("")
-                                    .compile(template);
-                            writeToFile(filename, tmpl.execute(models));
-                            files.add(new File(filename));
                         }
-                    } catch (Exception e) {
-                        throw new RuntimeException("Could not generate model '" + name + "'", e);
-                    }
+                    });
+                }
+                for (List<File> generated : runTasks(generateTasks)) {
+                    files.addAll(generated);
                 }
             }
         }
-        if (System.getProperty("debugModels") != null) {
+        if (generationOptions.isSet(GenerationOptions.DEBUG_MODELS)) {
             LOGGER.info("############ Model info ############");
             Json.prettyPrint(allModels);
         }
 
         // apis
+        timer = metrics.start(GenerationMetrics.PROCESS_PATHS);
         Map<String, List<CodegenOperation>> paths = processPaths(swagger.getPaths());
+        timer.stop();
         if(generateApis) {
             if(apisToGenerate != null && apisToGenerate.size() > 0) {
                 Map<String, List<CodegenOperation>> updatedPaths = new TreeMap<String, List<CodegenOperation>>();
@@ -287,94 +451,52 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 }
                 paths = updatedPaths;
             }
-            for (String tag : paths.keySet()) {
-                try {
-                    List<CodegenOperation> ops = paths.get(tag);
-                    Map<String, Object> operation = processOperations(config, tag, ops);
-
-                    operation.put("basePath", basePath);
-                    operation.put("basePathWithoutHost", basePathWithoutHost);
-                    operation.put("contextPath", contextPath);
-                    operation.put("baseName", tag);
-                    operation.put("modelPackage", config.modelPackage());
-                    operation.putAll(config.additionalProperties());
-                    operation.put("classname", config.toApiName(tag));
-                    operation.put("classVarName", config.toApiVarName(tag));
-                    operation.put("importPath", config.toApiImport(tag));
-                    
-                    if(!config.vendorExtensions().isEmpty()) {
-                    	operation.put("vendorExtensions", config.vendorExtensions());
-                    }
-
-                    // Pass sortParamsByRequiredFlag through to the Mustache template...
-                    boolean sortParamsByRequiredFlag = true;
-                    if (this.config.additionalProperties().containsKey(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG)) {
-                        sortParamsByRequiredFlag = Boolean.valueOf((String)this.config.additionalProperties().get(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG).toString());
-                    }
-                    operation.put("sortParamsByRequiredFlag", sortParamsByRequiredFlag);
-
-                    processMimeTypes(swagger.getConsumes(), operation, "consumes");
-                    processMimeTypes(swagger.getProduces(), operation, "produces");
-
-                    allOperations.add(new HashMap<String, Object>(operation));
-                    for (int i = 0; i < allOperations.size(); i++) {
-                        Map<String, Object> oo = (Map<String, Object>) allOperations.get(i);
-                        if (i < (allOperations.size() - 1)) {
-                            oo.put("hasMore", "true");
+            final Map<String, List<CodegenOperation>> tagOperations = paths;
+            List<Callable<Map<String, Object>>> processTasks = new ArrayList<Callable<Map<String, Object>>>();
+            for (final String tag : paths.keySet()) {
+                processTasks.add(new Callable<Map<String, Object>>() {
+                    @Override
+                    public Map<String, Object> call() {
+                        try {
+                            GenerationMetrics.Timer timer = metrics.start(GenerationMetrics.PROCESS_OPERATIONS, tag);
+                            Map<String, Object> operation = processApi(tag, tagOperations.get(tag), basePath, basePathWithoutHost, contextPath);
+                            timer.stop();
+                            return operation;
+                        } catch (Exception e) {
+                            throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
                         }
                     }
-
-                    for (String templateName : config.apiTemplateFiles().keySet()) {
-                        String filename = config.apiFilename(templateName, tag);
-                        if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
-                            continue;
-                        }
-
-                        String templateFile = getFullTemplateFile(config, templateName);
-                        String template = readTemplate(templateFile);
-                        Template tmpl = Mustache.compiler()
-                                .withLoader(new Mustache.TemplateLoader() {
-                                    @Override
-                                    public Reader getTemplate(String name) {
-                                        return getTemplateReader(getFullTemplateFile(config, name + ".mustache"));
-                                    }
-                                })
-                                .defaultValue("")
-                                .compile(template);
-
-                        writeToFile(filename, tmpl.execute(operation));
-                        files.add(new File(filename));
-                    }
-
-                    // to generate api test files
-                    for (String templateName : config.apiTestTemplateFiles().keySet()) {
-                        String filename = config.apiTestFilename(templateName, tag);
-                        if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
-                            continue;
+                });
+            }
+            List<Map<String, Object>> processedApis = runTasks(processTasks);
+
+            List<Callable<List<File>>> generateTasks = new ArrayList<Callable<List<File>>>();
+            int index = 0;
+            for (final String tag : paths.keySet()) {
+                final Map<String, Object> operation = processedApis.get(index++);
+
+                allOperations.add(TemplateContext.copyOf(operation));
+
+                generateTasks.add(new Callable<List<File>>() {
+                    @Override
+                    public List<File> call() {
+                        try {
+                            GenerationMetrics.Timer timer = metrics.start(GenerationMetrics.GENERATE_APIS, tag);
+                            List<File> generated = generateApi(tag, operation);
+                            timer.stop();
+                            return generated;
+                        } catch (Exception e) {
+                            throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
                         }
-
-                        String templateFile = getFullTemplateFile(config, templateName);
-                        String template = readTemplate(templateFile);
-                        Template tmpl = Mustache.compiler()
-                                .withLoader(new Mustache.TemplateLoader() {
-                                    @Override
-                                    public Reader getTemplate(String name) {
-                                        return getTemplateReader(getFullTemplateFile(config, name + ".mustache"));
-                                    }
-                                })
-                                .defaultValue("")
-                                .compile(template);
-
-                        writeToFile(filename, tmpl.execute(operation));
-                        files.add(new File(filename));
                     }
-
-                } catch (Exception e) {
-                    throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
-                }
+                });
+            }
+            ListDecorator.mark(allOperations, API_HAS_MORE);
+            for (List<File> generated : runTasks(generateTasks)) {
+                files.addAll(generated);
             }
         }
-        if (System.getProperty("debugOperations") != null) {
+        if (generationOptions.isSet(GenerationOptions.DEBUG_OPERATIONS)) {
             LOGGER.info("############ Operation info ############");
             Json.prettyPrint(allOperations);
         }
@@ -405,30 +527,24 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if (swagger.getExternalDocs() != null) {
             bundle.put("externalDocs", swagger.getExternalDocs());
         }
-        for (int i = 0; i < allModels.size() - 1; i++) {
-            HashMap<String, CodegenModel> cm = (HashMap<String, CodegenModel>) allModels.get(i);
-            CodegenModel m = cm.get("model");
-            m.hasMoreModels = true;
-        }
+        ListDecorator.mark(allModels, MODEL_HAS_MORE);
 
         config.postProcessSupportingFileData(bundle);
 
-        if (System.getProperty("debugSupportingFiles") != null) {
+        if (generationOptions.isSet(GenerationOptions.DEBUG_SUPPORTING_FILES)) {
             LOGGER.info("############ Supporting file info ############");
             Json.prettyPrint(bundle);
         }
 
         if(generateSupportingFiles) {
+            String bundleFingerprint = null;
             for (SupportingFile support : config.supportingFiles()) {
+                TaskRunner.checkInterrupted();
                 try {
                     String outputFolder = config.outputFolder();
                     if (isNotEmpty(support.folder)) {
                         outputFolder += File.separator + support.folder;
                     }
-                    File of = new File(outputFolder);
-                    if (!of.isDirectory()) {
-                        of.mkdirs();
-                    }
                     String outputFilename = outputFolder + File.separator + support.destinationFilename;
                     if (!config.shouldOverwrite(outputFilename)) {
                         continue;
@@ -445,20 +561,20 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                             shouldGenerate = false;
                         }
                     }
+                    String fingerprint = null;
+                    if (shouldGenerate && manifest != null) {
+                        if (bundleFingerprint == null) {
+                            // the bundle holds the spec and the selected models and apis, as rendered
+                            bundleFingerprint = GenerationManifest.fingerprintOptions(bundle, "generatedDate");
+                        }
+                        fingerprint = GenerationManifest.fingerprint(runFingerprint, bundleFingerprint,
+                                support.templateFile);
+                        shouldGenerate = !isUpToDate(outputFilename, fingerprint);
+                    }
                     if(shouldGenerate) {
                         if (templateFile.endsWith("mustache")) {
-                            String template = readTemplate(templateFile);
-                            Template tmpl = Mustache.compiler()
-                                    .withLoader(new Mustache.TemplateLoader() {
-                                        @Override
-                                        public Reader getTemplate(String name) {
-                                            return getTemplateReader(getFullTemplateFile(config, name + ".mustache"));
-                                        }
-                                    })
-                                    .defaultValue("")
-                                    .compile(template);
-
-                            writeToFile(outputFilename, tmpl.execute(bundle));
+                            renderTemplate(support.templateFile, outputFilename, bundle);
+                            recordGenerated(outputFilename, fingerprint);
                             files.add(new File(outputFilename));
                         } else {
                             InputStream in = null;
@@ -472,15 +588,18 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                                 in = this.getClass().getClassLoader().getResourceAsStream(getCPResourcePath(templateFile));
                             }
                             File outputFile = new File(outputFilename);
-                            OutputStream out = new FileOutputStream(outputFile, false);
                             if (in != null) {
-                            	LOGGER.info("writing file " + outputFile);
-                                IOUtils.copy(in, out);
-                            } else {
-                                if (in == null) {
-                                    LOGGER.error("can't open " + templateFile + " for input");
+                                timer = metrics.start(GenerationMetrics.COPY_FILE, support.templateFile);
+                                try {
+                                    outputSink.write(outputFilename, in);
+                                } finally {
+                                    IOUtils.closeQuietly(in);
                                 }
+                                timer.stop();
+                            } else {
+                                LOGGER.error("can't open " + templateFile + " for input");
                             }
+                            recordGenerated(outputFilename, fingerprint);
                             files.add(outputFile);
                         }
                     }
@@ -489,75 +608,403 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 }
             }
         }
+        if (manifest != null) {
+            timer = metrics.start(GenerationMetrics.WRITE_MANIFEST);
+            try {
+                files.add(manifest.save());
+            } catch (IOException e) {
+                throw new RuntimeException("Could not write generation manifest", e);
+            }
+            timer.stop();
+        }
         config.processSwagger(swagger);
+        LOGGER.info("output: " + outputSink.getWrittenCount() + " files written, "
+                + outputSink.getSkippedCount() + " unchanged, " + outputSink.getBytesWritten() + " bytes");
+        LOGGER.debug("template cache: " + templateRegistry.getHitCount() + " hits, "
+                + templateRegistry.getMissCount() + " misses");
+        if (config instanceof DefaultCodegen && ((DefaultCodegen) config).getExampleCache() != null) {
+            ExampleCache exampleCache = ((DefaultCodegen) config).getExampleCache();
+            metrics.add("exampleCache.hits", exampleCache.getHitCount());
+            metrics.add("exampleCache.misses", exampleCache.getMissCount());
+        }
+        if (config instanceof DefaultCodegen && ((DefaultCodegen) config).getNameCache() != null) {
+            NameCache nameCache = ((DefaultCodegen) config).getNameCache();
+            metrics.add("nameCache.hits", nameCache.getHitCount());
+            metrics.add("nameCache.misses", nameCache.getMissCount());
+            LOGGER.debug(nameCache.toString());
+        }
+        metrics.end();
         return files;
     }
 
-    private static void processMimeTypes(List<String> mimeTypeList, Map<String, Object> operation, String source) {
-        if (mimeTypeList != null && mimeTypeList.size() > 0) {
-            List<Map<String, String>> c = new ArrayList<Map<String, String>>();
-            int count = 0;
-            for (String key : mimeTypeList) {
-                Map<String, String> mediaType = new HashMap<String, String>();
-                mediaType.put("mediaType", key);
-                count += 1;
-                if (count < mimeTypeList.size()) {
-                    mediaType.put("hasMore", "true");
-                } else {
-                    mediaType.put("hasMore", null);
-                }
-                c.add(mediaType);
+    /**
+     * Get the compiled template for the given template name, compiling it on first use.
+     * Compiled templates and partials are kept in the template registry.
+     *
+     * @param templateName Template name, relative to the template dir
+     * @return compiled template
+     */
+    protected Template compileTemplate(String templateName) {
+        String templateFile = getFullTemplateFile(config, templateName);
+        String key = TemplateRegistry.key(config, getClass(), templateFile);
+        Template tmpl = templateRegistry.getTemplate(key);
+        if (tmpl == null) {
+            GenerationMetrics.Timer timer = metrics.start(GenerationMetrics.COMPILE_TEMPLATE, templateName);
+            tmpl = Mustache.compiler()
+                    .withLoader(PartialLoader.INSTANCE)
+                    .defaultValue("")
+                    .compile(readCachedTemplate(templateFile));
+            tmpl = templateRegistry.putTemplate(key, tmpl);
+            timer.stop();
+        }
+        return tmpl;
+    }
+
+    /**
+     * Render a template into a file.
+     *
+     * @param templateName Template name, relative to the template dir
+     * @param filename Output file
+     * @param context Template context
+     * @throws IOException if the file can't be written
+     */
+    protected void renderTemplate(String templateName, String filename, Object context) throws IOException {
+        DefaultGenerator previous = PartialLoader.RENDERING.get();
+        PartialLoader.RENDERING.set(this);
+        try {
+            Template tmpl = compileTemplate(templateName);
+            GenerationMetrics.Timer timer = metrics.start(GenerationMetrics.RENDER_TEMPLATE, templateName);
+            writeToFile(filename, tmpl, context);
+            timer.stop();
+        } finally {
+            PartialLoader.RENDERING.set(previous);
+        }
+    }
+
+    /**
+     * Read the source of a template or partial through the template registry.
+     *
+     * @param templateFile Full template file path
+     * @return template source
+     */
+    protected String readCachedTemplate(String templateFile) {
+        String key = TemplateRegistry.key(config, getClass(), templateFile);
+        String template = templateRegistry.getSource(key);
+        if (template == null) {
+            template = readTemplate(templateFile);
+            templateRegistry.putSource(key, template);
+        }
+        return template;
+    }
+
+    /**
+     * Loads partials of a compiled template, which Mustache does when the template is first
+     * rendered. Compiled templates outlive the run that compiled them in the template registry,
+     * so the loader doesn't hold on to a generator, but resolves and reads partials through the
+     * generator rendering on the current thread. Since registry keys are scoped by the generator
+     * class, that generator resolves templates the same way as the one that compiled them.
+     */
+    private static class PartialLoader implements Mustache.TemplateLoader {
+        static final PartialLoader INSTANCE = new PartialLoader();
+        static final ThreadLocal<DefaultGenerator> RENDERING = new ThreadLocal<DefaultGenerator>();
+
+        @Override
+        public Reader getTemplate(String name) {
+            DefaultGenerator generator = RENDERING.get();
+            if (generator == null) {
+                throw new IllegalStateException("Partial " + name + " loaded outside of renderTemplate");
             }
-            operation.put(source, c);
-            String flagFieldName = "has" + source.substring(0, 1).toUpperCase() + source.substring(1);
-            operation.put(flagFieldName, true);
+            String templateFile = generator.getFullTemplateFile(generator.config, name + ".mustache");
+            return new StringReader(generator.readCachedTemplate(templateFile));
+        }
+    }
+
+    /**
+     * Build the template data of the API file(s) of one tag.
+     */
+    protected Map<String, Object> processApi(String tag, List<CodegenOperation> ops, String basePath,
+                                             String basePathWithoutHost, String contextPath) {
+        Map<String, Object> operation = processOperations(config, tag, ops);
+        Map<String, Object> globals = globalProperties();
+
+        operation.put("basePath", basePath);
+        operation.put("basePathWithoutHost", basePathWithoutHost);
+        operation.put("contextPath", contextPath);
+        operation.put("baseName", tag);
+        operation.put("modelPackage", config.modelPackage());
+        operation = new TemplateContext(operation, globals);
+        operation.put("classname", convertName(config, NameCache.Conversion.API_NAME, tag));
+        operation.put("classVarName", config.toApiVarName(tag));
+        operation.put("importPath", config.toApiImport(tag));
+
+        if(!config.vendorExtensions().isEmpty()) {
+            operation.put("vendorExtensions", config.vendorExtensions());
+        }
+
+        // Pass sortParamsByRequiredFlag through to the Mustache template...
+        boolean sortParamsByRequiredFlag = true;
+        if (this.config.additionalProperties().containsKey(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG)) {
+            sortParamsByRequiredFlag = Boolean.valueOf((String)this.config.additionalProperties().get(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG).toString());
+        }
+        operation.put("sortParamsByRequiredFlag", sortParamsByRequiredFlag);
+
+        processMimeTypes(swagger.getConsumes(), operation, "consumes");
+        processMimeTypes(swagger.getProduces(), operation, "produces");
+        return operation;
+    }
+
+    /**
+     * Read-only snapshot of the additional properties of the config, shared by the template
+     * data of all model and API files. Configs may still change their properties while
+     * processing models and operations, so a new snapshot is taken whenever they differ from the
+     * last one.
+     */
+    protected synchronized Map<String, Object> globalProperties() {
+        Map<String, Object> properties = config.additionalProperties();
+        if (globalProperties == null || !sameEntries(globalProperties, properties)) {
+            globalProperties = Collections.unmodifiableMap(new HashMap<String, Object>(properties));
+        }
+        return globalProperties;
+    }
+
+    private static boolean sameEntries(Map<String, Object> snapshot, Map<String, Object> properties) {
+        if (snapshot.size() != properties.size()) {
+            return false;
+        }
+        for (Map.Entry<String, Object> entry : properties.entrySet()) {
+            // the snapshot holds the same objects, so identity tells whether a value was replaced
+            if (snapshot.get(entry.getKey()) != entry.getValue() || !snapshot.containsKey(entry.getKey())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Render the model and model test files of one model.
+     */
+    protected List<File> generateModel(String name, Map<String, Object> models) throws IOException {
+        List<File> files = new ArrayList<File>();
+        String fingerprint = manifest != null ? fingerprintModel(name) : null;
+        for (String templateName : config.modelTemplateFiles().keySet()) {
+            String suffix = config.modelTemplateFiles().get(templateName);
+            String filename = config.modelFileFolder() + File.separator + convertName(config, NameCache.Conversion.MODEL_FILENAME, name) + suffix;
+            if (!config.shouldOverwrite(filename) || isUpToDate(filename, fingerprint)) {
+                continue;
+            }
+            renderTemplate(templateName, filename, models);
+            recordGenerated(filename, fingerprint);
+            files.add(new File(filename));
+        }
+
+        // to generate model test files
+        for (String templateName : config.modelTestTemplateFiles().keySet()) {
+            String suffix = config.modelTestTemplateFiles().get(templateName);
+            String filename = config.modelTestFileFolder() + File.separator + config.toModelTestFilename(name) + suffix;
+            if (!config.shouldOverwrite(filename) || isUpToDate(filename, fingerprint)) {
+                continue;
+            }
+            renderTemplate(templateName, filename, models);
+            recordGenerated(filename, fingerprint);
+            files.add(new File(filename));
+        }
+        return files;
+    }
+
+    /**
+     * Render the API and API test files of one tag.
+     */
+    protected List<File> generateApi(String tag, Map<String, Object> operation) throws IOException {
+        List<File> files = new ArrayList<File>();
+        String fingerprint = manifest != null ? fingerprintApi(tag, operation) : null;
+        for (String templateName : config.apiTemplateFiles().keySet()) {
+            String filename = config.apiFilename(templateName, tag);
+            if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
+                continue;
+            }
+            if (isUpToDate(filename, fingerprint)) {
+                continue;
+            }
+
+            renderTemplate(templateName, filename, operation);
+            recordGenerated(filename, fingerprint);
+            files.add(new File(filename));
+        }
+
+        // to generate api test files
+        for (String templateName : config.apiTestTemplateFiles().keySet()) {
+            String filename = config.apiTestFilename(templateName, tag);
+            if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
+                continue;
+            }
+            if (isUpToDate(filename, fingerprint)) {
+                continue;
+            }
+
+            renderTemplate(templateName, filename, operation);
+            recordGenerated(filename, fingerprint);
+            files.add(new File(filename));
         }
+        return files;
     }
 
-    private static List<String> sortModelsByInheritance(final Map<String, Model> definitions) {
-    	List<String> sortedModelKeys = new ArrayList<String>(definitions.keySet());
-    	Comparator<String> cmp = new Comparator<String>() {
-			@Override
-			public int compare(String o1, String o2) {
-				Model model1 = definitions.get(o1);
-				Model model2 = definitions.get(o2);
+    /**
+     * Fingerprint of everything that affects all generated files: generator version, config,
+     * templates, additional properties and the global parts of the spec.
+     */
+    protected String fingerprintRun() {
+        List<String> templates = new ArrayList<String>();
+        Set<String> templateNames = new TreeSet<String>();
+        templateNames.addAll(config.modelTemplateFiles().keySet());
+        templateNames.addAll(config.modelTestTemplateFiles().keySet());
+        templateNames.addAll(config.apiTemplateFiles().keySet());
+        templateNames.addAll(config.apiTestTemplateFiles().keySet());
+        for (SupportingFile support : config.supportingFiles()) {
+            templateNames.add(support.templateFile);
+        }
+        for (String templateName : templateNames) {
+            String templateFile = getFullTemplateFile(config, templateName);
+            if (templateFile.endsWith("mustache")) {
+                templates.add(GenerationManifest.fingerprint(readCachedTemplate(templateFile)));
+            } else {
+                templates.add(templateFile);
+            }
+        }
+        // partials in a custom template dir; embedded ones are covered by the generator version
+        File templateDir = new File(config.templateDir());
+        if (templateDir.isDirectory()) {
+            fingerprintTemplateDir(templateDir, templates);
+        }
 
-				int model1InheritanceDepth = getInheritanceDepth(model1);
-				int model2InheritanceDepth = getInheritanceDepth(model2);
+        Map<String, Object> spec = new LinkedHashMap<String, Object>();
+        spec.put("info", swagger.getInfo());
+        spec.put("host", swagger.getHost());
+        spec.put("basePath", swagger.getBasePath());
+        spec.put("schemes", swagger.getSchemes());
+        spec.put("consumes", swagger.getConsumes());
+        spec.put("produces", swagger.getProduces());
+        spec.put("securityDefinitions", swagger.getSecurityDefinitions());
+        spec.put("security", swagger.getSecurity());
+        spec.put("tags", swagger.getTags());
+        spec.put("externalDocs", swagger.getExternalDocs());
+        spec.put("vendorExtensions", swagger.getVendorExtensions());
+
+        Package pkg = DefaultGenerator.class.getPackage();
+        return GenerationManifest.fingerprint(
+                pkg != null ? pkg.getImplementationVersion() : null,
+                config.getClass().getName(),
+                config.getLibrary(),
+                templates,
+                GenerationManifest.fingerprintOptions(config.additionalProperties(), "generatedDate", "swagger"),
+                config.typeMapping(),
+                config.instantiationTypes(),
+                config.importMapping(),
+                config.languageSpecificPrimitives(),
+                spec);
+    }
 
-				if (model1InheritanceDepth == model2InheritanceDepth) {
-					return 0;
-				} else if (model1InheritanceDepth > model2InheritanceDepth) {
-					return 1;
-				} else {
-					return -1;
-				}
-			}
+    private void fingerprintTemplateDir(File dir, List<String> fingerprints) {
+        File[] children = dir.listFiles();
+        if (children == null) {
+            return;
+        }
+        Arrays.sort(children);
+        for (File child : children) {
+            if (child.isDirectory()) {
+                fingerprintTemplateDir(child, fingerprints);
+            } else {
+                try {
+                    fingerprints.add(child.getPath() + "=" + GenerationManifest.fingerprint(
+                            FileUtils.readFileToString(child, "UTF-8")));
+                } catch (IOException e) {
+                    LOGGER.warn("Could not fingerprint template " + child + ", all files will be regenerated: "
+                            + e.getMessage());
+                    fingerprints.add(child.getPath() + "@" + System.nanoTime());
+                }
+            }
+        }
+    }
 
-			private int getInheritanceDepth(Model model) {
-				int inheritanceDepth = 0;
-				Model parent = getParent(model);
+    /**
+     * Fingerprint of the inputs of a model file: the definition and the definitions it is
+     * composed of.
+     */
+    protected String fingerprintModel(String name) {
+        Map<String, Model> definitions = swagger.getDefinitions();
+        Map<String, Model> inputs = new TreeMap<String, Model>();
+        collectComposedDefinitions(name, definitions, inputs);
+        return GenerationManifest.fingerprint(runFingerprint, name, inputs);
+    }
 
-				while (parent != null) {
-					inheritanceDepth++;
-					parent = getParent(parent);
-				}
+    private static void collectComposedDefinitions(String name, Map<String, Model> definitions, Map<String, Model> inputs) {
+        Model model = definitions.get(name);
+        if (model == null || inputs.containsKey(name)) {
+            return;
+        }
+        inputs.put(name, model);
+        if (model instanceof ComposedModel && ((ComposedModel) model).getAllOf() != null) {
+            for (Model component : ((ComposedModel) model).getAllOf()) {
+                if (component instanceof RefModel) {
+                    collectComposedDefinitions(((RefModel) component).getSimpleRef(), definitions, inputs);
+                }
+            }
+        }
+    }
 
-				return inheritanceDepth;
-			}
+    /**
+     * Fingerprint of the inputs of an API file: the spec operations of the tag and all
+     * definitions, since response examples and imports depend on them. The operations are
+     * fingerprinted as they are in the spec, not as processed, which would compute their lazy
+     * values.
+     */
+    protected String fingerprintApi(String tag, Map<String, Object> operation) {
+        Map<String, Object> objs = (Map<String, Object>) operation.get("operations");
+        List<Object> inputs = new ArrayList<Object>();
+        if (objs != null && objs.get("operation") instanceof List) {
+            for (Object op : (List<Object>) objs.get("operation")) {
+                Map<String, Object> input = operationInputs.get(op);
+                if (input == null) {
+                    // not processed by this generator, so its inputs are unknown
+                    LOGGER.warn("Could not fingerprint operation " + ((CodegenOperation) op).operationId
+                            + " of " + tag + ", it will be regenerated");
+                    return null;
+                }
+                inputs.add(input);
+            }
+        }
+        return GenerationManifest.fingerprint(runFingerprint, definitionsFingerprint, tag, inputs);
+    }
 
-			private Model getParent(Model model) {
-				if (model instanceof ComposedModel) {
-					return definitions.get(((ComposedModel) model).getParent().getReference());
-				}
+    protected boolean isUpToDate(String filename, String fingerprint) {
+        if (manifest == null || !manifest.isUpToDate(filename, fingerprint)) {
+            return false;
+        }
+        LOGGER.info("skipping unchanged file " + filename);
+        manifest.keep(filename);
+        return true;
+    }
 
-				return null;
-			}
-		};
+    protected void recordGenerated(String filename, String fingerprint) {
+        if (manifest != null) {
+            manifest.record(filename, fingerprint);
+        }
+    }
 
-		Collections.sort(sortedModelKeys, cmp);
+    /**
+     * Run the given tasks and return their results in task order. The tasks run on a pool of
+     * {@link #threads(int)} threads, unless a single thread was requested or the config is not
+     * thread-safe, in which case they run one after the other on the calling thread.
+     */
+    protected <T> List<T> runTasks(List<Callable<T>> tasks) {
+        return TaskRunner.run(tasks, config.isThreadSafe() ? threads : 1);
+    }
 
-		return sortedModelKeys;
+    private static void processMimeTypes(List<String> mimeTypeList, Map<String, Object> operation, String source) {
+        if (mimeTypeList != null && mimeTypeList.size() > 0) {
+            operation.put(source, ListDecorator.mediaTypes(mimeTypeList));
+            String flagFieldName = "has" + source.substring(0, 1).toUpperCase() + source.substring(1);
+            operation.put(flagFieldName, true);
+        }
     }
 
     public Map<String, List<CodegenOperation>> processPaths(Map<String, Path> paths) {
@@ -586,7 +1033,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
 
     public void processOperation(String resourcePath, String httpMethod, Operation operation, Map<String, List<CodegenOperation>> operations, Path path) {
         if (operation != null) {
-            if (System.getProperty("debugOperations") != null) {
+            if (generationOptions.isSet(GenerationOptions.DEBUG_OPERATIONS)) {
                 LOGGER.info("processOperation: resourcePath= " + resourcePath + "\t;" + httpMethod + " " + operation
                         + "\n");
             }
@@ -624,6 +1071,13 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     co = config.fromOperation(resourcePath, httpMethod, operation, swagger.getDefinitions(), swagger);
                     co.tags = new ArrayList<String>();
                     co.tags.add(sanitizeTag(tag));
+                    if (manifest != null) {
+                        Map<String, Object> inputs = new LinkedHashMap<String, Object>();
+                        inputs.put("path", resourcePath);
+                        inputs.put("method", httpMethod);
+                        inputs.put("operation", operation);
+                        operationInputs.put(co, inputs);
+                    }
                     config.addOperationToGroup(sanitizeTag(tag), resourcePath, operation, co, operations);
 
                     List<Map<String, List<String>>> securities = operation.getSecurity();
@@ -679,6 +1133,22 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         }
     }
 
+    private static String convertName(CodegenConfig config, NameCache.Conversion conversion, String name) {
+        if (config instanceof DefaultCodegen) {
+            return ((DefaultCodegen) config).convertName(conversion, name);
+        }
+        switch (conversion) {
+            case API_NAME:
+                return config.toApiName(name);
+            case MODEL_FILENAME:
+                return config.toModelFilename(name);
+            case MODEL_IMPORT:
+                return config.toModelImport(name);
+            default:
+                throw new IllegalArgumentException("unsupported name conversion " + conversion);
+        }
+    }
+
     private static String generateParameterId(Parameter parameter) {
         return parameter.getName() + ":" + parameter.getIn();
     }
@@ -700,7 +1170,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     public Map<String, Object> processOperations(CodegenConfig config, String tag, List<CodegenOperation> ops) {
         Map<String, Object> operations = new HashMap<String, Object>();
         Map<String, Object> objs = new HashMap<String, Object>();
-        objs.put("classname", config.toApiName(tag));
+        objs.put("classname", convertName(config, NameCache.Conversion.API_NAME, tag));
         objs.put("pathPrefix", config.toApiVarName(tag));
 
         // check for operationId uniqueness
@@ -730,7 +1200,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             Map<String, String> im = new LinkedHashMap<String, String>();
             String mapping = config.importMapping().get(nextImport);
             if (mapping == null) {
-                mapping = config.toModelImport(nextImport);
+                mapping = convertName(config, NameCache.Conversion.MODEL_IMPORT, nextImport);
             }
             if (mapping != null) {
                 im.put("import", mapping);
@@ -768,7 +1238,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             CodegenModel cm = config.fromModel(key, mm, allDefinitions);
             Map<String, Object> mo = new HashMap<String, Object>();
             mo.put("model", cm);
-            mo.put("importPath", config.toModelImport(key));
+            mo.put("importPath", convertName(config, NameCache.Conversion.MODEL_IMPORT, key));
             models.add(mo);
 
             allImports.addAll(cm.imports);
@@ -779,7 +1249,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         for (String nextImport : allImports) {
             String mapping = config.importMapping().get(nextImport);
             if (mapping == null) {
-                mapping = config.toModelImport(nextImport);
+                mapping = convertName(config, NameCache.Conversion.MODEL_IMPORT, nextImport);
             }
             if (mapping != null && !config.defaultIncludes().contains(mapping)) {
                 importSet.add(mapping);
@@ -0,0 +1,254 @@
+package io.swagger.codegen;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Output sink that only writes a file if its content changed, so that incremental compilers and
+ * file watchers are not triggered by regenerating identical files.
+ *
+ * Content is compared against the existing file while it is being streamed. From the first
+ * differing byte on, the content goes to a temp file next to the output, which replaces the
+ * output when the stream is closed, so neither the new nor the old content has to be held in
+ * memory, and a discarded stream leaves the existing file untouched.
+ */
+public class DefaultOutputSink implements OutputSink {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultOutputSink.class);
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    @Override
+    public SinkOutputStream open(String filename) throws IOException {
+        File output = new File(filename);
+        File parent = output.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        return new ComparingOutputStream(output);
+    }
+
+    @Override
+    public File write(String filename, byte[] contents) throws IOException {
+        SinkOutputStream out = open(filename);
+        try {
+            out.write(contents);
+        } catch (IOException e) {
+            out.discard();
+            throw e;
+        }
+        out.close();
+        return new File(filename);
+    }
+
+    @Override
+    public File write(String filename, InputStream contents) throws IOException {
+        SinkOutputStream out = open(filename);
+        try {
+            IOUtils.copy(contents, out);
+        } catch (IOException e) {
+            out.discard();
+            throw e;
+        }
+        out.close();
+        return new File(filename);
+    }
+
+    /**
+     * Open the temp file the new content of an output is written to before it replaces the output.
+     *
+     * @param tempFile Temp file next to the output
+     * @return stream to the temp file
+     * @throws IOException if the temp file can't be opened
+     */
+    protected OutputStream openTemp(File tempFile) throws IOException {
+        return new FileOutputStream(tempFile);
+    }
+
+    @Override
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    @Override
+    public long getSkippedCount() {
+        return skipped.get();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultOutputSink: {written: " + written.get() + ", skipped: " + skipped.get()
+                + ", bytes: " + bytesWritten.get() + "}";
+    }
+
+    private class ComparingOutputStream extends SinkOutputStream {
+        private final File output;
+        private RandomAccessFile existing;
+        private byte[] buffer = new byte[0];
+        private long position;
+        private File tempFile;
+        private OutputStream temp;
+        private boolean closed;
+
+        ComparingOutputStream(File output) throws IOException {
+            this.output = output;
+            if (output.exists()) {
+                this.existing = new RandomAccessFile(output, "r");
+            } else {
+                startTemp();
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (temp == null) {
+                int same = compare(b, off, len);
+                position += same;
+                if (same == len) {
+                    return;
+                }
+                // everything up to here is equal to the existing file
+                startTemp();
+                off += same;
+                len -= same;
+            }
+            temp.write(b, off, len);
+            position += len;
+        }
+
+        /**
+         * @return number of leading bytes of the given range that are equal to the existing file
+         */
+        private int compare(byte[] b, int off, int len) throws IOException {
+            if (buffer.length < len) {
+                buffer = new byte[len];
+            }
+            int read = 0;
+            while (read < len) {
+                int n = existing.read(buffer, read, len - read);
+                if (n < 0) {
+                    break;
+                }
+                read += n;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer[i] != b[off + i]) {
+                    return i;
+                }
+            }
+            return read;
+        }
+
+        /**
+         * Continue in a temp file next to the output, starting with the bytes written so far,
+         * which are equal to the start of the existing file.
+         */
+        private void startTemp() throws IOException {
+            tempFile = File.createTempFile(output.getName() + ".", ".tmp", output.getAbsoluteFile().getParentFile());
+            temp = new BufferedOutputStream(openTemp(tempFile));
+            if (existing != null) {
+                existing.seek(0);
+                long remaining = position;
+                byte[] chunk = new byte[8192];
+                while (remaining > 0) {
+                    int n = existing.read(chunk, 0, (int) Math.min(chunk.length, remaining));
+                    if (n < 0) {
+                        break;
+                    }
+                    temp.write(chunk, 0, n);
+                    remaining -= n;
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            boolean completed = false;
+            try {
+                if (temp == null && existing.length() != position) {
+                    // the new content is a prefix of the existing file
+                    startTemp();
+                }
+                if (temp != null) {
+                    // close() ignores a failing flush before Java 8, which would leave a truncated
+                    // temp file to replace the output with
+                    temp.flush();
+                    temp.close();
+                    replaceOutput();
+                }
+                completed = true;
+            } finally {
+                if (!completed) {
+                    // also deletes the temp file, the output keeps its previous content
+                    closeQuietly();
+                }
+                if (existing != null) {
+                    existing.close();
+                }
+            }
+            if (tempFile != null) {
+                LOGGER.info("writing file " + output);
+                written.incrementAndGet();
+                bytesWritten.addAndGet(position);
+            } else {
+                LOGGER.info("skipping unchanged file " + output);
+                skipped.incrementAndGet();
+            }
+        }
+
+        private void replaceOutput() throws IOException {
+            if (existing != null) {
+                existing.close();
+                if (output.canExecute()) {
+                    tempFile.setExecutable(true);
+                }
+            }
+            // renaming over an existing file fails on some platforms
+            if (!tempFile.renameTo(output) && !(output.delete() && tempFile.renameTo(output))) {
+                throw new IOException("unable to replace " + output + " with " + tempFile);
+            }
+        }
+
+        @Override
+        public void discard() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            closeQuietly();
+        }
+
+        private void closeQuietly() {
+            IOUtils.closeQuietly(temp);
+            if (tempFile != null) {
+                tempFile.delete();
+            }
+            IOUtils.closeQuietly(existing);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package io.swagger.codegen;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.samskivert.mustache.Mustache;
+import io.swagger.util.Json;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Manifest of the files generated into an output directory, stored in
+ * <code>.swagger-codegen/manifest</code>. For every output file it records a fingerprint of the
+ * inputs that produced it (spec subtree, templates and options) together with the size and
+ * content hash of the file as written. A later run can skip a file whose fingerprint is
+ * unchanged and whose content has not been modified since.
+ */
+public class GenerationManifest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationManifest.class);
+
+    public static final String MANIFEST_FOLDER = ".swagger-codegen";
+    public static final String MANIFEST_FILE = MANIFEST_FOLDER + File.separator + "manifest";
+
+    private static final String HEADER = "# swagger-codegen manifest v1";
+
+    private static final ObjectMapper MAPPER = fingerprintMapper();
+
+    private final String outputDir;
+    private final Map<String, Entry> previous;
+    private final Map<String, Entry> current = new ConcurrentHashMap<String, Entry>();
+
+    private GenerationManifest(String outputDir, Map<String, Entry> previous) {
+        this.outputDir = outputDir;
+        this.previous = previous;
+    }
+
+    /**
+     * Read the manifest of the given output directory. A missing or unreadable manifest results
+     * in an empty one, i.e. every file will be generated.
+     *
+     * @param outputDir Output directory
+     * @return the manifest
+     */
+    public static GenerationManifest load(String outputDir) {
+        Map<String, Entry> entries = new HashMap<String, Entry>();
+        File file = new File(outputDir, MANIFEST_FILE);
+        if (file.isFile()) {
+            BufferedReader reader = null;
+            try {
+                reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty() || line.startsWith("#")) {
+                        continue;
+                    }
+                    String[] parts = line.split(" ", 4);
+                    if (parts.length == 4) {
+                        entries.put(parts[3], new Entry(parts[0], Long.parseLong(parts[1]), parts[2]));
+                    }
+                }
+            } catch (Exception e) {
+                LOGGER.warn("ignoring unreadable manifest " + file + ": " + e.getMessage());
+                entries.clear();
+            } finally {
+                IOUtils.closeQuietly(reader);
+            }
+        }
+        return new GenerationManifest(outputDir, entries);
+    }
+
+    /**
+     * @param filename Output file
+     * @param fingerprint Fingerprint of the inputs of the file
+     * @return true if the file was generated from the same inputs and has not been modified since
+     */
+    public boolean isUpToDate(String filename, String fingerprint) {
+        Entry entry = previous.get(relativize(filename));
+        if (entry == null || !entry.fingerprint.equals(fingerprint)) {
+            return false;
+        }
+        File file = new File(filename);
+        return file.isFile() && file.length() == entry.size && entry.contentHash.equals(contentHash(file));
+    }
+
+    /**
+     * Record a file that has just been written.
+     *
+     * @param filename Output file
+     * @param fingerprint Fingerprint of the inputs of the file, null if they are unknown, in which
+     *                    case the file is not recorded and will be generated again
+     */
+    public void record(String filename, String fingerprint) {
+        if (fingerprint == null) {
+            return;
+        }
+        File file = new File(filename);
+        current.put(relativize(filename), new Entry(fingerprint, file.length(), contentHash(file)));
+    }
+
+    /**
+     * Carry over the entry of a file that was skipped because it is up to date.
+     *
+     * @param filename Output file
+     */
+    public void keep(String filename) {
+        String path = relativize(filename);
+        Entry entry = previous.get(path);
+        if (entry != null) {
+            current.put(path, entry);
+        }
+    }
+
+    /**
+     * Write the entries recorded or kept during this run.
+     *
+     * @return the manifest file
+     * @throws IOException if the manifest can't be written
+     */
+    public File save() throws IOException {
+        File file = new File(outputDir, MANIFEST_FILE);
+        file.getParentFile().mkdirs();
+        Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8"));
+        try {
+            out.write(HEADER);
+            out.write('\n');
+            for (Map.Entry<String, Entry> e : new TreeMap<String, Entry>(current).entrySet()) {
+                Entry entry = e.getValue();
+                out.write(entry.fingerprint + " " + entry.size + " " + entry.contentHash + " " + e.getKey());
+                out.write('\n');
+            }
+        } finally {
+            out.close();
+        }
+        return file;
+    }
+
+    private String relativize(String filename) {
+        String path = new File(filename).getAbsolutePath();
+        String root = new File(outputDir).getAbsolutePath() + File.separator;
+        if (path.startsWith(root)) {
+            path = path.substring(root.length());
+        }
+        return path.replace(File.separatorChar, '/');
+    }
+
+    /**
+     * Compute a fingerprint (SHA-1, hex encoded) of the given parts. Strings are hashed as they
+     * are, other objects by their JSON representation with map entries ordered by key.
+     *
+     * @param parts Inputs to fingerprint
+     * @return hex encoded fingerprint
+     */
+    public static String fingerprint(Object... parts) {
+        MessageDigest digest = newDigest();
+        for (Object part : parts) {
+            update(digest, toFingerprintString(part));
+            digest.update((byte) 0);
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Fingerprint of a map of options (e.g. additional properties), ignoring the given keys.
+     * Values that can't be serialized (Mustache lambdas and the like) contribute their class name.
+     *
+     * @param options Options to fingerprint
+     * @param ignoredKeys Keys whose values change on every run, e.g. the generated date
+     * @return hex encoded fingerprint
+     */
+    public static String fingerprintOptions(Map<String, ?> options, String... ignoredKeys) {
+        List<String> ignored = Arrays.asList(ignoredKeys);
+        Map<String, String> values = new TreeMap<String, String>();
+        for (Map.Entry<String, ?> entry : options.entrySet()) {
+            if (!ignored.contains(entry.getKey())) {
+                values.put(entry.getKey(), toOptionString(entry.getValue()));
+            }
+        }
+        return fingerprint(values);
+    }
+
+    private static String toOptionString(Object value) {
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) {
+            return String.valueOf(value);
+        }
+        if (value instanceof Mustache.Lambda) {
+            return value.getClass().getName();
+        }
+        try {
+            return MAPPER.writeValueAsString(value);
+        } catch (Exception e) {
+            return value.getClass().getName();
+        }
+    }
+
+    private static String toFingerprintString(Object part) {
+        if (part == null) {
+            return "null";
+        }
+        if (part instanceof String) {
+            return (String) part;
+        }
+        try {
+            return MAPPER.writeValueAsString(part);
+        } catch (Exception e) {
+            // can't tell whether it changed, so make sure it never matches
+            LOGGER.warn("Could not fingerprint " + part.getClass().getName() + ", files depending on it will be regenerated: "
+                    + e.getMessage());
+            return part.getClass().getName() + "@" + System.nanoTime();
+        }
+    }
+
+    private static ObjectMapper fingerprintMapper() {
+        ObjectMapper mapper = Json.mapper().copy()
+                .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+        // lazy values are derived from the spec, which is fingerprinted anyway
+        mapper.addMixInAnnotations(CodegenModel.class, LazyModelJson.class);
+        mapper.addMixInAnnotations(CodegenOperation.class, LazyExamples.class);
+        mapper.addMixInAnnotations(CodegenParameter.class, LazyJsonSchema.class);
+        mapper.addMixInAnnotations(CodegenResponse.class, LazyJsonSchema.class);
+        mapper.addMixInAnnotations(CodegenProperty.class, LazyJsonSchema.class);
+        return mapper;
+    }
+
+    private abstract static class LazyModelJson {
+        @JsonIgnore
+        public abstract String getModelJson();
+    }
+
+    private abstract static class LazyExamples {
+        @JsonIgnore
+        public abstract List<Map<String, String>> getExamples();
+    }
+
+    private abstract static class LazyJsonSchema {
+        @JsonIgnore
+        public abstract String getJsonSchema();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        try {
+            digest.update(value.getBytes("UTF-8"));
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] hex = "0123456789abcdef".toCharArray();
+        char[] out = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            out[i * 2] = hex[(bytes[i] >> 4) & 0xf];
+            out[i * 2 + 1] = hex[bytes[i] & 0xf];
+        }
+        return new String(out);
+    }
+
+    private static String contentHash(File file) {
+        MessageDigest digest = newDigest();
+        InputStream in = null;
+        try {
+            in = new FileInputStream(file);
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return toHex(digest.digest());
+        } catch (IOException e) {
+            return "";
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+    }
+
+    private static class Entry {
+        final String fingerprint;
+        final long size;
+        final String contentHash;
+
+        Entry(String fingerprint, long size, String contentHash) {
+            this.fingerprint = fingerprint;
+            this.size = size;
+            this.contentHash = contentHash;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.swagger.codegen;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Switches of a single generation run, such as the files to generate and the debug output, so
+ * that runs in the same JVM don't affect each other.
+ *
+ * Options that are not set fall back to the system property of the same name if the options
+ * were created by {@link #fromSystemProperties()}, which keeps <code>java -Dmodels ...</code>
+ * working on the command line.
+ */
+public class GenerationOptions {
+    /** Comma separated models to generate, empty for all */
+    public static final String MODELS = "models";
+    /** Comma separated APIs to generate, empty for all */
+    public static final String APIS = "apis";
+    /** Comma separated supporting files to generate, empty for all */
+    public static final String SUPPORTING_FILES = "supportingFiles";
+    public static final String DEBUG_SWAGGER = "debugSwagger";
+    public static final String DEBUG_MODELS = "debugModels";
+    public static final String DEBUG_OPERATIONS = "debugOperations";
+    public static final String DEBUG_SUPPORTING_FILES = "debugSupportingFiles";
+    public static final String DEBUG_PARSER = "debugParser";
+
+    private final Map<String, String> options = new HashMap<String, String>();
+    private final boolean systemFallback;
+
+    /**
+     * Options of a run that ignores system properties.
+     */
+    public GenerationOptions() {
+        this(false);
+    }
+
+    private GenerationOptions(boolean systemFallback) {
+        this.systemFallback = systemFallback;
+    }
+
+    /**
+     * @return options falling back to system properties
+     */
+    public static GenerationOptions fromSystemProperties() {
+        return new GenerationOptions(true);
+    }
+
+    /**
+     * @param name Option name
+     * @param value Option value, empty to switch the option on, null to unset it
+     * @return this options
+     */
+    public GenerationOptions set(String name, String value) {
+        options.put(name, value);
+        return this;
+    }
+
+    /**
+     * @param name Option name
+     * @return the value of the option, or null if it is not set
+     */
+    public String get(String name) {
+        if (options.containsKey(name)) {
+            return options.get(name);
+        }
+        return systemFallback ? System.getProperty(name) : null;
+    }
+
+    /**
+     * @param name Option name
+     * @param defaultValue Value if the option is not set
+     * @return the value of the option
+     */
+    public String get(String name, String defaultValue) {
+        String value = get(name);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * @param name Option name
+     * @return true if the option is set, to any value
+     */
+    public boolean isSet(String name) {
+        return get(name) != null;
+    }
+
+    /**
+     * @return the options set explicitly, without system properties
+     */
+    public Map<String, String> getOptions() {
+        return Collections.unmodifiableMap(options);
+    }
+
+    public boolean isSystemFallback() {
+        return systemFallback;
+    }
+}
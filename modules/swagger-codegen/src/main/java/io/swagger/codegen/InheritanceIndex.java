@@ -0,0 +1,119 @@
+package io.swagger.codegen;
+
+import io.swagger.models.ComposedModel;
+import io.swagger.models.Model;
+import io.swagger.models.RefModel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parents, children and inheritance depth of the model definitions of a spec, computed once
+ * per run. A model's parent is the parent of its allOf composition; parents that are not
+ * defined in the spec are ignored.
+ */
+public class InheritanceIndex {
+    private final Map<String, String> parents = new HashMap<String, String>();
+    private final Map<String, List<String>> children = new HashMap<String, List<String>>();
+    private final Map<String, Integer> depths = new HashMap<String, Integer>();
+    private final List<String> sortedNames;
+
+    public InheritanceIndex(Map<String, Model> definitions) {
+        for (Map.Entry<String, Model> entry : definitions.entrySet()) {
+            if (!(entry.getValue() instanceof ComposedModel)) {
+                continue;
+            }
+            Model parent = ((ComposedModel) entry.getValue()).getParent();
+            if (parent instanceof RefModel) {
+                String parentName = ((RefModel) parent).getSimpleRef();
+                if (definitions.containsKey(parentName)) {
+                    parents.put(entry.getKey(), parentName);
+                    List<String> siblings = children.get(parentName);
+                    if (siblings == null) {
+                        siblings = new ArrayList<String>();
+                        children.put(parentName, siblings);
+                    }
+                    siblings.add(entry.getKey());
+                }
+            }
+        }
+
+        // order by depth, keeping the order of the definitions within the same depth
+        List<List<String>> byDepth = new ArrayList<List<String>>();
+        for (String name : definitions.keySet()) {
+            int depth = depth(name);
+            while (byDepth.size() <= depth) {
+                byDepth.add(new ArrayList<String>());
+            }
+            byDepth.get(depth).add(name);
+        }
+        List<String> sorted = new ArrayList<String>(definitions.size());
+        for (List<String> names : byDepth) {
+            sorted.addAll(names);
+        }
+        sortedNames = Collections.unmodifiableList(sorted);
+    }
+
+    private int depth(String name) {
+        Integer depth = depths.get(name);
+        if (depth != null) {
+            return depth;
+        }
+        // walk up to the first ancestor with a known depth, stopping at cycles
+        List<String> chain = new ArrayList<String>();
+        String current = name;
+        int base = -1;
+        while (current != null) {
+            Integer known = depths.get(current);
+            if (known != null) {
+                base = known;
+                break;
+            }
+            if (chain.contains(current)) {
+                break;
+            }
+            chain.add(current);
+            current = parents.get(current);
+        }
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            depths.put(chain.get(i), ++base);
+        }
+        return depths.get(name);
+    }
+
+    /**
+     * @param name Model name
+     * @return the name of the parent model, or null if the model has none
+     */
+    public String getParent(String name) {
+        return parents.get(name);
+    }
+
+    /**
+     * @param name Model name
+     * @return the names of the models whose parent is the given model
+     */
+    public List<String> getChildren(String name) {
+        List<String> names = children.get(name);
+        return names == null ? Collections.<String>emptyList() : Collections.unmodifiableList(names);
+    }
+
+    /**
+     * @param name Model name
+     * @return the number of ancestors of the model, 0 for models without parent
+     */
+    public int getDepth(String name) {
+        Integer depth = depths.get(name);
+        return depth == null ? 0 : depth;
+    }
+
+    /**
+     * @return the names of all models, parents before their children
+     */
+    public List<String> getSortedNames() {
+        return sortedNames;
+    }
+}
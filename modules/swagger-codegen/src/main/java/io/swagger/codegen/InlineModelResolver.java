@@ -1,10 +1,10 @@
 package io.swagger.codegen;
 
+import io.swagger.codegen.utils.ModelHash;
 import io.swagger.models.*;
 import io.swagger.models.parameters.BodyParameter;
 import io.swagger.models.parameters.Parameter;
 import io.swagger.models.properties.*;
-import io.swagger.util.Json;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -12,17 +12,21 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 public class InlineModelResolver {
     private Swagger swagger;
     private boolean skipMatches;
     static Logger LOGGER = LoggerFactory.getLogger(InlineModelResolver.class);
+    private static final Pattern INVALID_NAME_CHARS = Pattern.compile("[^a-z_\\.A-Z0-9 ]");
 
     Map<String, Model> addedModels = new HashMap<String, Model>();
-    Map<String, String> generatedSignature = new HashMap<String, String>();
+    Map<String, Integer> nameSuffixes = new HashMap<String, Integer>();
+    Map<ModelHash, List<GeneratedModel>> generatedModels = new HashMap<ModelHash, List<GeneratedModel>>();
 
     public void flatten(Swagger swagger) {
         this.swagger = swagger;
+        this.nameSuffixes.clear();
 
         if (swagger.getDefinitions() == null) {
             swagger.setDefinitions(new HashMap<String, Model>());
@@ -176,38 +180,68 @@ public class InlineModelResolver {
         }
     }
 
+    /**
+     * Find a generated model that is structurally equal to the given one. Candidates are looked up
+     * by their structural hash, so models are only compared when a match is likely.
+     *
+     * Generated models are compared as they are now. Flattening them again (as definitions) leaves
+     * them unchanged, so this is the shape they had when they were added.
+     *
+     * @param model Inline model
+     * @return the name of the matching generated model, or null
+     */
     public String matchGenerated(Model model) {
         if (this.skipMatches) {
             return null;
         }
-        String json = Json.pretty(model);
-        if (generatedSignature.containsKey(json)) {
-            return generatedSignature.get(json);
+        List<GeneratedModel> candidates = generatedModels.get(ModelHash.of(model));
+        if (candidates == null) {
+            return null;
+        }
+        // the model added last wins, as it did when models were keyed by their JSON
+        for (int i = candidates.size() - 1; i >= 0; i--) {
+            GeneratedModel candidate = candidates.get(i);
+            if (model.equals(candidate.model)) {
+                return candidate.name;
+            }
         }
         return null;
     }
 
     public void addGenerated(String name, Model model) {
-        generatedSignature.put(Json.pretty(model), name);
+        ModelHash hash = ModelHash.of(model);
+        List<GeneratedModel> candidates = generatedModels.get(hash);
+        if (candidates == null) {
+            candidates = new ArrayList<GeneratedModel>(1);
+            generatedModels.put(hash, candidates);
+        }
+        candidates.add(new GeneratedModel(name, model));
     }
 
+    /**
+     * Allocate a definition name for an inline model: the cleaned key, or the key followed by
+     * <code>_1</code>, <code>_2</code>, ... if it is taken. Definitions are only ever added, so
+     * probing resumes at the last suffix handed out for the key instead of starting over.
+     *
+     * @param key Base name
+     * @return a name that is not defined yet
+     */
     public String uniqueName(String key) {
-        int count = 0;
-        boolean done = false;
-        key = key.replaceAll("[^a-z_\\.A-Z0-9 ]", ""); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-        while (!done) {
-            String name = key;
-            if (count > 0) {
-                name = key + "_" + count;
-            }
-            if (swagger.getDefinitions() == null) {
-                return name;
-            } else if (!swagger.getDefinitions().containsKey(name)) {
-                return name;
-            }
+        key = INVALID_NAME_CHARS.matcher(key).replaceAll(""); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
+        Map<String, Model> definitions = swagger.getDefinitions();
+        if (definitions == null) {
+            return key;
+        }
+        Integer next = nameSuffixes.get(key);
+        int count = next == null ? 0 : next;
+        String name = count > 0 ? key + "_" + count : key;
+        while (definitions.containsKey(name)) {
             count += 1;
+            name = key + "_" + count;
         }
-        return key;
+        // the name may not be used if the model matches an existing one, so don't skip it
+        nameSuffixes.put(key, count);
+        return name;
     }
 
     public void flattenProperties(Map<String, Property> properties, String path) {
@@ -366,4 +400,13 @@ public class InlineModelResolver {
         this.skipMatches = skipMatches;
     }
 
+    static class GeneratedModel {
+        final String name;
+        final Model model;
+
+        GeneratedModel(String name, Model model) {
+            this.name = name;
+            this.model = model;
+        }
+    }
 }
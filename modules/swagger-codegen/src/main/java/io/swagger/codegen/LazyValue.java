@@ -0,0 +1,75 @@
+package io.swagger.codegen;
+
+import io.swagger.codegen.metrics.GenerationMetrics;
+import io.swagger.util.Json;
+
+/**
+ * A derived value of a codegen object that is expensive to compute and needed by few templates,
+ * such as the JSON of a model. It is computed when first requested, i.e. when a template
+ * resolves the corresponding getter.
+ *
+ * With metrics, computations are timed in the {@link GenerationMetrics#LAZY_VALUE} phase and the
+ * counters <code>name.created</code> and <code>name.computed</code> tell how much work was skipped.
+ *
+ * @param <T> type of the value
+ */
+public abstract class LazyValue<T> {
+    private final String name;
+    private final GenerationMetrics metrics;
+    private boolean computed;
+    private T value;
+
+    /**
+     * @param name Name of the value, e.g. the field it backs
+     * @param metrics Metrics of the run, may be null
+     */
+    protected LazyValue(String name, GenerationMetrics metrics) {
+        this.name = name;
+        this.metrics = metrics;
+        if (metrics != null) {
+            metrics.increment(name + ".created");
+        }
+    }
+
+    protected abstract T compute();
+
+    /**
+     * @return the object the value is derived from, which identifies the value without computing
+     * it, or null if it is not known
+     */
+    public Object getSource() {
+        return null;
+    }
+
+    public synchronized T get() {
+        if (!computed) {
+            if (metrics != null) {
+                GenerationMetrics.Timer timer = metrics.start(GenerationMetrics.LAZY_VALUE, name);
+                value = compute();
+                timer.stop();
+                metrics.increment(name + ".computed");
+            } else {
+                value = compute();
+            }
+            computed = true;
+        }
+        return value;
+    }
+
+    /**
+     * Lazy JSON of a spec object.
+     */
+    public static LazyValue<String> json(String name, final Object object, GenerationMetrics metrics) {
+        return new LazyValue<String>(name, metrics) {
+            @Override
+            protected String compute() {
+                return Json.pretty(object);
+            }
+
+            @Override
+            public Object getSource() {
+                return object;
+            }
+        };
+    }
+}
@@ -0,0 +1,122 @@
+package io.swagger.codegen;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of name conversions (model names, variable names, imports, ...) of one config.
+ * The conversions depend only on their input and on the options of the config, so a cache must
+ * only be installed once the options have been processed and must not outlive the run.
+ *
+ * Each conversion keeps at most <code>maxSize</code> entries; the least recently used ones are
+ * evicted first.
+ *
+ * camelize and underscore don't depend on any options, so they are cached once for all configs
+ * (see {@link DefaultCodegen#getSharedNameCache()}) instead.
+ */
+public class NameCache {
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    public enum Conversion {
+        MODEL_NAME, VAR_NAME, PARAM_NAME, API_NAME, MODEL_FILENAME, MODEL_IMPORT,
+        CAMELIZE, CAMELIZE_LOWERCASE_FIRST, UNDERSCORE
+    }
+
+    private final int maxSize;
+    private final Map<Conversion, Map<String, String>> caches = new EnumMap<Conversion, Map<String, String>>(Conversion.class);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public NameCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize Maximum number of entries per conversion
+     */
+    public NameCache(final int maxSize) {
+        this.maxSize = maxSize;
+        for (Conversion conversion : Conversion.values()) {
+            caches.put(conversion, new LinkedHashMap<String, String>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > maxSize;
+                }
+            });
+        }
+    }
+
+    /**
+     * Look up a converted name, counting the lookup as a hit or a miss.
+     *
+     * @param conversion Conversion
+     * @param name Input of the conversion
+     * @return the converted name, or null if it is not cached
+     */
+    public String get(Conversion conversion, String name) {
+        Map<String, String> cache = caches.get(conversion);
+        String converted;
+        synchronized (cache) {
+            converted = cache.get(name);
+        }
+        if (converted != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return converted;
+    }
+
+    public void put(Conversion conversion, String name, String converted) {
+        Map<String, String> cache = caches.get(conversion);
+        synchronized (cache) {
+            cache.put(name, converted);
+        }
+    }
+
+    public void clear() {
+        for (Map<String, String> cache : caches.values()) {
+            synchronized (cache) {
+                cache.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<String, String> cache : caches.values()) {
+            synchronized (cache) {
+                size += cache.size();
+            }
+        }
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return share of the lookups that were hits, 0 if there were none
+     */
+    public double getHitRate() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0 : (double) hits.get() / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("NameCache: {entries: %d, hits: %d, misses: %d, hit rate: %.1f%%}",
+                size(), hits.get(), misses.get(), getHitRate() * 100);
+    }
+}
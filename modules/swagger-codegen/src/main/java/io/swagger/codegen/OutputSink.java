@@ -0,0 +1,56 @@
+package io.swagger.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Destination of the files produced by a generator. Implementations may decide not to touch a
+ * file, e.g. because its content would not change.
+ */
+public interface OutputSink {
+    /**
+     * Open a stream to a file, creating parent directories as needed. The file is complete once
+     * the stream has been closed; if the stream is discarded instead, the file is left as it was.
+     *
+     * @param filename Output file
+     * @return stream to write the content of the file to
+     * @throws IOException if the file can't be opened
+     */
+    SinkOutputStream open(String filename) throws IOException;
+
+    /**
+     * Write the given content to a file, creating parent directories as needed.
+     *
+     * @param filename Output file
+     * @param contents File content
+     * @return the output file
+     * @throws IOException if the file can't be written
+     */
+    File write(String filename, byte[] contents) throws IOException;
+
+    /**
+     * Write the content of the given stream to a file. The stream is not closed.
+     *
+     * @param filename Output file
+     * @param contents File content
+     * @return the output file
+     * @throws IOException if the stream can't be read or the file can't be written
+     */
+    File write(String filename, InputStream contents) throws IOException;
+
+    /**
+     * @return number of files written
+     */
+    long getWrittenCount();
+
+    /**
+     * @return number of files left untouched because their content did not change
+     */
+    long getSkippedCount();
+
+    /**
+     * @return number of bytes written
+     */
+    long getBytesWritten();
+}
@@ -0,0 +1,15 @@
+package io.swagger.codegen;
+
+import java.io.OutputStream;
+
+/**
+ * Stream to a file of an {@link OutputSink}. Closing the stream completes the file, discarding
+ * it leaves the file as it was before the stream was opened.
+ */
+public abstract class SinkOutputStream extends OutputStream {
+    /**
+     * Close the stream without completing the file, e.g. because rendering its content failed.
+     * Does nothing if the stream has already been closed.
+     */
+    public abstract void discard();
+}
@@ -0,0 +1,78 @@
+package io.swagger.codegen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the tasks of a generation (models, apis, batch targets) on a bounded pool of threads.
+ */
+final class TaskRunner {
+
+    private TaskRunner() {
+    }
+
+    /**
+     * Run the given tasks and return their results in task order. With more than one thread and
+     * more than one task the tasks run on a pool of at most <code>threads</code> threads,
+     * otherwise one after the other on the calling thread. The first failure is rethrown
+     * unwrapped if it is a RuntimeException or an Error.
+     *
+     * @param tasks Tasks to run
+     * @param threads Maximum number of threads
+     * @return the results of the tasks
+     */
+    static <T> List<T> run(List<Callable<T>> tasks, int threads) {
+        checkInterrupted();
+        List<T> results = new ArrayList<T>(tasks.size());
+        if (threads <= 1 || tasks.size() <= 1) {
+            for (Callable<T> task : tasks) {
+                checkInterrupted();
+                try {
+                    results.add(task.call());
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            return results;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, tasks.size()));
+        try {
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while generating", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    /**
+     * Stop generating once the thread was interrupted, e.g. because the generation took too long,
+     * instead of rendering the remaining files for nobody.
+     */
+    static void checkInterrupted() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new RuntimeException("Interrupted while generating");
+        }
+    }
+}
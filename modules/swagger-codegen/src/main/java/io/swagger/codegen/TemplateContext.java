@@ -0,0 +1,173 @@
+package io.swagger.codegen;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Template data of one file: a map of its own entries on top of a read-only layer of global
+ * properties (the additional properties of the config), which is shared between files instead
+ * of being copied into each of them.
+ *
+ * Lookups give the same results as copying the global properties into the file's map, i.e.
+ * global properties replace entries of the file with the same key, and entries put afterwards
+ * replace global properties. Entries of the global layer can be removed or replaced, which only
+ * affects this file.
+ */
+public class TemplateContext extends AbstractMap<String, Object> {
+    private final Map<String, Object> local;
+    private final Map<String, Object> globals;
+    private final Set<String> hidden;
+
+    /**
+     * @param local Entries of the file; used as the local layer, without the keys of the globals
+     * @param globals Global properties, which must not change while this context is in use
+     */
+    public TemplateContext(Map<String, Object> local, Map<String, Object> globals) {
+        this(local, globals, new HashSet<String>());
+        local.keySet().removeAll(globals.keySet());
+    }
+
+    private TemplateContext(Map<String, Object> local, Map<String, Object> globals, Set<String> hidden) {
+        this.local = local;
+        this.globals = globals;
+        this.hidden = hidden;
+    }
+
+    /**
+     * Copy the given template data. A template context is copied without its global layer.
+     *
+     * @param map Template data
+     * @return a copy that can be changed independently
+     */
+    public static Map<String, Object> copyOf(Map<String, Object> map) {
+        if (map instanceof TemplateContext) {
+            TemplateContext context = (TemplateContext) map;
+            return new TemplateContext(new HashMap<String, Object>(context.local), context.globals,
+                    new HashSet<String>(context.hidden));
+        }
+        return new HashMap<String, Object>(map);
+    }
+
+    private boolean isGlobal(Object key) {
+        return !local.containsKey(key) && globals.containsKey(key) && !hidden.contains(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (local.containsKey(key)) {
+            return local.get(key);
+        }
+        return hidden.contains(key) ? null : globals.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return local.containsKey(key) || (globals.containsKey(key) && !hidden.contains(key));
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Object previous = get(key);
+        local.put(key, value);
+        hidden.remove(key);
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Object previous = get(key);
+        local.remove(key);
+        if (globals.containsKey(key)) {
+            hidden.add((String) key);
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        hidden.addAll(globals.keySet());
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return new AbstractSet<Map.Entry<String, Object>>() {
+            @Override
+            public Iterator<Map.Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                int size = local.size();
+                for (String key : globals.keySet()) {
+                    if (isGlobal(key)) {
+                        size++;
+                    }
+                }
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Iterates over the local entries, then over the visible global ones.
+     */
+    private class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+        private final Iterator<Map.Entry<String, Object>> localEntries = local.entrySet().iterator();
+        private final Iterator<Map.Entry<String, Object>> globalEntries = globals.entrySet().iterator();
+        private Map.Entry<String, Object> next;
+        private Map.Entry<String, Object> current;
+        private boolean currentIsLocal;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !localEntries.hasNext()) {
+                while (globalEntries.hasNext()) {
+                    Map.Entry<String, Object> entry = globalEntries.next();
+                    if (isGlobal(entry.getKey())) {
+                        next = new SimpleImmutableEntry<String, Object>(entry);
+                        break;
+                    }
+                }
+            }
+            return next != null || localEntries.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (localEntries.hasNext()) {
+                current = localEntries.next();
+                currentIsLocal = true;
+            } else {
+                current = next;
+                next = null;
+                currentIsLocal = false;
+            }
+            return current;
+        }
+
+        @Override
+        public void remove() {
+            if (current == null) {
+                throw new IllegalStateException();
+            }
+            if (currentIsLocal) {
+                localEntries.remove();
+            }
+            if (globals.containsKey(current.getKey())) {
+                hidden.add(current.getKey());
+            }
+            current = null;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package io.swagger.codegen;
+
+import com.samskivert.mustache.Template;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registry of template sources and compiled Mustache templates, keyed by the resolved
+ * template path (see {@link AbstractGenerator#getFullTemplateFile(CodegenConfig, String)}).
+ *
+ * The registry is safe to share between generator runs in the same JVM. Keys are scoped by
+ * the config's template dir and library and by the generator class, because partials are
+ * resolved against those, and a generator subclass may resolve or read templates differently.
+ *
+ * Templates are not reloaded when their files change. Templates read from a user-supplied
+ * template dir must be dropped with {@link #invalidate(String)} once the files on disk have
+ * changed; long-running processes whose template dirs may be edited (build plugins, the CLI
+ * daemon, services, tests that write templates) invalidate the dir before each run, or give the
+ * generator its own registry.
+ *
+ * At most <code>maxSize</code> templates and as many sources are kept; the least recently used
+ * ones are evicted first, so that long-running processes generating from many template dirs
+ * don't grow without bounds.
+ */
+public class TemplateRegistry {
+    public static final int DEFAULT_MAX_SIZE = 2000;
+
+    private static final TemplateRegistry SHARED = new TemplateRegistry();
+
+    private static final String KEY_SEPARATOR = "|";
+
+    private final Map<String, Template> templates;
+    private final Map<String, String> sources;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public TemplateRegistry() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize Maximum number of compiled templates, and of template sources
+     */
+    public TemplateRegistry(int maxSize) {
+        this.templates = lruMap(maxSize);
+        this.sources = lruMap(maxSize);
+    }
+
+    private static <V> Map<String, V> lruMap(final int maxSize) {
+        return new LinkedHashMap<String, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return the registry shared by all generators in this JVM
+     */
+    public static TemplateRegistry getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Build the registry key of a resolved template file for the given config.
+     *
+     * @param config Codegen config
+     * @param resolver Class of the generator that resolves and reads the templates
+     * @param fullTemplateFile Template file path as returned by getFullTemplateFile
+     * @return registry key
+     */
+    public static String key(CodegenConfig config, Class<?> resolver, String fullTemplateFile) {
+        return config.templateDir() + KEY_SEPARATOR + config.getLibrary() + KEY_SEPARATOR + resolver.getName()
+                + KEY_SEPARATOR + fullTemplateFile;
+    }
+
+    /**
+     * Look up a compiled template, counting the lookup as a hit or a miss.
+     *
+     * @param key registry key
+     * @return the compiled template, or null if it has not been registered yet
+     */
+    public Template getTemplate(String key) {
+        Template template;
+        synchronized (templates) {
+            template = templates.get(key);
+        }
+        if (template != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return template;
+    }
+
+    /**
+     * Register a compiled template. If another thread registered one for the same key first,
+     * that one is kept and returned.
+     *
+     * @param key registry key
+     * @param template compiled template
+     * @return the template held by the registry for the key
+     */
+    public Template putTemplate(String key, Template template) {
+        synchronized (templates) {
+            Template existing = templates.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            templates.put(key, template);
+            return template;
+        }
+    }
+
+    /**
+     * Look up the source of a template or partial, counting the lookup as a hit or a miss.
+     *
+     * @param key registry key
+     * @return the template source, or null if it has not been registered yet
+     */
+    public String getSource(String key) {
+        String source;
+        synchronized (sources) {
+            source = sources.get(key);
+        }
+        if (source != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return source;
+    }
+
+    public void putSource(String key, String source) {
+        synchronized (sources) {
+            if (!sources.containsKey(key)) {
+                sources.put(key, source);
+            }
+        }
+    }
+
+    /**
+     * Drop all templates and partials that were resolved against, or read from, the given
+     * template dir.
+     *
+     * @param templateDir user-supplied template dir
+     */
+    public void invalidate(String templateDir) {
+        if (templateDir == null) {
+            return;
+        }
+        String scope = templateDir + KEY_SEPARATOR;
+        String dir = templateDir.endsWith(File.separator) ? templateDir : templateDir + File.separator;
+        synchronized (templates) {
+            invalidate(templates.keySet().iterator(), scope, dir);
+        }
+        synchronized (sources) {
+            invalidate(sources.keySet().iterator(), scope, dir);
+        }
+    }
+
+    private static void invalidate(Iterator<String> keys, String scope, String dir) {
+        while (keys.hasNext()) {
+            String key = keys.next();
+            String path = key.substring(key.lastIndexOf(KEY_SEPARATOR) + 1);
+            if (key.startsWith(scope) || path.startsWith(dir)) {
+                keys.remove();
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (templates) {
+            templates.clear();
+        }
+        synchronized (sources) {
+            sources.clear();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public int size() {
+        synchronized (templates) {
+            return templates.size();
+        }
+    }
+
+    @Override
+    public String toString() {
+        int sourceCount;
+        synchronized (sources) {
+            sourceCount = sources.size();
+        }
+        return "TemplateRegistry: {templates: " + size() + ", sources: " + sourceCount
+                + ", hits: " + hits.get() + ", misses: " + misses.get() + "}";
+    }
+}
@@ -0,0 +1,163 @@
+package io.swagger.codegen;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Output sink that writes all files into one zip archive instead of the file system. Entries
+ * are named by the path of the file relative to the root folder.
+ *
+ * Files may be rendered in parallel, so each file opened with {@link #open(String)} is buffered
+ * until its stream is closed and then added to the archive as a whole. A file that was already
+ * added is not added again.
+ */
+public class ZipOutputSink implements OutputSink {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ZipOutputSink.class);
+
+    private final ZipOutputStream zip;
+    private final String root;
+    private final Set<String> entries = new HashSet<String>();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    /**
+     * @param out Stream to write the archive to, closed by {@link #close()}
+     * @param root Folder the entry names are relative to
+     */
+    public ZipOutputSink(OutputStream out, String root) {
+        this.zip = new ZipOutputStream(out);
+        this.root = new File(root).getAbsolutePath() + File.separator;
+    }
+
+    @Override
+    public SinkOutputStream open(final String filename) throws IOException {
+        return new SinkOutputStream() {
+            private Buffer buffer = new Buffer();
+
+            @Override
+            public void write(int b) {
+                buffer.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                buffer.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (buffer != null) {
+                    Buffer content = buffer;
+                    buffer = null;
+                    addEntry(filename, content.array(), content.size());
+                }
+            }
+
+            @Override
+            public void discard() {
+                buffer = null;
+            }
+        };
+    }
+
+    @Override
+    public File write(String filename, byte[] contents) throws IOException {
+        addEntry(filename, contents, contents.length);
+        return new File(filename);
+    }
+
+    @Override
+    public File write(String filename, InputStream contents) throws IOException {
+        synchronized (zip) {
+            if (putNextEntry(filename)) {
+                bytesWritten.addAndGet(IOUtils.copy(contents, zip));
+                zip.closeEntry();
+            }
+        }
+        return new File(filename);
+    }
+
+    private void addEntry(String filename, byte[] contents, int length) throws IOException {
+        synchronized (zip) {
+            if (putNextEntry(filename)) {
+                zip.write(contents, 0, length);
+                zip.closeEntry();
+                bytesWritten.addAndGet(length);
+            }
+        }
+    }
+
+    private boolean putNextEntry(String filename) throws IOException {
+        String name = entryName(filename);
+        if (!entries.add(name)) {
+            LOGGER.warn("skipping duplicate file " + filename);
+            skipped.incrementAndGet();
+            return false;
+        }
+        zip.putNextEntry(new ZipEntry(name));
+        written.incrementAndGet();
+        return true;
+    }
+
+    private String entryName(String filename) {
+        String path = new File(filename).getAbsolutePath();
+        if (path.startsWith(root)) {
+            path = path.substring(root.length());
+        }
+        return path.replace(File.separatorChar, '/');
+    }
+
+    /**
+     * Complete the archive and close the underlying stream.
+     *
+     * @throws IOException if the archive can't be written
+     */
+    public void close() throws IOException {
+        synchronized (zip) {
+            zip.close();
+        }
+    }
+
+    @Override
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    @Override
+    public long getSkippedCount() {
+        return skipped.get();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ZipOutputSink: {written: " + written.get() + ", skipped: " + skipped.get()
+                + ", bytes: " + bytesWritten.get() + "}";
+    }
+
+    private static class Buffer extends ByteArrayOutputStream {
+        /**
+         * @return the content without copying it
+         */
+        byte[] array() {
+            return buf;
+        }
+    }
+}
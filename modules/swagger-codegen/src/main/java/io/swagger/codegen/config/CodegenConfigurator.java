@@ -8,6 +8,7 @@ import io.swagger.codegen.ClientOpts;
 import io.swagger.codegen.CodegenConfig;
 import io.swagger.codegen.CodegenConfigLoader;
 import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.GenerationOptions;
 import io.swagger.codegen.auth.AuthParser;
 import io.swagger.models.Swagger;
 import io.swagger.models.auth.AuthorizationValue;
@@ -300,8 +301,39 @@ public class CodegenConfigurator {
         Validate.notEmpty(lang, "language must be specified");
         Validate.notEmpty(inputSpec, "input spec must be specified");
 
-        setVerboseFlags();
-        setSystemProperties();
+        ClientOptInput input = createClientOptInput();
+
+        final List<AuthorizationValue> authorizationValues = AuthParser.parse(auth);
+
+        Swagger swagger = new SwaggerParser().read(inputSpec, authorizationValues, true);
+
+        input.opts(new ClientOpts())
+                .swagger(swagger);
+
+        return input;
+    }
+
+    /**
+     * Create the generator input for an already parsed spec, e.g. one spec shared by several
+     * targets. The input spec and auth settings of this configurator are ignored.
+     *
+     * @param swagger Parsed spec
+     * @return generator input
+     */
+    public ClientOptInput toClientOptInput(Swagger swagger) {
+
+        Validate.notEmpty(lang, "language must be specified");
+
+        return createClientOptInput()
+                .opts(new ClientOpts())
+                .swagger(swagger);
+    }
+
+    private ClientOptInput createClientOptInput() {
+
+        GenerationOptions generationOptions = GenerationOptions.fromSystemProperties();
+        setVerboseFlags(generationOptions);
+        setSystemProperties(generationOptions);
 
         CodegenConfig config = CodegenConfigLoader.forName(lang);
 
@@ -331,17 +363,9 @@ public class CodegenConfigurator {
 
         config.additionalProperties().putAll(additionalProperties);
 
-        ClientOptInput input = new ClientOptInput()
-                .config(config);
-
-        final List<AuthorizationValue> authorizationValues = AuthParser.parse(auth);
-
-        Swagger swagger = new SwaggerParser().read(inputSpec, authorizationValues, true);
-
-        input.opts(new ClientOpts())
-                .swagger(swagger);
-
-        return input;
+        return new ClientOptInput()
+                .config(config)
+                .generationOptions(generationOptions);
     }
 
     @JsonAnySetter
@@ -367,7 +391,7 @@ public class CodegenConfigurator {
         }
     }
 
-    private void setVerboseFlags() {
+    private void setVerboseFlags(GenerationOptions generationOptions) {
         if (!verbose) {
             return;
         }
@@ -377,15 +401,19 @@ public class CodegenConfigurator {
                 "\n - [debugOperations] prints operations passed to the template engine" +
                 "\n - [debugSupportingFiles] prints additional data passed to the template engine");
 
-        System.setProperty("debugSwagger", "");
-        System.setProperty("debugModels", "");
-        System.setProperty("debugOperations", "");
-        System.setProperty("debugSupportingFiles", "");
+        generationOptions.set(GenerationOptions.DEBUG_SWAGGER, "");
+        generationOptions.set(GenerationOptions.DEBUG_MODELS, "");
+        generationOptions.set(GenerationOptions.DEBUG_OPERATIONS, "");
+        generationOptions.set(GenerationOptions.DEBUG_SUPPORTING_FILES, "");
     }
 
-    private void setSystemProperties() {
+    /**
+     * System properties given to the configurator only apply to its own run, unlike JVM
+     * system properties, which all runs fall back to.
+     */
+    private void setSystemProperties(GenerationOptions generationOptions) {
         for (Map.Entry<String, String> entry : systemProperties.entrySet()) {
-            System.setProperty(entry.getKey(), entry.getValue());
+            generationOptions.set(entry.getKey(), entry.getValue());
         }
     }
 
@@ -0,0 +1,97 @@
+package io.swagger.codegen.examples;
+
+import io.swagger.models.properties.ArrayProperty;
+import io.swagger.models.properties.Property;
+import io.swagger.models.properties.RefProperty;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Response examples generated during one run, keyed by media type and referenced model, so that
+ * operations returning the same model (or an array of it) share one example.
+ *
+ * Examples only depend on the model definitions, which must not change while the cache is in
+ * use. Only references to models and arrays of them are cached; other schemas are cheap to
+ * resolve or depend on more than the model name (e.g. examples given in the spec).
+ */
+public class ExampleCache {
+    private final ConcurrentMap<String, Example> examples = new ConcurrentHashMap<String, Example>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param mediaType Media type of the example
+     * @param property Schema of the response
+     * @return the key of the example, or null if examples of the schema are not cached
+     */
+    public static String key(String mediaType, Property property) {
+        String schema = schemaKey(property);
+        return schema == null ? null : mediaType + " " + schema;
+    }
+
+    private static String schemaKey(Property property) {
+        if (property == null || property.getExample() != null || property.getXml() != null) {
+            return null;
+        }
+        if (property instanceof RefProperty) {
+            return "#" + ((RefProperty) property).getSimpleRef();
+        }
+        if (property instanceof ArrayProperty) {
+            String items = schemaKey(((ArrayProperty) property).getItems());
+            return items == null ? null : "[" + items;
+        }
+        return null;
+    }
+
+    public Example get(String key) {
+        Example example = examples.get(key);
+        if (example != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return example;
+    }
+
+    public void put(String key, Example example) {
+        examples.put(key, example);
+    }
+
+    public int size() {
+        return examples.size();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * A generated example, with the models resolved while generating it.
+     */
+    public static class Example {
+        private final String example;
+        private final Set<String> models;
+
+        public Example(String example, Set<String> models) {
+            this.example = example;
+            this.models = Collections.unmodifiableSet(new HashSet<String>(models));
+        }
+
+        public String getExample() {
+            return example;
+        }
+
+        public Set<String> getModels() {
+            return models;
+        }
+    }
+}
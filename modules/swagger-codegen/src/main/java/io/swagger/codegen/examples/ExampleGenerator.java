@@ -23,6 +23,7 @@ import io.swagger.util.Json;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -31,9 +32,19 @@ import java.util.Set;
 
 public class ExampleGenerator {
     protected Map<String, Model> examples;
+    protected ExampleCache cache;
 
     public ExampleGenerator(Map<String, Model> examples) {
+        this(examples, null);
+    }
+
+    /**
+     * @param examples Model definitions
+     * @param cache Examples already generated for the same definitions, or null
+     */
+    public ExampleGenerator(Map<String, Model> examples, ExampleCache cache) {
         this.examples = examples;
+        this.cache = cache;
     }
 
     public List<Map<String, String>> generate(Map<String, Object> examples, List<String> mediaTypes, Property property) {
@@ -48,14 +59,37 @@ public class ExampleGenerator {
                 Map<String, String> kv = new HashMap<String, String>();
                 kv.put("contentType", mediaType);
                 if (property != null && mediaType.startsWith("application/json")) {
-                    String example = Json.pretty(resolvePropertyToExample(mediaType, property, processedModels));
+                    // models already resolved for another media type are left out, so only
+                    // examples resolved from scratch can be shared
+                    String key = cache == null || !processedModels.isEmpty() ? null : ExampleCache.key(mediaType, property);
+                    ExampleCache.Example cached = key == null ? null : cache.get(key);
+                    String example;
+                    if (cached != null) {
+                        example = cached.getExample();
+                        processedModels.addAll(cached.getModels());
+                    } else {
+                        example = Json.pretty(resolvePropertyToExample(mediaType, property, processedModels));
+                        if (key != null && example != null) {
+                            cache.put(key, new ExampleCache.Example(example, processedModels));
+                        }
+                    }
 
                     if (example != null) {
                         kv.put("example", example);
                         output.add(kv);
                     }
                 } else if (property != null && mediaType.startsWith("application/xml")) {
-                    String example = new XmlExampleGenerator(this.examples).toXml(property);
+                    String key = cache == null ? null : ExampleCache.key(mediaType, property);
+                    ExampleCache.Example cached = key == null ? null : cache.get(key);
+                    String example;
+                    if (cached != null) {
+                        example = cached.getExample();
+                    } else {
+                        example = new XmlExampleGenerator(this.examples).toXml(property);
+                        if (key != null && example != null) {
+                            cache.put(key, new ExampleCache.Example(example, Collections.<String>emptySet()));
+                        }
+                    }
                     if (example != null) {
                         kv.put("example", example);
                         output.add(kv);
@@ -14,57 +14,111 @@ import io.swagger.models.properties.LongProperty;
 import io.swagger.models.properties.Property;
 import io.swagger.models.properties.RefProperty;
 import io.swagger.models.properties.StringProperty;
-import org.codehaus.plexus.util.StringUtils;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 
+/**
+ * Generates XML examples of models and properties.
+ *
+ * The example is written into a single buffer. Models are not expanded inside themselves, nor
+ * beyond <code>maxDepth</code> nested models; once the example exceeds <code>maxSize</code>
+ * characters no further elements are added, but the open elements are still closed.
+ */
 public class XmlExampleGenerator {
+    public static final int DEFAULT_MAX_DEPTH = 64;
+    public static final int DEFAULT_MAX_SIZE = 1024 * 1024;
+
     public static String NEWLINE = "\n";
     public static String TAG_START = "<";
     public static String CLOSE_TAG = ">";
     public static String TAG_END = "</";
-    private static String EMPTY = "";
+    private static final int INDENT_CACHE_SIZE = 32;
+    private static final String[] INDENTS = new String[INDENT_CACHE_SIZE];
+
+    static {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < INDENT_CACHE_SIZE; i++) {
+            INDENTS[i] = sb.toString();
+            sb.append("  ");
+        }
+    }
+
     protected Map<String, Model> examples;
+    protected int maxDepth = DEFAULT_MAX_DEPTH;
+    protected int maxSize = DEFAULT_MAX_SIZE;
 
     public XmlExampleGenerator(Map<String, Model> examples) {
         this.examples = examples;
         if (examples == null) {
-            this.examples = new HashMap<String, Model>(); 
+            this.examples = new HashMap<String, Model>();
         }
     }
 
+    /**
+     * @param maxDepth Maximum number of nested models, deeper models are left out
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * @param maxSize Number of characters after which no further elements are added
+     */
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
     public String toXml(Property property) {
-        return toXml(null, property, 0, Collections.<String>emptySet());
+        StringBuilder sb = new StringBuilder();
+        toXml(sb, null, property, 0, new HashSet<String>());
+        return sb.toString();
     }
 
-    protected String toXml(Model model, int indent, Collection<String> path) {
+    /**
+     * Append the example of a model.
+     *
+     * @param sb Buffer to append to
+     * @param model Model
+     * @param indent Indentation level
+     * @param path Names of the models being expanded, which are left out
+     * @return false if the model could not be resolved, in which case nothing was appended
+     */
+    protected boolean toXml(StringBuilder sb, Model model, int indent, Collection<String> path) {
         if (model instanceof RefModel) {
             RefModel ref = (RefModel) model;
             Model actualModel = examples.get(ref.getSimpleRef());
             if (actualModel instanceof ModelImpl) {
-                return modelImplToXml((ModelImpl) actualModel, indent, path);
+                modelImplToXml(sb, (ModelImpl) actualModel, indent, path);
+                return true;
             }
         } else if (model instanceof ModelImpl) {
-            return modelImplToXml((ModelImpl) model, indent, path);
+            modelImplToXml(sb, (ModelImpl) model, indent, path);
+            return true;
         }
-        return null;
+        return false;
     }
 
-    protected String modelImplToXml(ModelImpl model, int indent, Collection<String> path) {
+    /**
+     * @deprecated use {@link #toXml(StringBuilder, Model, int, Collection)}; no longer called by
+     * this class, so overriding it has no effect
+     */
+    @Deprecated
+    protected String toXml(Model model, int indent, Collection<String> path) {
+        StringBuilder sb = new StringBuilder();
+        return toXml(sb, model, indent, new HashSet<String>(path)) ? sb.toString() : null;
+    }
+
+    protected void modelImplToXml(StringBuilder sb, ModelImpl model, int indent, Collection<String> path) {
         final String modelName = model.getName();
-        if (path.contains(modelName)) {
-            return EMPTY;
+        if (path.contains(modelName) || path.size() >= maxDepth) {
+            return;
         }
-        final Set<String> selfPath = new HashSet<String>(path);
-        selfPath.add(modelName);
+        path.add(modelName);
 
-        StringBuilder sb = new StringBuilder();
         // attributes
         Map<String, Property> attributes = new LinkedHashMap<String, Property>();
         Map<String, Property> elements = new LinkedHashMap<String, Property>();
@@ -91,34 +145,54 @@ public class XmlExampleGenerator {
         sb.append(name);
         for (String pName : attributes.keySet()) {
             Property p = attributes.get(pName);
-            sb.append(" ").append(pName).append("=").append(quote(toXml(null, p, 0, selfPath)));
+            sb.append(" ").append(pName).append("=\"");
+            toXml(sb, null, p, 0, path);
+            sb.append('"');
         }
         sb.append(CLOSE_TAG);
         sb.append(NEWLINE);
         for (String pName : elements.keySet()) {
+            if (sb.length() > maxSize) {
+                break;
+            }
             Property p = elements.get(pName);
-            final String asXml = toXml(pName, p, indent + 1, selfPath);
-            if (StringUtils.isEmpty(asXml)) {
-                continue;
+            final int start = sb.length();
+            toXml(sb, pName, p, indent + 1, path);
+            if (sb.length() > start) {
+                sb.append(NEWLINE);
             }
-            sb.append(asXml);
-            sb.append(NEWLINE);
         }
         sb.append(indent(indent)).append(TAG_END).append(name).append(CLOSE_TAG);
 
-        return sb.toString();
+        path.remove(modelName);
     }
 
-    @SuppressWarnings("static-method")
-    protected String quote(String string) {
-        return "\"" + string + "\"";
+    /**
+     * @deprecated use {@link #modelImplToXml(StringBuilder, ModelImpl, int, Collection)}; no longer
+     * called by this class, so overriding it has no effect
+     */
+    @Deprecated
+    protected String modelImplToXml(ModelImpl model, int indent, Collection<String> path) {
+        StringBuilder sb = new StringBuilder();
+        modelImplToXml(sb, model, indent, new HashSet<String>(path));
+        return sb.toString();
     }
 
+    /**
+     * @deprecated use {@link #toXml(StringBuilder, String, Property, int, Collection)}; no longer
+     * called by this class, so overriding it has no effect
+     */
+    @Deprecated
     protected String toXml(String name, Property property, int indent, Collection<String> path) {
+        StringBuilder sb = new StringBuilder();
+        toXml(sb, name, property, indent, new HashSet<String>(path));
+        return sb.toString();
+    }
+
+    protected void toXml(StringBuilder sb, String name, Property property, int indent, Collection<String> path) {
         if (property == null) {
-            return "";
+            return;
         }
-        StringBuilder sb = new StringBuilder();
 
         if (property instanceof ArrayProperty) {
             ArrayProperty p = (ArrayProperty) property;
@@ -128,39 +202,41 @@ public class XmlExampleGenerator {
                 wrapped = true;
             }
             if (wrapped) {
-                String prefix = EMPTY;
                 if (name != null) {
                     sb.append(indent(indent));
-                    sb.append(openTag(name));
-                    prefix = NEWLINE;
-                }
-                final String asXml = toXml(name, inner, indent + 1, path);
-                if (StringUtils.isNotEmpty(asXml)) {
-                    sb.append(prefix).append(asXml);
-                }
-                if (name != null) {
+                    appendOpenTag(sb, name);
+                    final int start = sb.length();
+                    sb.append(NEWLINE);
+                    toXml(sb, name, inner, indent + 1, path);
+                    if (sb.length() == start + NEWLINE.length()) {
+                        sb.setLength(start);
+                    }
                     sb.append(NEWLINE);
                     sb.append(indent(indent));
-                    sb.append(closeTag(name));
+                    appendCloseTag(sb, name);
+                } else {
+                    toXml(sb, name, inner, indent + 1, path);
                 }
             } else {
-                sb.append(toXml(name, inner, indent, path));
+                toXml(sb, name, inner, indent, path);
             }
         } else if (property instanceof RefProperty) {
             RefProperty ref = (RefProperty) property;
             Model actualModel = examples.get(ref.getSimpleRef());
-            sb.append(toXml(actualModel, indent, path));
+            if (!toXml(sb, actualModel, indent, path)) {
+                // unresolved references have always been written this way
+                sb.append("null");
+            }
         } else {
             if (name != null) {
                 sb.append(indent(indent));
-                sb.append(openTag(name));
+                appendOpenTag(sb, name);
             }
             sb.append(getExample(property));
             if (name != null) {
-                sb.append(closeTag(name));
+                appendCloseTag(sb, name);
             }
         }
-        return sb.toString();
     }
 
     protected String getExample(Property property) {
@@ -205,21 +281,53 @@ public class XmlExampleGenerator {
     }
 
     @SuppressWarnings("static-method")
-    protected String openTag(String name) {
-        return "<" + name + ">";
+    protected void appendOpenTag(StringBuilder sb, String name) {
+        sb.append('<').append(name).append('>');
     }
 
     @SuppressWarnings("static-method")
+    protected void appendCloseTag(StringBuilder sb, String name) {
+        sb.append("</").append(name).append('>');
+    }
+
+    /**
+     * @deprecated use {@link #appendOpenTag(StringBuilder, String)}; no longer called by this class
+     */
+    @Deprecated
+    protected String openTag(String name) {
+        StringBuilder sb = new StringBuilder();
+        appendOpenTag(sb, name);
+        return sb.toString();
+    }
+
+    /**
+     * @deprecated use {@link #appendCloseTag(StringBuilder, String)}; no longer called by this class
+     */
+    @Deprecated
     protected String closeTag(String name) {
-        return "</" + name + ">";
+        StringBuilder sb = new StringBuilder();
+        appendCloseTag(sb, name);
+        return sb.toString();
+    }
+
+    /**
+     * @deprecated attribute values are quoted while they are appended; no longer called by this class
+     */
+    @Deprecated
+    @SuppressWarnings("static-method")
+    protected String quote(String string) {
+        return "\"" + string + "\"";
     }
 
     @SuppressWarnings("static-method")
     protected String indent(int indent) {
-        StringBuffer sb = new StringBuffer();
+        if (indent < INDENT_CACHE_SIZE) {
+            return INDENTS[indent];
+        }
+        StringBuilder sb = new StringBuilder();
         for (int i = 0; i < indent; i++) {
             sb.append("  ");
         }
         return sb.toString();
     }
-}
\ No newline at end of file
+}
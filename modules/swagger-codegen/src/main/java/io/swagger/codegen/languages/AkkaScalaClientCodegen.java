@@ -166,6 +166,12 @@ public class AkkaScalaClientCodegen extends DefaultCodegen implements CodegenCon
         return "akka-scala";
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        // postProcessOperations collects unknown status codes into additionalProperties
+        return false;
+    }
+
     @Override
     public String getHelp() {
         return "Generates a Scala client library base on Akka/Spray.";
@@ -2,6 +2,7 @@ package io.swagger.codegen.languages;
 
 import com.google.common.base.Strings;
 import io.swagger.codegen.*;
+import io.swagger.codegen.utils.ListDecorator;
 import io.swagger.models.Model;
 import io.swagger.models.Operation;
 import io.swagger.models.Path;
@@ -16,6 +17,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 public class JavaClientCodegen extends DefaultCodegen implements CodegenConfig {
@@ -42,6 +45,8 @@ public class JavaClientCodegen extends DefaultCodegen implements CodegenConfig {
     protected Boolean serializableModel = false;
     protected boolean serializeBigDecimalAsString = false;
     protected boolean useRxJava = false;
+    // parents shared by several children, converted once per run for reconcileInlineEnums
+    protected final ConcurrentMap<String, CodegenModel> parentModels = new ConcurrentHashMap<String, CodegenModel>();
 
     public JavaClientCodegen() {
         super();
@@ -523,14 +528,42 @@ public class JavaClientCodegen extends DefaultCodegen implements CodegenConfig {
         CodegenModel codegenModel = super.fromModel(name, model, allDefinitions);
 
         if (allDefinitions != null && codegenModel != null && codegenModel.parentSchema != null && codegenModel.hasEnums) {
-            final Model parentModel = allDefinitions.get(codegenModel.parentSchema);
-            final CodegenModel parentCodegenModel = super.fromModel(codegenModel.parent, parentModel);
+            final CodegenModel parentCodegenModel = fromParentModel(name, codegenModel, allDefinitions);
             codegenModel = JavaClientCodegen.reconcileInlineEnums(codegenModel, parentCodegenModel);
         }
 
         return codegenModel;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        // options are only applied in processOpts and parentModels is concurrent; the server
+        // codegens extending this class override the post-processing and stay single-threaded
+        return getClass() == JavaClientCodegen.class;
+    }
+
+    @Override
+    public void setInheritanceIndex(InheritanceIndex inheritanceIndex) {
+        super.setInheritanceIndex(inheritanceIndex);
+        parentModels.clear();
+    }
+
+    private CodegenModel fromParentModel(String name, CodegenModel codegenModel, Map<String, Model> allDefinitions) {
+        final String parentSchema = codegenModel.parentSchema;
+        final Model parentModel = allDefinitions.get(parentSchema);
+        // only reuse parents of the spec the index was built for
+        if (inheritanceIndex == null || !parentSchema.equals(inheritanceIndex.getParent(name))
+                || inheritanceIndex.getChildren(parentSchema).size() < 2) {
+            return super.fromModel(codegenModel.parent, parentModel);
+        }
+        CodegenModel parentCodegenModel = parentModels.get(parentSchema);
+        if (parentCodegenModel == null) {
+            parentCodegenModel = super.fromModel(codegenModel.parent, parentModel);
+            parentModels.put(parentSchema, parentCodegenModel);
+        }
+        return parentCodegenModel;
+    }
+
     @Override
     public void postProcessModelProperty(CodegenModel model, CodegenProperty property) {
         if(serializeBigDecimalAsString) {
@@ -780,11 +813,7 @@ public class JavaClientCodegen extends DefaultCodegen implements CodegenConfig {
 
             if(removedChildEnum) {
                 // If we removed an entry from this model's vars, we need to ensure hasMore is updated
-                int count = 0, numVars = codegenProperties.size();
-                for(CodegenProperty codegenProperty : codegenProperties) {
-                    count += 1;
-                    codegenProperty.hasMore = (count < numVars) ? true : null;
-                }
+                ListDecorator.mark(codegenProperties, ListDecorator.PROPERTY_HAS_MORE);
                 codegenModel.vars = codegenProperties;
             }
         }
@@ -29,8 +29,8 @@ public class JavaInflectorServerCodegen extends JavaClientCodegen implements Cod
         invokerPackage = "io.swagger.handler";
         artifactId = "swagger-inflector-server";
 
-        apiPackage = System.getProperty("swagger.codegen.inflector.apipackage", "io.swagger.handler");
-        modelPackage = System.getProperty("swagger.codegen.inflector.modelpackage", "io.swagger.model");
+        apiPackage = "io.swagger.handler";
+        modelPackage = "io.swagger.model";
 
         additionalProperties.put(CodegenConstants.INVOKER_PACKAGE, invokerPackage);
         additionalProperties.put(CodegenConstants.GROUP_ID, groupId);
@@ -68,6 +68,8 @@ public class JavaInflectorServerCodegen extends JavaClientCodegen implements Cod
 
     @Override
     public void processOpts() {
+        apiPackage = generationOptions.get("swagger.codegen.inflector.apipackage", apiPackage);
+        modelPackage = generationOptions.get("swagger.codegen.inflector.modelpackage", modelPackage);
         super.processOpts();
 
         supportingFiles.clear();
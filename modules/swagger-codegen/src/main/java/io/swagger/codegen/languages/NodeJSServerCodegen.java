@@ -92,10 +92,17 @@ public class NodeJSServerCodegen extends DefaultCodegen implements CodegenConfig
         writeOptional(outputFolder, new SupportingFile("index.mustache", "", "index.js"));
         writeOptional(outputFolder, new SupportingFile("package.mustache", "", "package.json"));
         writeOptional(outputFolder, new SupportingFile("README.mustache", "", "README.md"));
-        if (System.getProperty("noservice") == null) {
-            apiTemplateFiles.put(
-                    "service.mustache",   // the template to use
-                    "Service.js");       // the extension for each file to write
+        apiTemplateFiles.put(
+                "service.mustache",   // the template to use
+                "Service.js");       // the extension for each file to write
+    }
+
+    @Override
+    public void processOpts() {
+        super.processOpts();
+
+        if (generationOptions.isSet("noservice")) {
+            apiTemplateFiles.remove("service.mustache");
         }
     }
 
@@ -192,9 +199,9 @@ public class NodeJSServerCodegen extends DefaultCodegen implements CodegenConfig
                     }
                 }
             }
-            if (operation.examples != null && !operation.examples.isEmpty()) {
+            if (operation.getExamples() != null && !operation.getExamples().isEmpty()) {
                 // Leave application/json* items only
-                for (Iterator<Map<String, String>> it = operation.examples.iterator(); it.hasNext(); ) {
+                for (Iterator<Map<String, String>> it = operation.getExamples().iterator(); it.hasNext(); ) {
                     final Map<String, String> example = it.next();
                     final String contentType = example.get("contentType");
                     if (contentType == null || !contentType.startsWith("application/json")) {
@@ -62,6 +62,12 @@ public class SpringMVCServerCodegen extends JavaClientCodegen {
         return "spring-mvc";
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        // postProcessOperations adds supporting files for async operations
+        return false;
+    }
+
     @Override
     public String getHelp() {
         return "Generates a Java Spring-MVC Server application using the SpringFox integration.";
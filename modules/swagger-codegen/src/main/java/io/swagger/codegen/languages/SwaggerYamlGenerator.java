@@ -2,7 +2,6 @@ package io.swagger.codegen.languages;
 
 import java.io.File;
 
-import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,7 +44,7 @@ public class SwaggerYamlGenerator extends DefaultCodegen implements CodegenConfi
         try {
             String swaggerString = Yaml.mapper().writeValueAsString(swagger);
             String outputFile = outputFolder + File.separator + "swagger.yaml";
-            FileUtils.writeStringToFile(new File(outputFile), swaggerString);
+            writeFile(outputFile, swaggerString);
             LOGGER.debug("wrote file to " + outputFile);
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
@@ -0,0 +1,333 @@
+package io.swagger.codegen.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Wall time and allocated bytes of the phases of a generation run. Phases can be broken down by
+ * name (model, tag or template), which is used to report the slowest ones.
+ *
+ * Timers measure the thread they are started on, so when models and apis are generated in
+ * parallel the time of a phase is the sum over all threads, not the elapsed time.
+ */
+public class GenerationMetrics {
+    public static final String FLATTEN = "flatten";
+    public static final String PROCESS_MODELS = "processModels";
+    public static final String POST_PROCESS_ALL_MODELS = "postProcessAllModels";
+    public static final String GENERATE_MODELS = "generateModels";
+    public static final String PROCESS_PATHS = "processPaths";
+    public static final String PROCESS_OPERATIONS = "processOperations";
+    public static final String GENERATE_APIS = "generateApis";
+    public static final String COMPILE_TEMPLATE = "compileTemplate";
+    public static final String RENDER_TEMPLATE = "renderTemplate";
+    public static final String COPY_FILE = "copyFile";
+    public static final String WRITE_MANIFEST = "writeManifest";
+    public static final String LAZY_VALUE = "lazyValue";
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final ConcurrentMap<String, Stat> phases = new ConcurrentHashMap<String, Stat>();
+    private final ConcurrentMap<String, ConcurrentMap<String, Stat>> items =
+            new ConcurrentHashMap<String, ConcurrentMap<String, Stat>>();
+    private final ConcurrentMap<String, AtomicLong> counters = new ConcurrentHashMap<String, AtomicLong>();
+    private final List<GenerationMetricsListener> listeners = new CopyOnWriteArrayList<GenerationMetricsListener>();
+    private volatile long runStart;
+    private volatile long runNanos;
+
+    public GenerationMetrics addListener(GenerationMetricsListener listener) {
+        listeners.add(listener);
+        return this;
+    }
+
+    public void removeListener(GenerationMetricsListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Start a run, discarding the measurements of the previous one.
+     */
+    public void begin() {
+        phases.clear();
+        items.clear();
+        counters.clear();
+        runNanos = 0;
+        runStart = System.nanoTime();
+    }
+
+    /**
+     * End a run and notify the listeners.
+     */
+    public void end() {
+        runNanos = System.nanoTime() - runStart;
+        for (GenerationMetricsListener listener : listeners) {
+            listener.runCompleted(this);
+        }
+    }
+
+    public Timer start(String phase) {
+        return start(phase, null);
+    }
+
+    /**
+     * Start timing a phase on the current thread.
+     *
+     * @param phase Phase, one of the constants of this class
+     * @param name Model, tag or template the phase is run for, or null
+     * @return the timer, to be stopped on the same thread
+     */
+    public Timer start(String phase, String name) {
+        return new Timer(phase, name);
+    }
+
+    void record(String phase, String name, long nanos, long allocatedBytes) {
+        stat(phases, phase).add(nanos, allocatedBytes);
+        if (name != null) {
+            ConcurrentMap<String, Stat> named = items.get(phase);
+            if (named == null) {
+                ConcurrentMap<String, Stat> created = new ConcurrentHashMap<String, Stat>();
+                named = items.putIfAbsent(phase, created);
+                if (named == null) {
+                    named = created;
+                }
+            }
+            stat(named, name).add(nanos, allocatedBytes);
+        }
+        for (GenerationMetricsListener listener : listeners) {
+            listener.phaseCompleted(phase, name, nanos, allocatedBytes);
+        }
+    }
+
+    /**
+     * Count an event that is too cheap to time, e.g. a lazy value that was created.
+     *
+     * @param counter Name of the counter
+     */
+    public void increment(String counter) {
+        add(counter, 1);
+    }
+
+    /**
+     * Add to a counter, e.g. the hits of a cache at the end of a run.
+     *
+     * @param counter Name of the counter
+     * @param delta Value to add
+     */
+    public void add(String counter, long delta) {
+        AtomicLong count = counters.get(counter);
+        if (count == null) {
+            AtomicLong created = new AtomicLong();
+            count = counters.putIfAbsent(counter, created);
+            if (count == null) {
+                count = created;
+            }
+        }
+        count.addAndGet(delta);
+    }
+
+    /**
+     * @return the counters, ordered by name
+     */
+    public Map<String, Long> getCounters() {
+        Map<String, Long> values = new TreeMap<String, Long>();
+        for (Map.Entry<String, AtomicLong> entry : counters.entrySet()) {
+            values.put(entry.getKey(), entry.getValue().get());
+        }
+        return values;
+    }
+
+    private static Stat stat(ConcurrentMap<String, Stat> stats, String key) {
+        Stat stat = stats.get(key);
+        if (stat == null) {
+            Stat created = new Stat(key);
+            stat = stats.putIfAbsent(key, created);
+            if (stat == null) {
+                stat = created;
+            }
+        }
+        return stat;
+    }
+
+    /**
+     * @return elapsed time of the last completed run in nanoseconds
+     */
+    public long getRunNanos() {
+        return runNanos;
+    }
+
+    /**
+     * @return statistics per phase, in the order the phases were first entered
+     */
+    public List<Stat> getPhases() {
+        List<Stat> stats = new ArrayList<Stat>(phases.values());
+        Collections.sort(stats, new Comparator<Stat>() {
+            @Override
+            public int compare(Stat a, Stat b) {
+                return a.first < b.first ? -1 : (a.first == b.first ? 0 : 1);
+            }
+        });
+        return stats;
+    }
+
+    /**
+     * @param phase Phase
+     * @param limit Maximum number of entries
+     * @return the slowest models, tags or templates of the phase, slowest first
+     */
+    public List<Stat> getSlowest(String phase, int limit) {
+        Map<String, Stat> named = items.get(phase);
+        if (named == null) {
+            return Collections.emptyList();
+        }
+        List<Stat> stats = new ArrayList<Stat>(named.values());
+        Collections.sort(stats, new Comparator<Stat>() {
+            @Override
+            public int compare(Stat a, Stat b) {
+                long x = a.getNanos(), y = b.getNanos();
+                return x > y ? -1 : (x == y ? 0 : 1);
+            }
+        });
+        return stats.subList(0, Math.min(limit, stats.size()));
+    }
+
+    /**
+     * @return elapsed milliseconds per phase
+     */
+    public Map<String, Long> getPhaseMillis() {
+        Map<String, Long> millis = new LinkedHashMap<String, Long>();
+        for (Stat stat : getPhases()) {
+            millis.put(stat.getName(), stat.getNanos() / 1000000L);
+        }
+        return millis;
+    }
+
+    /**
+     * Render a plain text report of the phases and the slowest entries of each phase.
+     *
+     * @param top Number of entries to list per phase
+     * @return the report
+     */
+    public String report(int top) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Generation profile: %d ms%n", runNanos / 1000000L));
+        sb.append(String.format("  %-24s %8s %10s %12s%n", "phase", "count", "time (ms)", "alloc (KB)"));
+        for (Stat stat : getPhases()) {
+            append(sb, "  ", stat);
+        }
+        for (Stat phase : getPhases()) {
+            List<Stat> slowest = getSlowest(phase.getName(), top);
+            if (slowest.size() > 1) {
+                sb.append(String.format("Slowest in %s:%n", phase.getName()));
+                for (Stat stat : slowest) {
+                    append(sb, "    ", stat);
+                }
+            }
+        }
+        Map<String, Long> values = getCounters();
+        if (!values.isEmpty()) {
+            sb.append(String.format("Counters:%n"));
+            for (Map.Entry<String, Long> entry : values.entrySet()) {
+                sb.append(String.format("    %-24s %8d%n", entry.getKey(), entry.getValue()));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void append(StringBuilder sb, String indent, Stat stat) {
+        long kb = stat.getAllocatedBytes() < 0 ? -1 : stat.getAllocatedBytes() / 1024;
+        sb.append(String.format("%s%-24s %8d %10d %12d%n", indent, stat.getName(), stat.getCount(),
+                stat.getNanos() / 1000000L, kb));
+    }
+
+    @Override
+    public String toString() {
+        return report(5);
+    }
+
+    /**
+     * @return bytes allocated by the current thread so far, or -1 if the JVM can't tell
+     */
+    static long allocatedBytes() {
+        try {
+            if (THREADS instanceof com.sun.management.ThreadMXBean) {
+                return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        } catch (UnsupportedOperationException e) {
+            // allocation tracking disabled
+        } catch (LinkageError e) {
+            // not a HotSpot JVM
+        }
+        return -1;
+    }
+
+    public class Timer {
+        private final String phase;
+        private final String name;
+        private final long start;
+        private final long startBytes;
+
+        Timer(String phase, String name) {
+            this.phase = phase;
+            this.name = name;
+            this.startBytes = allocatedBytes();
+            this.start = System.nanoTime();
+        }
+
+        public void stop() {
+            long nanos = System.nanoTime() - start;
+            long bytes = startBytes < 0 ? -1 : allocatedBytes() - startBytes;
+            record(phase, name, nanos, bytes);
+        }
+    }
+
+    public static class Stat {
+        private final String name;
+        private final long first = System.nanoTime();
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong nanos = new AtomicLong();
+        private final AtomicLong allocatedBytes = new AtomicLong();
+
+        Stat(String name) {
+            this.name = name;
+        }
+
+        void add(long nanos, long allocatedBytes) {
+            this.count.incrementAndGet();
+            this.nanos.addAndGet(nanos);
+            if (allocatedBytes < 0 || this.allocatedBytes.get() < 0) {
+                this.allocatedBytes.set(-1);
+            } else {
+                this.allocatedBytes.addAndGet(allocatedBytes);
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count.get();
+        }
+
+        public long getNanos() {
+            return nanos.get();
+        }
+
+        /**
+         * @return allocated bytes, or -1 if allocations can't be measured on this JVM
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes.get();
+        }
+    }
+}
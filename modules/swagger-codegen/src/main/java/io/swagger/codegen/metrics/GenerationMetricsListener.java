@@ -0,0 +1,23 @@
+package io.swagger.codegen.metrics;
+
+/**
+ * Receives the measurements of a generation run.
+ */
+public interface GenerationMetricsListener {
+    /**
+     * Called when a timed phase completes. May be called from several threads at once.
+     *
+     * @param phase Phase, see the constants of {@link GenerationMetrics}
+     * @param name Model, tag or template the phase was run for, or null
+     * @param nanos Elapsed time in nanoseconds
+     * @param allocatedBytes Bytes allocated by the thread, or -1 if unknown
+     */
+    void phaseCompleted(String phase, String name, long nanos, long allocatedBytes);
+
+    /**
+     * Called once the run is complete.
+     *
+     * @param metrics Measurements of the run
+     */
+    void runCompleted(GenerationMetrics metrics);
+}
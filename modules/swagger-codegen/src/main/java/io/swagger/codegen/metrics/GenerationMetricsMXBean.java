@@ -0,0 +1,16 @@
+package io.swagger.codegen.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface exposed by {@link JmxMetricsListener}.
+ */
+public interface GenerationMetricsMXBean {
+    long getRunCount();
+
+    long getLastRunMillis();
+
+    Map<String, Long> getLastRunPhaseMillis();
+
+    String getLastRunReport();
+}
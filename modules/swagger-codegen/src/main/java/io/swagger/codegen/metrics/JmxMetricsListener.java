@@ -0,0 +1,77 @@
+package io.swagger.codegen.metrics;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Exposes the last completed generation run as an MXBean, by default under
+ * <code>io.swagger.codegen:type=GenerationMetrics</code>.
+ */
+public class JmxMetricsListener implements GenerationMetricsListener, GenerationMetricsMXBean {
+    public static final String DEFAULT_OBJECT_NAME = "io.swagger.codegen:type=GenerationMetrics";
+
+    private final AtomicLong runs = new AtomicLong();
+    private volatile long lastRunMillis;
+    private volatile Map<String, Long> lastRunPhaseMillis = Collections.emptyMap();
+    private volatile String lastRunReport = "";
+
+    private ObjectName objectName;
+
+    /**
+     * Register this listener with the platform MBean server.
+     *
+     * @param name Object name, e.g. {@link #DEFAULT_OBJECT_NAME}
+     * @return this listener
+     * @throws Exception if the name is invalid or already registered
+     */
+    public JmxMetricsListener register(String name) throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        objectName = new ObjectName(name);
+        server.registerMBean(this, objectName);
+        return this;
+    }
+
+    public void unregister() throws Exception {
+        if (objectName != null) {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            objectName = null;
+        }
+    }
+
+    @Override
+    public void phaseCompleted(String phase, String name, long nanos, long allocatedBytes) {
+        // only complete runs are exposed
+    }
+
+    @Override
+    public void runCompleted(GenerationMetrics metrics) {
+        runs.incrementAndGet();
+        lastRunMillis = metrics.getRunNanos() / 1000000L;
+        lastRunPhaseMillis = Collections.unmodifiableMap(metrics.getPhaseMillis());
+        lastRunReport = metrics.report(10);
+    }
+
+    @Override
+    public long getRunCount() {
+        return runs.get();
+    }
+
+    @Override
+    public long getLastRunMillis() {
+        return lastRunMillis;
+    }
+
+    @Override
+    public Map<String, Long> getLastRunPhaseMillis() {
+        return lastRunPhaseMillis;
+    }
+
+    @Override
+    public String getLastRunReport() {
+        return lastRunReport;
+    }
+}
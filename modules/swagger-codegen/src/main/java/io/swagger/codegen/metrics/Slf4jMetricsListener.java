@@ -0,0 +1,34 @@
+package io.swagger.codegen.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs every phase at debug level and the report of the run at info level.
+ */
+public class Slf4jMetricsListener implements GenerationMetricsListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Slf4jMetricsListener.class);
+
+    private final int top;
+
+    public Slf4jMetricsListener() {
+        this(10);
+    }
+
+    public Slf4jMetricsListener(int top) {
+        this.top = top;
+    }
+
+    @Override
+    public void phaseCompleted(String phase, String name, long nanos, long allocatedBytes) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(phase + (name != null ? " " + name : "") + ": " + nanos / 1000L + " us, "
+                    + allocatedBytes + " bytes");
+        }
+    }
+
+    @Override
+    public void runCompleted(GenerationMetrics metrics) {
+        LOGGER.info(metrics.report(top));
+    }
+}
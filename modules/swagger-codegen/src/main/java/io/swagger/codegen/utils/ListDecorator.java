@@ -0,0 +1,161 @@
+package io.swagger.codegen.utils;
+
+import io.swagger.codegen.CodegenProperty;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Position flags ("hasMore" and the like) for the lists handed to the templates, set in a single
+ * pass over the list.
+ */
+public class ListDecorator {
+    public static final String HAS_MORE = "hasMore";
+
+    /**
+     * Sets the flags of one item of a list.
+     */
+    public interface Marker<T> {
+        /**
+         * @param item Item of the list
+         * @param index Position of the item
+         * @param last true for the last item of the list
+         */
+        void mark(T item, int index, boolean last);
+    }
+
+    /**
+     * Puts "hasMore" into map items: "true" for all items but the last, null for the last one.
+     */
+    public static final Marker<Map<String, ? super String>> HAS_MORE_ENTRY = new Marker<Map<String, ? super String>>() {
+        @Override
+        public void mark(Map<String, ? super String> item, int index, boolean last) {
+            item.put(HAS_MORE, last ? null : "true");
+        }
+    };
+
+    /**
+     * Sets hasMore of properties: true for all properties but the last, null for the last one.
+     */
+    public static final Marker<CodegenProperty> PROPERTY_HAS_MORE = new Marker<CodegenProperty>() {
+        @Override
+        public void mark(CodegenProperty item, int index, boolean last) {
+            item.hasMore = last ? null : Boolean.TRUE;
+        }
+    };
+
+    /**
+     * Mark every item of a list with its position.
+     *
+     * @param items List to mark, may be null
+     * @param marker Marker to apply to each item
+     * @return the given list
+     */
+    public static <T> List<T> mark(List<T> items, Marker<? super T> marker) {
+        if (items == null) {
+            return null;
+        }
+        int last = items.size() - 1;
+        int index = 0;
+        for (T item : items) {
+            marker.mark(item, index, index == last);
+            index++;
+        }
+        return items;
+    }
+
+    /**
+     * Media types as read by the templates: one map per media type with the keys "mediaType" and
+     * "hasMore" ("true", or null for the last one). Configs may add keys to the maps (e.g.
+     * "isJson") or change them.
+     *
+     * @param mediaTypes Media types
+     * @return the media type maps
+     */
+    public static List<Map<String, String>> mediaTypes(List<String> mediaTypes) {
+        List<Map<String, String>> maps = new ArrayList<Map<String, String>>(mediaTypes.size());
+        int last = mediaTypes.size() - 1;
+        for (int i = 0; i <= last; i++) {
+            maps.add(new MediaType(mediaTypes.get(i), i < last));
+        }
+        return maps;
+    }
+
+    /**
+     * Map of a media type and its hasMore flag, lighter than a HashMap per media type. Lookups are
+     * answered from the two fields; the entries are only copied into a map on the first change or
+     * iteration.
+     */
+    private static final class MediaType extends AbstractMap<String, String> {
+        private static final String MEDIA_TYPE = "mediaType";
+
+        private final String mediaType;
+        private final boolean hasMore;
+        private Map<String, String> entries;
+
+        MediaType(String mediaType, boolean hasMore) {
+            this.mediaType = mediaType;
+            this.hasMore = hasMore;
+        }
+
+        @Override
+        public String get(Object key) {
+            if (entries != null) {
+                return entries.get(key);
+            }
+            if (MEDIA_TYPE.equals(key)) {
+                return mediaType;
+            }
+            if (HAS_MORE.equals(key)) {
+                return hasMore ? "true" : null;
+            }
+            return null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            if (entries != null) {
+                return entries.containsKey(key);
+            }
+            return MEDIA_TYPE.equals(key) || HAS_MORE.equals(key);
+        }
+
+        @Override
+        public int size() {
+            return entries != null ? entries.size() : 2;
+        }
+
+        @Override
+        public String put(String key, String value) {
+            return entries().put(key, value);
+        }
+
+        @Override
+        public String remove(Object key) {
+            return entries().remove(key);
+        }
+
+        @Override
+        public void clear() {
+            entries().clear();
+        }
+
+        @Override
+        public Set<Map.Entry<String, String>> entrySet() {
+            return entries().entrySet();
+        }
+
+        private Map<String, String> entries() {
+            if (entries == null) {
+                entries = new LinkedHashMap<String, String>(4);
+                entries.put(MEDIA_TYPE, mediaType);
+                entries.put(HAS_MORE, hasMore ? "true" : null);
+            }
+            return entries;
+        }
+    }
+}
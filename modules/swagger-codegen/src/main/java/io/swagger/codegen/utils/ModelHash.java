@@ -0,0 +1,192 @@
+package io.swagger.codegen.utils;
+
+import io.swagger.models.ArrayModel;
+import io.swagger.models.ComposedModel;
+import io.swagger.models.Model;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.RefModel;
+import io.swagger.models.properties.ArrayProperty;
+import io.swagger.models.properties.MapProperty;
+import io.swagger.models.properties.ObjectProperty;
+import io.swagger.models.properties.Property;
+import io.swagger.models.properties.RefProperty;
+import io.swagger.models.properties.StringProperty;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 128-bit structural hash of a {@link Model} or {@link Property} tree, computed in a single walk
+ * without serializing it.
+ *
+ * The hash covers a subset of what the JSON representation of the schema contains (types,
+ * formats, descriptions, references, enums and nested properties), so schemas with the same JSON
+ * always have the same hash. The entries of property maps are combined independently of their
+ * order. Equal hashes do not imply equal schemas: callers that need exact matches must compare
+ * the schemas themselves once the hashes match.
+ */
+public final class ModelHash {
+    private static final long SEED_1 = 0x9e3779b97f4a7c15L;
+    private static final long SEED_2 = 0xc2b2ae3d27d4eb4fL;
+
+    private final long h1;
+    private final long h2;
+
+    private ModelHash(long h1, long h2) {
+        this.h1 = h1;
+        this.h2 = h2;
+    }
+
+    public static ModelHash of(Model model) {
+        Walk walk = new Walk();
+        walk.model(model);
+        return new ModelHash(walk.h1, walk.h2);
+    }
+
+    public static ModelHash of(Property property) {
+        Walk walk = new Walk();
+        walk.property(property);
+        return new ModelHash(walk.h1, walk.h2);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ModelHash)) {
+            return false;
+        }
+        ModelHash other = (ModelHash) o;
+        return h1 == other.h1 && h2 == other.h2;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (h1 ^ (h1 >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", h1, h2);
+    }
+
+    /**
+     * Two independent 64-bit lanes fed with the same tokens.
+     */
+    private static final class Walk {
+        long h1 = SEED_1;
+        long h2 = SEED_2;
+
+        void model(Model model) {
+            if (model == null) {
+                token(0);
+                return;
+            }
+            if (model instanceof RefModel) {
+                token(1);
+                string(((RefModel) model).get$ref());
+                return;
+            }
+            if (model instanceof ArrayModel) {
+                token(2);
+                property(((ArrayModel) model).getItems());
+            } else if (model instanceof ComposedModel) {
+                token(3);
+                List<Model> allOf = ((ComposedModel) model).getAllOf();
+                if (allOf != null) {
+                    for (Model m : allOf) {
+                        model(m);
+                    }
+                }
+            } else if (model instanceof ModelImpl) {
+                token(4);
+                string(((ModelImpl) model).getType());
+            } else {
+                token(5);
+            }
+            string(model.getDescription());
+            properties(model.getProperties());
+        }
+
+        void property(Property property) {
+            if (property == null) {
+                token(0);
+                return;
+            }
+            if (property instanceof RefProperty) {
+                token(6);
+                string(((RefProperty) property).get$ref());
+                return;
+            }
+            token(7);
+            string(property.getType());
+            string(property.getFormat());
+            string(property.getDescription());
+            if (property instanceof ArrayProperty) {
+                property(((ArrayProperty) property).getItems());
+            } else if (property instanceof MapProperty) {
+                property(((MapProperty) property).getAdditionalProperties());
+            } else if (property instanceof ObjectProperty) {
+                properties(((ObjectProperty) property).getProperties());
+            } else if (property instanceof StringProperty) {
+                List<String> values = ((StringProperty) property).getEnum();
+                if (values != null) {
+                    for (String value : values) {
+                        string(value);
+                    }
+                }
+            }
+        }
+
+        void properties(Map<String, Property> properties) {
+            if (properties == null) {
+                token(0);
+                return;
+            }
+            // hash every entry on its own and add them up, so that the order does not matter
+            long sum1 = 0, sum2 = 0;
+            long outer1 = h1, outer2 = h2;
+            for (Map.Entry<String, Property> entry : properties.entrySet()) {
+                h1 = SEED_1;
+                h2 = SEED_2;
+                string(entry.getKey());
+                property(entry.getValue());
+                sum1 += h1;
+                sum2 += h2;
+            }
+            h1 = outer1;
+            h2 = outer2;
+            token(properties.size());
+            h1 = mix(h1 ^ sum1);
+            h2 = mix(h2 ^ sum2);
+        }
+
+        void string(String value) {
+            if (value == null) {
+                token(0);
+                return;
+            }
+            long a = 1, b = 2;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                a = (a ^ c) * 0x100000001b3L;
+                b = (b + c) * 0xff51afd7ed558ccdL;
+            }
+            token(value.length() + 1);
+            h1 = mix(h1 ^ a);
+            h2 = mix(h2 ^ b);
+        }
+
+        void token(long value) {
+            h1 = mix(h1 ^ value);
+            h2 = mix(h2 + value * 0x9e3779b97f4a7c15L);
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+            z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+            return z ^ (z >>> 33);
+        }
+    }
+}
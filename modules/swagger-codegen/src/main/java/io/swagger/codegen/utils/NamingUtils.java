@@ -0,0 +1,317 @@
+package io.swagger.codegen.utils;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Name conversions shared by {@link io.swagger.codegen.DefaultCodegen} and the language configs.
+ *
+ * These produce the same output as the regular expression based versions they replace, but scan
+ * the input once and leave it untouched when there is nothing to convert. They run for every
+ * model, property, parameter and operation name, so they are kept free of per-call regex
+ * compilation.
+ */
+public class NamingUtils {
+    private static final Pattern UNDERSCORE_UPPER_RUN = Pattern.compile("([A-Z]+)([A-Z][a-z])");
+    private static final Pattern UNDERSCORE_LOWER_UPPER = Pattern.compile("([a-z\\d])([A-Z])");
+    private static final Pattern CAMELIZE_SLASH = Pattern.compile("\\/(.?)");
+    private static final Pattern CAMELIZE_CLASS_NAME = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
+    private static final Pattern CAMELIZE_UNDERSCORE = Pattern.compile("(_)(.)");
+
+    /**
+     * Underscore the given word, e.g. "PetStore.OrderItem" becomes "pet_store/order_item".
+     *
+     * @param word The word
+     * @return The underscored version of the word
+     * @see io.swagger.codegen.DefaultCodegen#underscore(String)
+     */
+    public static String underscore(String word) {
+        // package separator to slash, $ (inner classes) to two underscores
+        word = replace(word.replace('.', '/'), '$', "__");
+        if (hasAsciiUpperCase(word)) {
+            word = UNDERSCORE_UPPER_RUN.matcher(word).replaceAll("$1_$2");
+            word = UNDERSCORE_LOWER_UPPER.matcher(word).replaceAll("$1_$2");
+        }
+        return word.replace('-', '_').toLowerCase();
+    }
+
+    /**
+     * Dashize the given word, e.g. "myName" becomes "my-name".
+     *
+     * @param word The word
+     * @return The dashized version of the word
+     */
+    public static String dashize(String word) {
+        return underscore(word).replace('_', '-').replace(' ', '-');
+    }
+
+    /**
+     * Camelize the given word, e.g. "pet_store/order-item" becomes "PetStoreOrder-item".
+     *
+     * @param word The word
+     * @param lowercaseFirstLetter lower case for first letter if set to true
+     * @return The camelized version of the word
+     * @see io.swagger.codegen.DefaultCodegen#camelize(String, boolean)
+     */
+    public static String camelize(String word, boolean lowercaseFirstLetter) {
+        if (word.indexOf('$') >= 0 || word.indexOf('\\') >= 0) {
+            // these were taken for group references and escapes by the regex replacements
+            word = camelizeWithPatterns(word);
+        } else {
+            word = camelizeScanning(word);
+        }
+
+        if (lowercaseFirstLetter) {
+            word = word.substring(0, 1).toLowerCase() + word.substring(1);
+        }
+        return word;
+    }
+
+    private static String camelizeScanning(String word) {
+        int length = word.length();
+        StringBuilder sb = new StringBuilder(length);
+
+        // slashes and dots separate parts, the first letter of each part is upper cased
+        boolean partStart = true;
+        for (int i = 0; i < length; i++) {
+            char c = word.charAt(i);
+            if (c == '/' || c == '.') {
+                partStart = true;
+            } else if (partStart) {
+                sb.append(Character.toUpperCase(c));
+                partStart = false;
+            } else {
+                sb.append(c);
+            }
+        }
+
+        // upper case the first word character
+        int first = 0;
+        while (first < sb.length() && !isWordChar(sb.charAt(first))) {
+            first++;
+        }
+        if (first < sb.length()) {
+            char c = sb.charAt(first);
+            if (c >= 'a' && c <= 'z' && c != 'i') {
+                sb.setCharAt(first, (char) (c - 'a' + 'A'));
+            } else if (c == 'i') {
+                // String#toUpperCase depends on the default locale, e.g. Turkish
+                sb.replace(first, first + 1, "i".toUpperCase());
+            }
+        }
+
+        return removeUnderscores(sb);
+    }
+
+    private static String camelizeWithPatterns(String word) {
+        Matcher m = CAMELIZE_SLASH.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst("." + m.group(1));
+            m = CAMELIZE_SLASH.matcher(word);
+        }
+
+        String[] parts = word.split("\\.");
+        StringBuilder f = new StringBuilder();
+        for (String z : parts) {
+            if (z.length() > 0) {
+                f.append(Character.toUpperCase(z.charAt(0))).append(z.substring(1));
+            }
+        }
+        word = f.toString();
+
+        m = CAMELIZE_SLASH.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0)) + m.group(1).substring(1));
+            m = CAMELIZE_SLASH.matcher(word);
+        }
+
+        m = CAMELIZE_CLASS_NAME.matcher(word);
+        if (m.find()) {
+            String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
+            rep = rep.replaceAll("\\$", "\\\\\\$");
+            word = m.replaceAll(rep);
+        }
+
+        m = CAMELIZE_UNDERSCORE.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst(m.group(2).toUpperCase());
+            m = CAMELIZE_UNDERSCORE.matcher(word);
+        }
+        return word;
+    }
+
+    /**
+     * Remove every underscore that is followed by a character, upper casing that character
+     * ("my__name" becomes "myName"). A run of underscores at the end, or before a line break,
+     * shrinks to a single underscore.
+     */
+    private static String removeUnderscores(CharSequence word) {
+        int length = word.length();
+        StringBuilder sb = null;
+        int i = 0;
+        while (i < length) {
+            char c = word.charAt(i);
+            if (c != '_') {
+                if (sb != null) {
+                    sb.append(c);
+                }
+                i++;
+                continue;
+            }
+            int end = i;
+            while (end < length && word.charAt(end) == '_') {
+                end++;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(length);
+                sb.append(word, 0, i);
+            }
+            if (end == length || isLineTerminator(word.charAt(end))) {
+                sb.append('_');
+                i = end;
+                continue;
+            }
+            char next = word.charAt(end);
+            if (Character.isHighSurrogate(next) && end + 1 < length && Character.isLowSurrogate(word.charAt(end + 1))) {
+                sb.append(word.subSequence(end, end + 2).toString().toUpperCase());
+                i = end + 2;
+            } else {
+                appendUpperCase(sb, next);
+                i = end + 1;
+            }
+        }
+        return sb == null ? word.toString() : sb.toString();
+    }
+
+    /**
+     * Remove characters that are not suitable for names, as done by
+     * {@link io.swagger.codegen.DefaultCodegen#sanitizeName(String)}: "[]" is dropped, "[", "(",
+     * ".", "-" and " " become "_", and anything else but letters, digits and "_" is removed.
+     *
+     * @param name The name
+     * @return The sanitized name
+     */
+    public static String sanitizeName(String name) {
+        int length = name.length();
+        int i = 0;
+        while (i < length && isNameChar(name.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return name;
+        }
+        StringBuilder sb = new StringBuilder(length);
+        sb.append(name, 0, i);
+        for (; i < length; i++) {
+            char c = name.charAt(i);
+            if (isNameChar(c)) {
+                sb.append(c);
+            } else if (c == '[') {
+                if (i + 1 < length && name.charAt(i + 1) == ']') {
+                    i++;
+                } else {
+                    sb.append('_');
+                }
+            } else if (c == '(' || c == '.' || c == '-' || c == ' ') {
+                sb.append('_');
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Generate the next name for the given name, i.e. append "2" to the base name if not ending
+     * with a number, otherwise increase the number by 1 ("status2" becomes "status3").
+     *
+     * @param name The base name
+     * @return The next name
+     */
+    public static String generateNextName(String name) {
+        int i = name.length();
+        while (i > 0 && name.charAt(i - 1) >= '0' && name.charAt(i - 1) <= '9') {
+            i--;
+        }
+        if (i == name.length()) {
+            return name + "2";
+        }
+        int num = Integer.parseInt(name.substring(i)) + 1;
+        return name.substring(0, i) + num;
+    }
+
+    /**
+     * Split the name at "-", "_", ":", ";" and "#", capitalize the parts and lower case the
+     * first letter, e.g. "x-rate_limit" becomes "xRateLimit".
+     *
+     * @param name The name
+     * @return The camelized name
+     */
+    public static String removeNonNameElementToCamelCase(String name) {
+        int length = name.length();
+        StringBuilder sb = new StringBuilder(length);
+        boolean partStart = true;
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            if (c == '-' || c == '_' || c == ':' || c == ';' || c == '#') {
+                partStart = true;
+            } else if (partStart) {
+                sb.append(Character.toTitleCase(c));
+                partStart = false;
+            } else {
+                sb.append(c);
+            }
+        }
+        if (sb.length() > 0) {
+            return sb.substring(0, 1).toLowerCase() + sb.substring(1);
+        }
+        return sb.toString();
+    }
+
+    private static String replace(String word, char c, String replacement) {
+        int index = word.indexOf(c);
+        if (index < 0) {
+            return word;
+        }
+        StringBuilder sb = new StringBuilder(word.length() + replacement.length());
+        int start = 0;
+        while (index >= 0) {
+            sb.append(word, start, index).append(replacement);
+            start = index + 1;
+            index = word.indexOf(c, start);
+        }
+        return sb.append(word, start, word.length()).toString();
+    }
+
+    /**
+     * Upper case a single character the way String#toUpperCase does, which depends on the
+     * default locale (e.g. Turkish "i") and may produce more than one character.
+     */
+    private static void appendUpperCase(StringBuilder sb, char c) {
+        if (c < 0x80 && c != 'i') {
+            sb.append(c >= 'a' && c <= 'z' ? (char) (c - 'a' + 'A') : c);
+        } else {
+            sb.append(String.valueOf(c).toUpperCase());
+        }
+    }
+
+    private static boolean hasAsciiUpperCase(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static boolean isNameChar(char c) {
+        return isWordChar(c);
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -0,0 +1,308 @@
+package io.swagger.codegen.utils;
+
+import io.swagger.models.ComposedModel;
+import io.swagger.models.Info;
+import io.swagger.models.Model;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.RefModel;
+import io.swagger.models.Response;
+import io.swagger.models.Swagger;
+import io.swagger.models.Tag;
+import io.swagger.models.parameters.BodyParameter;
+import io.swagger.models.parameters.HeaderParameter;
+import io.swagger.models.parameters.Parameter;
+import io.swagger.models.parameters.PathParameter;
+import io.swagger.models.parameters.QueryParameter;
+import io.swagger.models.parameters.RefParameter;
+import io.swagger.models.properties.ArrayProperty;
+import io.swagger.models.properties.BooleanProperty;
+import io.swagger.models.properties.DateTimeProperty;
+import io.swagger.models.properties.DoubleProperty;
+import io.swagger.models.properties.IntegerProperty;
+import io.swagger.models.properties.LongProperty;
+import io.swagger.models.properties.MapProperty;
+import io.swagger.models.properties.ObjectProperty;
+import io.swagger.models.properties.Property;
+import io.swagger.models.properties.RefProperty;
+import io.swagger.models.properties.StringProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates Swagger 2.0 specs of arbitrary size for benchmarks and scaling tests. The output
+ * only depends on the configured counts and the seed.
+ *
+ * Shared parameters are referenced with <code>#/parameters/...</code>, so the generated spec
+ * should be serialized and read back through the parser to resolve them, as for any spec file.
+ */
+public class SpecSynthesizer {
+    private static final String[] WORDS = {
+            "account", "address", "amount", "balance", "category", "channel", "comment", "contact",
+            "currency", "customer", "device", "event", "group", "invoice", "item", "label", "message",
+            "order", "owner", "payment", "price", "product", "profile", "region", "review", "shipment",
+            "status", "store", "tag", "ticket", "user", "vendor"
+    };
+
+    private long seed;
+    private int definitions = 100;
+    private int paths = 50;
+    private int tags = 10;
+    private int inheritanceDepth = 2;
+    private int inlineSchemas = 10;
+    private int enums = 10;
+    private int sharedParameters = 5;
+
+    public SpecSynthesizer seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public SpecSynthesizer definitions(int definitions) {
+        this.definitions = definitions;
+        return this;
+    }
+
+    public SpecSynthesizer paths(int paths) {
+        this.paths = paths;
+        return this;
+    }
+
+    public SpecSynthesizer tags(int tags) {
+        this.tags = tags;
+        return this;
+    }
+
+    /**
+     * @param inheritanceDepth Length of the allOf chains definitions are arranged in, 0 for none
+     * @return this synthesizer
+     */
+    public SpecSynthesizer inheritanceDepth(int inheritanceDepth) {
+        this.inheritanceDepth = inheritanceDepth;
+        return this;
+    }
+
+    /**
+     * @param inlineSchemas Number of operations with inline body and response schemas
+     * @return this synthesizer
+     */
+    public SpecSynthesizer inlineSchemas(int inlineSchemas) {
+        this.inlineSchemas = inlineSchemas;
+        return this;
+    }
+
+    /**
+     * @param enums Number of definitions with an enum property
+     * @return this synthesizer
+     */
+    public SpecSynthesizer enums(int enums) {
+        this.enums = enums;
+        return this;
+    }
+
+    public SpecSynthesizer sharedParameters(int sharedParameters) {
+        this.sharedParameters = sharedParameters;
+        return this;
+    }
+
+    public Swagger generate() {
+        Random random = new Random(seed);
+        Swagger swagger = new Swagger();
+
+        Info info = new Info();
+        info.setTitle("Synthetic API");
+        info.setDescription(definitions + " definitions, " + paths + " paths, seed " + seed);
+        info.setVersion("1.0.0");
+        swagger.setInfo(info);
+        swagger.setHost("api.example.com");
+        swagger.setBasePath("/v1");
+        swagger.setConsumes(Arrays.asList("application/json"));
+        swagger.setProduces(Arrays.asList("application/json", "application/xml"));
+
+        List<Tag> tagList = new ArrayList<Tag>();
+        List<String> tagNames = new ArrayList<String>();
+        for (int i = 0; i < tags; i++) {
+            String name = word(i) + (i / WORDS.length > 0 ? String.valueOf(i / WORDS.length) : "");
+            Tag tag = new Tag();
+            tag.setName(name);
+            tag.setDescription("Operations about " + name);
+            tagList.add(tag);
+            tagNames.add(name);
+        }
+        swagger.setTags(tagList);
+
+        List<String> parameterNames = new ArrayList<String>();
+        for (int i = 0; i < sharedParameters; i++) {
+            String name = "shared" + i;
+            swagger.addParameter(name, sharedParameter(i));
+            parameterNames.add(name);
+        }
+
+        List<String> names = new ArrayList<String>();
+        for (int i = 0; i < definitions; i++) {
+            names.add(definitionName(i));
+        }
+        for (int i = 0; i < definitions; i++) {
+            swagger.addDefinition(names.get(i), definition(i, names, random));
+        }
+
+        for (int i = 0; i < paths; i++) {
+            addPath(swagger, i, names, tagNames, parameterNames, random);
+        }
+        return swagger;
+    }
+
+    private Model definition(int index, List<String> names, Random random) {
+        ModelImpl model = new ModelImpl();
+        model.setType("object");
+        model.setDescription("Synthetic definition " + index);
+        model.addProperty("id", new LongProperty());
+        model.setRequired(Arrays.asList("id"));
+        int properties = 2 + random.nextInt(5);
+        for (int i = 0; i < properties; i++) {
+            model.addProperty(word(random.nextInt(WORDS.length)) + i, property(index, names, random));
+        }
+        if (index < enums) {
+            StringProperty status = new StringProperty();
+            status.setEnum(Arrays.asList("available", "pending", "sold", "archived"));
+            model.addProperty("state", status);
+        }
+
+        int level = inheritanceDepth > 0 ? index % (inheritanceDepth + 1) : 0;
+        if (level == 0) {
+            return model;
+        }
+        return new ComposedModel()
+                .parent(new RefModel(names.get(index - 1)))
+                .child(model)
+                .interfaces(new ArrayList<RefModel>());
+    }
+
+    private static Property property(int index, List<String> names, Random random) {
+        switch (random.nextInt(9)) {
+            case 0:
+                return new IntegerProperty();
+            case 1:
+                return new DoubleProperty();
+            case 2:
+                return new BooleanProperty();
+            case 3:
+                return new DateTimeProperty();
+            case 4:
+                return new ArrayProperty(new StringProperty());
+            case 5:
+                return new MapProperty(new IntegerProperty());
+            case 6:
+            case 7:
+                if (index > 0) {
+                    RefProperty ref = new RefProperty(names.get(random.nextInt(index)));
+                    return random.nextBoolean() ? ref : new ArrayProperty(ref);
+                }
+                return new StringProperty();
+            default:
+                return new StringProperty();
+        }
+    }
+
+    private static Parameter sharedParameter(int index) {
+        switch (index % 3) {
+            case 0:
+                QueryParameter limit = new QueryParameter();
+                limit.setName("limit" + index);
+                limit.setType("integer");
+                limit.setFormat("int32");
+                return limit;
+            case 1:
+                QueryParameter filter = new QueryParameter();
+                filter.setName("filter" + index);
+                filter.setType("string");
+                return filter;
+            default:
+                HeaderParameter header = new HeaderParameter();
+                header.setName("X-Request-Id-" + index);
+                header.setType("string");
+                return header;
+        }
+    }
+
+    private void addPath(Swagger swagger, int index, List<String> names, List<String> tagNames,
+                         List<String> parameterNames, Random random) {
+        String resource = word(index) + index;
+        List<String> operationTags = tagNames.isEmpty() ? null : Arrays.asList(tagNames.get(index % tagNames.size()));
+
+        PathParameter id = new PathParameter();
+        id.setName("id");
+        id.setType("integer");
+        id.setFormat("int64");
+
+        Operation get = new Operation();
+        get.setOperationId("get" + capitalize(resource));
+        get.setSummary("Get a " + resource);
+        get.setTags(operationTags);
+        get.addParameter(id);
+        if (!parameterNames.isEmpty()) {
+            get.addParameter(new RefParameter(parameterNames.get(index % parameterNames.size())));
+        }
+        Response found = new Response();
+        found.setDescription("successful operation");
+        if (!names.isEmpty()) {
+            found.setSchema(new RefProperty(names.get(random.nextInt(names.size()))));
+        }
+        get.addResponse("200", found);
+        get.addResponse("404", new Response().description("not found"));
+
+        Path item = new Path();
+        item.setGet(get);
+        swagger.path("/" + resource + "/{id}", item);
+
+        if (index < inlineSchemas) {
+            Map<String, Property> inline = new LinkedHashMap<String, Property>();
+            inline.put("name", new StringProperty());
+            inline.put("count", new IntegerProperty());
+            inline.put("labels", new ArrayProperty(new StringProperty()));
+
+            ModelImpl body = new ModelImpl();
+            body.setType("object");
+            body.setProperties(inline);
+            BodyParameter bodyParameter = new BodyParameter();
+            bodyParameter.setName("body");
+            bodyParameter.setSchema(body);
+
+            ObjectProperty result = new ObjectProperty();
+            for (Map.Entry<String, Property> entry : inline.entrySet()) {
+                result.property(entry.getKey(), entry.getValue());
+            }
+            Response created = new Response();
+            created.setDescription("created");
+            created.setSchema(result);
+
+            Operation post = new Operation();
+            post.setOperationId("create" + capitalize(resource));
+            post.setTags(operationTags);
+            post.addParameter(bodyParameter);
+            post.addResponse("201", created);
+
+            Path collection = new Path();
+            collection.setPost(post);
+            swagger.path("/" + resource, collection);
+        }
+    }
+
+    private static String definitionName(int index) {
+        return capitalize(word(index)) + index;
+    }
+
+    private static String word(int index) {
+        return WORDS[index % WORDS.length];
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -0,0 +1,47 @@
+package io.swagger.codegen;
+
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.codegen.languages.JavaJerseyServerCodegen;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.swagger.codegen.GeneratorInputs.input;
+import static org.testng.Assert.*;
+
+public class BatchGeneratorTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testTargetsGetTheirOwnSpec() throws Exception {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        ClientOptInput client = input(new JavaClientCodegen(), folder.newFolder("client"));
+        ClientOptInput server = input(new JavaJerseyServerCodegen(), folder.newFolder("server"));
+
+        List<List<File>> files = new BatchGenerator().threads(2).generate(swagger, Arrays.asList(client, server));
+
+        assertEquals(files.size(), 2);
+        assertTrue(files.get(0).contains(new File(client.getConfig().getOutputDir(), "src/main/java/io/swagger/client/model/Pet.java")));
+        assertTrue(files.get(1).size() > 1);
+        assertNotSame(client.getSwagger(), swagger);
+        assertNotSame(client.getSwagger(), server.getSwagger());
+    }
+}
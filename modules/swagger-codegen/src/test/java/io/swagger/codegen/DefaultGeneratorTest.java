@@ -11,6 +11,7 @@ import org.testng.annotations.Test;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -221,6 +222,37 @@ public class DefaultGeneratorTest {
         }
     }
 
+    @Test
+    public void testParallelOutputMatchesSerialOutput() throws Exception {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        final File serial = new File(folder.getRoot(), "serial");
+        final File parallel = new File(folder.getRoot(), "parallel");
+
+        final String serialDate = generate(swagger, serial, 1);
+        final String parallelDate = generate(swagger, parallel, 4);
+
+        final Collection<File> serialFiles = FileUtils.listFiles(serial, null, true);
+        assertEquals(FileUtils.listFiles(parallel, null, true).size(), serialFiles.size());
+        for (File file : serialFiles) {
+            final String path = serial.toURI().relativize(file.toURI()).getPath();
+            final File other = new File(parallel, path);
+            assertTrue(other.exists(), path);
+            // the generation date is the only value allowed to differ between the runs
+            assertEquals(FileUtils.readFileToString(other, UTF_8).replace(parallelDate, "DATE"),
+                    FileUtils.readFileToString(file, UTF_8).replace(serialDate, "DATE"), path);
+        }
+    }
+
+    private static String generate(Swagger swagger, File output, int threads) {
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        assertTrue(codegenConfig.isThreadSafe());
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig);
+        new DefaultGenerator().threads(threads).opts(clientOptInput).generate();
+        return (String) codegenConfig.additionalProperties().get("generatedDate");
+    }
+
     private static void changeContent(File file) throws IOException {
         Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), UTF_8));
         out.write(TEST_SKIP_OVERWRITE);
@@ -0,0 +1,152 @@
+package io.swagger.codegen;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+public class DefaultOutputSinkTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testSkipsUnchangedFiles() throws Exception {
+        String filename = new File(folder.getRoot(), "src/Pet.java").getAbsolutePath();
+        DefaultOutputSink sink = new DefaultOutputSink();
+
+        File output = sink.write(filename, "class Pet {}".getBytes("UTF-8"));
+        assertEquals(FileUtils.readFileToString(output, "UTF-8"), "class Pet {}");
+        long lastModified = output.lastModified();
+
+        sink.write(filename, new ByteArrayInputStream("class Pet {}".getBytes("UTF-8")));
+        assertEquals(output.lastModified(), lastModified);
+        assertEquals(sink.getWrittenCount(), 1);
+        assertEquals(sink.getSkippedCount(), 1);
+
+        // same size, different content
+        sink.write(filename, "class Cat {}".getBytes("UTF-8"));
+        assertEquals(FileUtils.readFileToString(output, "UTF-8"), "class Cat {}");
+        assertEquals(sink.getWrittenCount(), 2);
+        assertEquals(sink.getBytesWritten(), 24);
+    }
+
+    @Test
+    public void testStreamedContentReplacesLongerFile() throws Exception {
+        String filename = new File(folder.getRoot(), "README.md").getAbsolutePath();
+        DefaultOutputSink sink = new DefaultOutputSink();
+        sink.write(filename, "# Petstore API client".getBytes("UTF-8"));
+
+        OutputStream out = sink.open(filename);
+        out.write("# Pet".getBytes("UTF-8"));
+        out.write("store".getBytes("UTF-8"));
+        out.close();
+
+        assertEquals(FileUtils.readFileToString(new File(filename), "UTF-8"), "# Petstore");
+        assertEquals(sink.getWrittenCount(), 2);
+        assertEquals(sink.getSkippedCount(), 0);
+    }
+
+    @Test
+    public void testDiscardedStreamKeepsExistingFile() throws Exception {
+        File output = new File(folder.getRoot(), "README.md");
+        DefaultOutputSink sink = new DefaultOutputSink();
+        sink.write(output.getAbsolutePath(), "# Petstore API client".getBytes("UTF-8"));
+
+        SinkOutputStream out = sink.open(output.getAbsolutePath());
+        out.write("# Pet API".getBytes("UTF-8"));
+        out.discard();
+        out.close();
+
+        assertEquals(FileUtils.readFileToString(output, "UTF-8"), "# Petstore API client");
+        assertEquals(folder.getRoot().list().length, 1);
+        assertEquals(sink.getWrittenCount(), 1);
+    }
+
+    @Test
+    public void testFailedFlushKeepsExistingFile() throws Exception {
+        File output = new File(folder.getRoot(), "README.md");
+        DefaultOutputSink sink = new DefaultOutputSink() {
+            @Override
+            protected OutputStream openTemp(File tempFile) throws IOException {
+                return new FilterOutputStream(super.openTemp(tempFile)) {
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        throw new IOException("disk full");
+                    }
+                };
+            }
+        };
+        FileUtils.writeStringToFile(output, "# Petstore API client", "UTF-8");
+
+        // small enough to stay in the buffer until the stream is closed
+        SinkOutputStream out = sink.open(output.getAbsolutePath());
+        out.write("# Pet API".getBytes("UTF-8"));
+        try {
+            out.close();
+            fail("the failed flush must not be ignored");
+        } catch (IOException e) {
+            assertEquals(e.getMessage(), "disk full");
+        }
+
+        assertEquals(FileUtils.readFileToString(output, "UTF-8"), "# Petstore API client");
+        assertEquals(folder.getRoot().list().length, 1);
+        assertEquals(sink.getWrittenCount(), 0);
+    }
+
+    @Test
+    public void testFailedRenderingKeepsExistingFile() throws Exception {
+        File output = new File(folder.getRoot(), "src/Pet.java");
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.writeToFile(output.getAbsolutePath(), "class Pet {}");
+
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            large.append("class Cat {}\n");
+        }
+        Map<String, Object> context = new HashMap<String, Object>();
+        // more than the render buffer, so part of the content reaches the file before failing
+        context.put("content", large.toString());
+        context.put("fail", new Mustache.Lambda() {
+            @Override
+            public void execute(Template.Fragment frag, Writer out) throws IOException {
+                throw new IOException("rendering failed");
+            }
+        });
+        Template template = Mustache.compiler().escapeHTML(false).compile("{{content}}{{#fail}}{{/fail}}");
+
+        try {
+            generator.writeToFile(output.getAbsolutePath(), template, context);
+            fail("rendering should fail");
+        } catch (Exception e) {
+            // expected
+        }
+
+        assertEquals(FileUtils.readFileToString(output, "UTF-8"), "class Pet {}");
+        assertEquals(output.getParentFile().list().length, 1);
+        assertEquals(generator.getOutputSink().getWrittenCount(), 1);
+    }
+}
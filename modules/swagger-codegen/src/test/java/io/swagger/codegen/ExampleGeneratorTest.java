@@ -1,10 +1,13 @@
 package io.swagger.codegen;
 
+import io.swagger.codegen.examples.ExampleCache;
 import io.swagger.codegen.examples.ExampleGenerator;
+import io.swagger.codegen.examples.XmlExampleGenerator;
 import io.swagger.models.Model;
 import io.swagger.models.ModelImpl;
 import io.swagger.models.Xml;
 import io.swagger.models.properties.ArrayProperty;
+import io.swagger.models.properties.Property;
 import io.swagger.models.properties.RefProperty;
 import io.swagger.models.properties.StringProperty;
 
@@ -14,6 +17,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -70,4 +74,94 @@ public class ExampleGeneratorTest {
         Assert.assertEqualsNoOrder(types.toArray(new String[types.size()]),
                 expectedTypes.toArray(new String[expectedTypes.size()]));
     }
+
+    @Test(description = "check that cached examples are the same as generated ones")
+    public void cachedExamplesTest() {
+        final Model node = new ModelImpl().name("Node").property("name", new StringProperty())
+                .property("children", new ArrayProperty(new RefProperty("Node")));
+        final Map<String, Model> definitions = ImmutableMap.of("Node", node);
+        final List<String> mediaTypes = Arrays.asList("application/json", "application/xml", "application/json;charset=UTF-8");
+        final ExampleCache cache = new ExampleCache();
+
+        for (int i = 0; i < 2; i++) {
+            for (Property property : Arrays.<Property>asList(new RefProperty("Node"), new ArrayProperty(new RefProperty("Node")))) {
+                Assert.assertEquals(new ExampleGenerator(definitions, cache).generate(null, mediaTypes, property),
+                        new ExampleGenerator(definitions).generate(null, mediaTypes, property));
+            }
+        }
+        // the second json media type resolves with the models of the first one, so it is not cached
+        Assert.assertEquals(cache.size(), 4);
+        Assert.assertEquals(cache.getMissCount(), 4);
+        Assert.assertEquals(cache.getHitCount(), 4);
+        Assert.assertNull(ExampleCache.key("application/json", new StringProperty()));
+    }
+
+    @Test(description = "check that deep and wide xml examples are capped")
+    public void cappedXmlExamplesTest() {
+        // every level refers twice to the next one, so the full example doubles with each level
+        final Map<String, Model> definitions = new HashMap<String, Model>();
+        for (int i = 0; i < 24; i++) {
+            final ModelImpl level = new ModelImpl().name("L" + i);
+            if (i < 23) {
+                level.property("left", new RefProperty("L" + (i + 1))).property("right", new RefProperty("L" + (i + 1)));
+            } else {
+                level.property("name", new StringProperty());
+            }
+            definitions.put(level.getName(), level);
+        }
+
+        final XmlExampleGenerator generator = new XmlExampleGenerator(definitions);
+        final String example = generator.toXml(new RefProperty("L0"));
+        Assert.assertTrue(example.length() < XmlExampleGenerator.DEFAULT_MAX_SIZE + 4096);
+        Assert.assertTrue(example.startsWith("<L0>\n"));
+        Assert.assertTrue(example.endsWith("\n</L0>"));
+
+        generator.setMaxDepth(2);
+        Assert.assertEquals(generator.toXml(new RefProperty("L0")), "<L0>\n" +
+                "  <L1>\n" +
+                "  </L1>\n" +
+                "  <L1>\n" +
+                "  </L1>\n" +
+                "</L0>");
+    }
+
+    @Test(description = "check that nested xml examples stop at the maximum depth")
+    public void xmlDepthCapTest() {
+        final Map<String, Model> definitions = new HashMap<String, Model>();
+        // refers to itself, which is never expanded, and starts a chain deeper than the cap
+        definitions.put("Node", new ModelImpl().name("Node").property("name", new StringProperty())
+                .property("parent", new RefProperty("Node"))
+                .property("next", new RefProperty("D0")));
+        for (int i = 0; i < 2 * XmlExampleGenerator.DEFAULT_MAX_DEPTH; i++) {
+            definitions.put("D" + i, new ModelImpl().name("D" + i).property("next", new RefProperty("D" + (i + 1))));
+        }
+
+        final String example = new XmlExampleGenerator(definitions).toXml(new RefProperty("Node"));
+        Assert.assertTrue(example.startsWith("<Node>\n  <name>string</name>\n  <D0>\n"));
+        Assert.assertTrue(example.endsWith("\n</Node>"));
+        Assert.assertEquals(example.split("<Node>", -1).length, 2);
+        // Node and the first levels of the chain
+        Assert.assertEquals(example.split("<D", -1).length, XmlExampleGenerator.DEFAULT_MAX_DEPTH);
+        Assert.assertFalse(example.contains("<D" + (XmlExampleGenerator.DEFAULT_MAX_DEPTH - 1) + ">"));
+    }
+
+    @Test(description = "check that oversized xml examples stop growing")
+    public void xmlSizeCapTest() {
+        final ModelImpl row = new ModelImpl().name("Row");
+        final ModelImpl table = new ModelImpl().name("Table");
+        for (int i = 0; i < 500; i++) {
+            row.property("cell" + i, new ArrayProperty(new StringProperty()));
+            table.property("row" + i, new RefProperty("Row"));
+        }
+        final Map<String, Model> definitions = ImmutableMap.<String, Model>of("Row", row, "Table", table);
+
+        final XmlExampleGenerator generator = new XmlExampleGenerator(definitions);
+        generator.setMaxSize(4096);
+        final String example = generator.toXml(new ArrayProperty(new RefProperty("Table")));
+        Assert.assertTrue(example.startsWith("<Table>\n  <Row>\n    <cell0>string</cell0>\n"));
+        Assert.assertTrue(example.endsWith("\n  </Row>\n</Table>"));
+        // the first row alone is larger than the cap, so it is cut short and no further rows are added
+        Assert.assertTrue(example.length() < 8192, String.valueOf(example.length()));
+        Assert.assertEquals(example.split("<Row>", -1).length, 2);
+    }
 }
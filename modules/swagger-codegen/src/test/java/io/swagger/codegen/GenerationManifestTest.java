@@ -0,0 +1,101 @@
+package io.swagger.codegen;
+
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class GenerationManifestTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testIncrementalGeneration() throws Exception {
+        final File output = folder.getRoot();
+
+        List<File> files = generate(output);
+        assertTrue(files.size() > 1);
+        assertTrue(new File(output, GenerationManifest.MANIFEST_FILE).exists());
+
+        // nothing changed, only the manifest is rewritten
+        files = generate(output);
+        assertEquals(files.size(), 1);
+        assertEquals(files.get(0), new File(output, GenerationManifest.MANIFEST_FILE));
+
+        // a modified file is regenerated
+        File pet = new File(output, "src/main/java/io/swagger/client/model/Pet.java");
+        FileUtils.writeStringToFile(pet, "changed");
+        files = generate(output);
+        assertEquals(files.size(), 2);
+        assertTrue(files.contains(pet));
+        assertNotEquals(FileUtils.readFileToString(pet), "changed");
+    }
+
+    @Test
+    public void testChangedOperationRegeneratesItsApi() throws Exception {
+        final File output = folder.getRoot();
+        generate(output);
+
+        Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        swagger.getPath("/pet/{petId}").getGet().setSummary("Find a pet by its ID");
+        List<File> files = generate(output, swagger);
+        assertTrue(files.contains(new File(output, "src/main/java/io/swagger/client/api/PetApi.java")));
+        assertFalse(files.contains(new File(output, "src/main/java/io/swagger/client/api/StoreApi.java")));
+        assertFalse(files.contains(new File(output, "src/main/java/io/swagger/client/model/Pet.java")));
+    }
+
+    @Test
+    public void testSupportingFilesFollowTheSelectedApis() throws Exception {
+        final File output = folder.getRoot();
+        generate(output);
+
+        // supporting files are rendered with the selected apis, which now only hold the store api
+        GenerationOptions options = new GenerationOptions()
+                .set(GenerationOptions.APIS, "Store")
+                .set(GenerationOptions.SUPPORTING_FILES, "");
+        List<File> files = generate(output, new SwaggerParser().read("src/test/resources/2_0/petstore.json"), options);
+        assertTrue(files.contains(new File(output, "src/main/java/io/swagger/client/StringUtil.java")));
+    }
+
+    @Test
+    public void testFingerprint() {
+        assertEquals(GenerationManifest.fingerprint("a", 1), GenerationManifest.fingerprint("a", 1));
+        assertNotEquals(GenerationManifest.fingerprint("a", 1), GenerationManifest.fingerprint("a", 2));
+    }
+
+    private static List<File> generate(File output) {
+        return generate(output, new SwaggerParser().read("src/test/resources/2_0/petstore.json"));
+    }
+
+    private static List<File> generate(File output, Swagger swagger) {
+        return generate(output, swagger, new GenerationOptions());
+    }
+
+    private static List<File> generate(File output, Swagger swagger, GenerationOptions options) {
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig)
+                .generationOptions(options);
+        return new DefaultGenerator().incremental(true).opts(clientOptInput).generate();
+    }
+}
@@ -0,0 +1,65 @@
+package io.swagger.codegen;
+
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+
+import static io.swagger.codegen.GeneratorInputs.input;
+import static org.testng.Assert.*;
+
+public class GenerationOptionsTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+        System.clearProperty("generationOptionsTest");
+    }
+
+    @Test
+    public void testSystemPropertiesAreOnlyAFallback() {
+        System.setProperty("generationOptionsTest", "system");
+
+        GenerationOptions fallback = GenerationOptions.fromSystemProperties();
+        assertEquals(fallback.get("generationOptionsTest"), "system");
+        fallback.set("generationOptionsTest", "run");
+        assertEquals(fallback.get("generationOptionsTest"), "run");
+        assertEquals(System.getProperty("generationOptionsTest"), "system");
+
+        GenerationOptions isolated = new GenerationOptions();
+        assertFalse(isolated.isSet("generationOptionsTest"));
+        assertEquals(isolated.get("generationOptionsTest", "default"), "default");
+    }
+
+    @Test
+    public void testRunsDontShareOptions() throws Exception {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        File modelsOnly = new File(folder.getRoot(), "models");
+        File all = new File(folder.getRoot(), "all");
+
+        new DefaultGenerator().opts(input(swagger, modelsOnly)
+                .generationOptions(new GenerationOptions().set(GenerationOptions.MODELS, "Pet"))).generate();
+        new DefaultGenerator().opts(input(swagger, all)
+                .generationOptions(new GenerationOptions())).generate();
+
+        assertTrue(new File(modelsOnly, "src/main/java/io/swagger/client/model/Pet.java").exists());
+        assertFalse(new File(modelsOnly, "src/main/java/io/swagger/client/model/Tag.java").exists());
+        assertFalse(new File(modelsOnly, "src/main/java/io/swagger/client/api/PetApi.java").exists());
+        assertFalse(new File(modelsOnly, "pom.xml").exists());
+
+        assertTrue(new File(all, "src/main/java/io/swagger/client/model/Tag.java").exists());
+        assertTrue(new File(all, "src/main/java/io/swagger/client/api/PetApi.java").exists());
+        assertTrue(new File(all, "pom.xml").exists());
+    }
+}
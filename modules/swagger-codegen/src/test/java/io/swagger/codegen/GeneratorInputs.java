@@ -0,0 +1,31 @@
+package io.swagger.codegen;
+
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.models.Swagger;
+
+import java.io.File;
+
+/**
+ * Generator inputs shared by the tests that run whole generations.
+ */
+public class GeneratorInputs {
+
+    /**
+     * @param config Config, generating into the given folder
+     * @param output Output folder
+     * @return input without a spec
+     */
+    public static ClientOptInput input(CodegenConfig config, File output) {
+        config.setOutputDir(output.getAbsolutePath());
+        return new ClientOptInput().opts(new ClientOpts()).config(config);
+    }
+
+    /**
+     * @param swagger Spec
+     * @param output Output folder
+     * @return input generating the default java client of the spec
+     */
+    public static ClientOptInput input(Swagger swagger, File output) {
+        return input(new JavaClientCodegen(), output).swagger(swagger);
+    }
+}
@@ -0,0 +1,60 @@
+package io.swagger.codegen;
+
+import io.swagger.models.ComposedModel;
+import io.swagger.models.Model;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.RefModel;
+import io.swagger.models.properties.StringProperty;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+public class InheritanceIndexTest {
+
+    @Test
+    public void testParentsComeBeforeChildren() {
+        Map<String, Model> definitions = new LinkedHashMap<String, Model>();
+        definitions.put("Puppy", child("Dog"));
+        definitions.put("Dog", child("Animal"));
+        definitions.put("Cat", child("Animal"));
+        definitions.put("Animal", new ModelImpl().property("name", new StringProperty()));
+        definitions.put("Orphan", child("Undefined"));
+
+        InheritanceIndex index = new InheritanceIndex(definitions);
+
+        assertEquals(index.getSortedNames(), Arrays.asList("Animal", "Orphan", "Dog", "Cat", "Puppy"));
+        assertEquals(index.getParent("Puppy"), "Dog");
+        assertNull(index.getParent("Animal"));
+        assertNull(index.getParent("Orphan"));
+        assertEquals(index.getChildren("Animal"), Arrays.asList("Dog", "Cat"));
+        assertEquals(index.getChildren("Puppy"), Collections.emptyList());
+        assertEquals(index.getDepth("Puppy"), 2);
+        assertEquals(index.getDepth("Orphan"), 0);
+    }
+
+    @Test
+    public void testCyclesAreBroken() {
+        Map<String, Model> definitions = new LinkedHashMap<String, Model>();
+        definitions.put("A", child("B"));
+        definitions.put("B", child("A"));
+
+        InheritanceIndex index = new InheritanceIndex(definitions);
+
+        assertEquals(index.getSortedNames().size(), 2);
+        assertEquals(index.getDepth("B"), 0);
+        assertEquals(index.getDepth("A"), 1);
+    }
+
+    private static Model child(String parent) {
+        return new ComposedModel()
+                .parent(new RefModel(parent))
+                .child(new ModelImpl())
+                .interfaces(new ArrayList<RefModel>());
+    }
+}
@@ -349,4 +349,70 @@ public class InlineModelResolverTest {
 
         Json.prettyPrint(swagger);
     }
+
+    @Test
+    public void testIdenticalInlineResponsesShareAModel() throws Exception {
+        Swagger swagger = new Swagger();
+
+        swagger.path("/foo", new Path()
+                .get(new Operation()
+                        .response(200, new Response()
+                                .description("it works!")
+                                .schema(new ObjectProperty()
+                                        .property("name", new StringProperty())))))
+                .path("/bar", new Path()
+                        .get(new Operation()
+                                .response(200, new Response()
+                                        .description("it works!")
+                                        .schema(new ObjectProperty()
+                                                .property("name", new StringProperty())))))
+                .path("/baz", new Path()
+                        .get(new Operation()
+                                .response(200, new Response()
+                                        .description("it works!")
+                                        .schema(new ObjectProperty()
+                                                .property("name", new StringProperty().description("other"))))));
+        new InlineModelResolver().flatten(swagger);
+
+        RefProperty foo = (RefProperty) swagger.getPaths().get("/foo").getGet().getResponses().get("200").getSchema();
+        RefProperty bar = (RefProperty) swagger.getPaths().get("/bar").getGet().getResponses().get("200").getSchema();
+        RefProperty baz = (RefProperty) swagger.getPaths().get("/baz").getGet().getResponses().get("200").getSchema();
+        assertEquals(foo.getSimpleRef(), bar.getSimpleRef());
+        assertFalse(foo.getSimpleRef().equals(baz.getSimpleRef()));
+        assertEquals(swagger.getDefinitions().size(), 2);
+    }
+
+    @Test
+    public void testGeneratedModelsMatchStructurally() throws Exception {
+        Swagger swagger = new Swagger();
+        InlineModelResolver resolver = new InlineModelResolver();
+        resolver.flatten(swagger);
+
+        ModelImpl added = new ModelImpl().property("name", new StringProperty());
+        added.setExample("{\"name\": \"doggie\"}");
+        resolver.addGenerated("inline_response_200", added);
+
+        ModelImpl same = new ModelImpl().property("name", new StringProperty());
+        same.setExample("{\"name\": \"doggie\"}");
+        assertEquals(resolver.matchGenerated(same), "inline_response_200");
+        // same hash, but the example differs
+        assertNull(resolver.matchGenerated(new ModelImpl().property("name", new StringProperty())));
+    }
+
+    @Test
+    public void testUniqueNameNumbering() throws Exception {
+        Swagger swagger = new Swagger();
+        swagger.addDefinition("inline_response_200", new ModelImpl());
+        swagger.addDefinition("inline_response_200_2", new ModelImpl());
+
+        InlineModelResolver resolver = new InlineModelResolver();
+        resolver.flatten(swagger);
+
+        // a name that was handed out but not used is handed out again
+        assertEquals(resolver.uniqueName("inline_response_200"), "inline_response_200_1");
+        assertEquals(resolver.uniqueName("inline_response_200!"), "inline_response_200_1");
+        swagger.addDefinition("inline_response_200_1", new ModelImpl());
+        assertEquals(resolver.uniqueName("inline_response_200"), "inline_response_200_3");
+        assertEquals(resolver.uniqueName("User"), "User");
+    }
 }
@@ -0,0 +1,115 @@
+package io.swagger.codegen;
+
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.codegen.utils.NamingUtils;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Map;
+
+import static io.swagger.codegen.GeneratorInputs.input;
+import static org.testng.Assert.*;
+
+public class NameCacheTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testLeastRecentlyUsedNamesAreEvicted() {
+        NameCache cache = new NameCache(2);
+        cache.put(NameCache.Conversion.MODEL_NAME, "a", "A");
+        cache.put(NameCache.Conversion.MODEL_NAME, "b", "B");
+        assertEquals(cache.get(NameCache.Conversion.MODEL_NAME, "a"), "A");
+        cache.put(NameCache.Conversion.MODEL_NAME, "c", "C");
+        cache.put(NameCache.Conversion.VAR_NAME, "a", "a");
+
+        assertNull(cache.get(NameCache.Conversion.MODEL_NAME, "b"));
+        assertEquals(cache.get(NameCache.Conversion.MODEL_NAME, "c"), "C");
+        assertEquals(cache.get(NameCache.Conversion.VAR_NAME, "a"), "a");
+        assertEquals(cache.size(), 3);
+        assertEquals(cache.getHitCount(), 3);
+        assertEquals(cache.getMissCount(), 1);
+        assertEquals(cache.getHitRate(), 0.75, 0.001);
+    }
+
+    @Test
+    public void testOverriddenConversionsAreCached() {
+        JavaClientCodegen config = new JavaClientCodegen();
+        config.setNameCache(new NameCache());
+
+        assertEquals(config.convertName(NameCache.Conversion.MODEL_NAME, "pet_tag"), config.toModelName("pet_tag"));
+        assertEquals(config.convertName(NameCache.Conversion.VAR_NAME, "pet_tag"), config.toVarName("pet_tag"));
+        assertEquals(config.convertName(NameCache.Conversion.MODEL_NAME, "pet_tag"), "PetTag");
+        assertEquals(config.getNameCache().getHitCount(), 1);
+        assertEquals(config.getNameCache().getMissCount(), 2);
+    }
+
+    @Test
+    public void testCamelizeAndUnderscoreAreShared() {
+        NameCache shared = DefaultCodegen.getSharedNameCache();
+        String word = "name_cache_test/shared-word";
+
+        long hits = shared.getHitCount();
+        assertEquals(DefaultCodegen.camelize(word), NamingUtils.camelize(word, false));
+        assertEquals(DefaultCodegen.camelize(word), NamingUtils.camelize(word, false));
+        assertEquals(DefaultCodegen.camelize(word, true), NamingUtils.camelize(word, true));
+        assertEquals(DefaultCodegen.underscore(word), NamingUtils.underscore(word));
+        assertEquals(DefaultCodegen.underscore(word), NamingUtils.underscore(word));
+        assertTrue(shared.getHitCount() >= hits + 2);
+
+        // language configs calling camelize themselves go through the shared cache as well
+        JavaClientCodegen config = new JavaClientCodegen();
+        String modelName = config.toModelName(word);
+        hits = shared.getHitCount();
+        assertEquals(config.toModelName(word), modelName);
+        assertTrue(shared.getHitCount() > hits);
+    }
+
+    @Test
+    public void testGeneratedFilesAreUnchanged() throws Exception {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        File plain = new File(folder.getRoot(), "plain");
+        File cached = new File(folder.getRoot(), "cached");
+
+        new DefaultGenerator().opts(input(swagger, plain)).generate();
+        DefaultGenerator generator = new DefaultGenerator().nameCache(NameCache.DEFAULT_MAX_SIZE);
+        generator.opts(input(swagger, cached)).generate();
+
+        Map<String, Long> counters = generator.getMetrics().getCounters();
+        assertTrue(counters.get("nameCache.hits") > 0);
+        assertTrue(counters.get("nameCache.misses") > 0);
+
+        Collection<File> files = FileUtils.listFiles(plain, null, true);
+        assertFalse(files.isEmpty());
+        for (File file : files) {
+            String path = file.getAbsolutePath().substring(plain.getAbsolutePath().length());
+            if (path.contains(".swagger-codegen")) {
+                continue;
+            }
+            File other = new File(cached, path);
+            assertTrue(other.exists(), path);
+            assertEquals(withoutDate(FileUtils.readFileToString(other)), withoutDate(FileUtils.readFileToString(file)), path);
+        }
+    }
+
+    private static String withoutDate(String content) {
+        return content.replaceAll("date = \"[^\"]*\"", "date = \"\"");
+    }
+}
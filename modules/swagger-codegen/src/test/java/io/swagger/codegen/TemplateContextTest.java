@@ -0,0 +1,72 @@
+package io.swagger.codegen;
+
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+public class TemplateContextTest {
+
+    @Test
+    public void testSameLookupsAsCopyingTheGlobals() {
+        Map<String, Object> globals = new HashMap<String, Object>();
+        globals.put("package", "io.swagger.client");
+        globals.put("classname", "Global");
+
+        Map<String, Object> local = new HashMap<String, Object>();
+        local.put("classname", "Pet");
+        local.put("model", "pet");
+
+        Map<String, Object> copied = new HashMap<String, Object>(local);
+        copied.putAll(globals);
+        Map<String, Object> context = new TemplateContext(local, Collections.unmodifiableMap(globals));
+
+        assertEquals(context, copied);
+        assertEquals(context.size(), 3);
+        assertEquals(context.get("classname"), "Global");
+
+        context.put("classname", "Pet");
+        assertEquals(context.get("classname"), "Pet");
+        assertEquals(context.size(), 3);
+
+        context.remove("package");
+        assertFalse(context.containsKey("package"));
+        assertNull(context.get("package"));
+        assertEquals(context.size(), 2);
+        assertEquals(globals.get("package"), "io.swagger.client");
+    }
+
+    @Test
+    public void testIteratorRemovesGlobals() {
+        Map<String, Object> context = new TemplateContext(new HashMap<String, Object>(),
+                Collections.<String, Object>singletonMap("package", "io.swagger.client"));
+        context.put("model", "pet");
+
+        Iterator<Map.Entry<String, Object>> iterator = context.entrySet().iterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+        assertTrue(context.isEmpty());
+    }
+
+    @Test
+    public void testCopiesAreIndependent() {
+        Map<String, Object> context = new TemplateContext(new HashMap<String, Object>(),
+                Collections.<String, Object>singletonMap("package", "io.swagger.client"));
+        context.put("model", "pet");
+
+        Map<String, Object> copy = TemplateContext.copyOf(context);
+        copy.put("model", "order");
+        copy.remove("package");
+
+        assertEquals(context.get("model"), "pet");
+        assertEquals(context.get("package"), "io.swagger.client");
+        assertEquals(copy.get("model"), "order");
+        assertFalse(copy.containsKey("package"));
+    }
+}
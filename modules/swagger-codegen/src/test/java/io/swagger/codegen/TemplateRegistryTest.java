@@ -0,0 +1,102 @@
+package io.swagger.codegen;
+
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+
+import static org.testng.Assert.*;
+
+public class TemplateRegistryTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testTemplatesAreCompiledOnce() throws Exception {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(folder.getRoot().getAbsolutePath());
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig);
+        TemplateRegistry registry = new TemplateRegistry();
+
+        new DefaultGenerator().templateRegistry(registry).opts(clientOptInput).generate();
+        long misses = registry.getMissCount();
+        assertTrue(registry.size() > 0);
+        assertTrue(registry.getHitCount() > 0);
+
+        // a second run in the same JVM only hits the registry
+        new DefaultGenerator().templateRegistry(registry).opts(clientOptInput).generate();
+        assertEquals(registry.getMissCount(), misses);
+    }
+
+    @Test
+    public void testPartialsAreReadByTheRenderingGenerator() throws Exception {
+        TemplateRegistry registry = new TemplateRegistry();
+        File plain = new File(folder.getRoot(), "plain");
+        File custom = new File(folder.getRoot(), "custom");
+
+        new DefaultGenerator().templateRegistry(registry).opts(petModel(plain)).generate();
+        new DefaultGenerator() {
+            @Override
+            public String readTemplate(String name) {
+                return name.endsWith("pojo.mustache") ? "custom pojo {{classname}}" : super.readTemplate(name);
+            }
+        }.templateRegistry(registry).opts(petModel(custom)).generate();
+
+        String model = "src/main/java/io/swagger/client/model/Pet.java";
+        assertFalse(FileUtils.readFileToString(new File(plain, model)).contains("custom pojo"));
+        assertTrue(FileUtils.readFileToString(new File(custom, model)).contains("custom pojo Pet"));
+    }
+
+    private static ClientOptInput petModel(File output) {
+        Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        return new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig)
+                .generationOptions(new GenerationOptions().set(GenerationOptions.MODELS, "Pet"));
+    }
+
+    @Test
+    public void testInvalidateTemplateDir() {
+        TemplateRegistry registry = new TemplateRegistry();
+        registry.putSource("/custom|null|io.swagger.codegen.DefaultGenerator|/custom/model.mustache", "{{model}}");
+        registry.putSource("Java|null|io.swagger.codegen.DefaultGenerator|Java/api.mustache", "{{api}}");
+
+        registry.invalidate("/custom");
+
+        assertNull(registry.getSource("/custom|null|io.swagger.codegen.DefaultGenerator|/custom/model.mustache"));
+        assertEquals(registry.getSource("Java|null|io.swagger.codegen.DefaultGenerator|Java/api.mustache"), "{{api}}");
+        assertEquals(registry.getHitCount(), 1);
+        assertEquals(registry.getMissCount(), 1);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedSourcesAreEvicted() {
+        TemplateRegistry registry = new TemplateRegistry(2);
+        registry.putSource("Java|null|io.swagger.codegen.DefaultGenerator|Java/model.mustache", "{{model}}");
+        registry.putSource("Java|null|io.swagger.codegen.DefaultGenerator|Java/api.mustache", "{{api}}");
+        registry.getSource("Java|null|io.swagger.codegen.DefaultGenerator|Java/model.mustache");
+        registry.putSource("Java|null|io.swagger.codegen.DefaultGenerator|Java/pom.mustache", "{{pom}}");
+
+        assertNull(registry.getSource("Java|null|io.swagger.codegen.DefaultGenerator|Java/api.mustache"));
+        assertEquals(registry.getSource("Java|null|io.swagger.codegen.DefaultGenerator|Java/model.mustache"), "{{model}}");
+        assertEquals(registry.getSource("Java|null|io.swagger.codegen.DefaultGenerator|Java/pom.mustache"), "{{pom}}");
+    }
+}
@@ -0,0 +1,54 @@
+package io.swagger.codegen;
+
+import org.apache.commons.io.IOUtils;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.testng.Assert.*;
+
+public class ZipOutputSinkTest {
+
+    @Test
+    public void testEntriesAreRelativeToRoot() throws Exception {
+        String root = new File("target/zip-root").getAbsolutePath();
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        ZipOutputSink sink = new ZipOutputSink(archive, root);
+
+        OutputStream first = sink.open(root + "/java-client/src/Pet.java");
+        OutputStream second = sink.open(root + "/java-client/src/Order.java");
+        second.write("class Order {}".getBytes("UTF-8"));
+        first.write("class Pet {}".getBytes("UTF-8"));
+        first.close();
+        second.close();
+        sink.write(root + "/java-client/README.md", new ByteArrayInputStream("# Petstore".getBytes("UTF-8")));
+        sink.write(root + "/java-client/src/Pet.java", "class Duplicate {}".getBytes("UTF-8"));
+        sink.close();
+
+        Map<String, String> entries = read(archive.toByteArray());
+        assertEquals(entries.keySet().toString(),
+                "[java-client/src/Pet.java, java-client/src/Order.java, java-client/README.md]");
+        assertEquals(entries.get("java-client/src/Pet.java"), "class Pet {}");
+        assertEquals(sink.getWrittenCount(), 3);
+        assertEquals(sink.getSkippedCount(), 1);
+        assertEquals(sink.getBytesWritten(), 36);
+    }
+
+    private static Map<String, String> read(byte[] archive) throws Exception {
+        Map<String, String> entries = new LinkedHashMap<String, String>();
+        ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(archive));
+        ZipEntry entry;
+        while ((entry = in.getNextEntry()) != null) {
+            entries.put(entry.getName(), IOUtils.toString(in, "UTF-8"));
+        }
+        in.close();
+        return entries;
+    }
+}
@@ -4,12 +4,12 @@ import io.swagger.codegen.ClientOptInput;
 import io.swagger.codegen.CodegenConfig;
 import io.swagger.codegen.CodegenConfigLoader;
 import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.GenerationOptions;
 import io.swagger.codegen.auth.AuthParser;
 import io.swagger.codegen.languages.JavaClientCodegen;
 import io.swagger.models.Swagger;
 import io.swagger.models.auth.AuthorizationValue;
 import io.swagger.parser.SwaggerParser;
-import mockit.Expectations;
 import mockit.FullVerifications;
 import mockit.Injectable;
 import mockit.Mocked;
@@ -23,6 +23,7 @@ import java.util.Map;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 @SuppressWarnings("static-method")
@@ -46,24 +47,19 @@ public class CodegenConfiguratorTest {
     @Tested
     CodegenConfigurator configurator;
 
-    @SuppressWarnings("unused")
     @Test
     public void testVerbose() throws Exception {
 
         configurator.setVerbose(true);
 
-        new StrictExpectations(System.class) {{
-            System.setProperty("debugSwagger", "");
-            times = 1;
-            System.setProperty("debugModels", "");
-            times = 1;
-            System.setProperty("debugOperations", "");
-            times = 1;
-            System.setProperty("debugSupportingFiles", "");
-            times = 1;
-        }};
+        final ClientOptInput clientOptInput = setupAndRunGenericTest(configurator);
 
-        setupAndRunGenericTest(configurator);
+        final GenerationOptions generationOptions = clientOptInput.getGenerationOptions();
+        assertEquals(generationOptions.get(GenerationOptions.DEBUG_SWAGGER), "");
+        assertEquals(generationOptions.get(GenerationOptions.DEBUG_MODELS), "");
+        assertEquals(generationOptions.get(GenerationOptions.DEBUG_OPERATIONS), "");
+        assertEquals(generationOptions.get(GenerationOptions.DEBUG_SUPPORTING_FILES), "");
+        assertNull(System.getProperty(GenerationOptions.DEBUG_MODELS));
     }
 
     @Test
@@ -77,21 +73,18 @@ public class CodegenConfiguratorTest {
         assertValueInMap(clientOptInput.getConfig().additionalProperties(), CodegenConstants.TEMPLATE_DIR, toAbsolutePathDir(templateDir));
     }
 
-    @SuppressWarnings("unused")
     @Test
     public void testSystemProperties() throws Exception {
 
         configurator.addSystemProperty("hello", "world")
                 .addSystemProperty("foo", "bar");
 
-        new Expectations(System.class) {{
-            System.setProperty("hello", "world");
-            times = 1;
-            System.setProperty("foo", "bar");
-            times = 1;
-        }};
+        final ClientOptInput clientOptInput = setupAndRunGenericTest(configurator);
 
-        setupAndRunGenericTest(configurator);
+        assertEquals(clientOptInput.getGenerationOptions().get("hello"), "world");
+        assertEquals(clientOptInput.getGenerationOptions().get("foo"), "bar");
+        assertNull(System.getProperty("hello"));
+        assertNull(System.getProperty("foo"));
     }
 
     @Test
@@ -0,0 +1,104 @@
+package io.swagger.codegen.metrics;
+
+import com.samskivert.mustache.Mustache;
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.ClientOpts;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenProperty;
+import io.swagger.codegen.DefaultCodegen;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.GenerationManifest;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.models.Swagger;
+import io.swagger.models.properties.StringProperty;
+import io.swagger.parser.SwaggerParser;
+import io.swagger.util.Json;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+public class GenerationMetricsTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testPhasesAreReported() throws Exception {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(folder.getRoot().getAbsolutePath());
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig);
+
+        JmxMetricsListener listener = new JmxMetricsListener();
+        GenerationMetrics metrics = new GenerationMetrics().addListener(listener);
+        new DefaultGenerator().metrics(metrics).opts(clientOptInput).generate();
+
+        Map<String, Long> phases = metrics.getPhaseMillis();
+        assertTrue(phases.containsKey(GenerationMetrics.FLATTEN));
+        assertTrue(phases.containsKey(GenerationMetrics.PROCESS_MODELS));
+        assertTrue(phases.containsKey(GenerationMetrics.PROCESS_OPERATIONS));
+        assertTrue(phases.containsKey(GenerationMetrics.RENDER_TEMPLATE));
+
+        List<GenerationMetrics.Stat> slowest = metrics.getSlowest(GenerationMetrics.PROCESS_MODELS, 3);
+        assertEquals(slowest.size(), 3);
+        assertTrue(slowest.get(0).getNanos() >= slowest.get(1).getNanos());
+
+        assertEquals(listener.getRunCount(), 1);
+        assertEquals(listener.getLastRunPhaseMillis(), phases);
+        assertTrue(listener.getLastRunReport().contains(GenerationMetrics.POST_PROCESS_ALL_MODELS));
+    }
+
+    @Test
+    public void testUnusedLazyValuesAreNotComputed() throws Exception {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(folder.getRoot().getAbsolutePath());
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig);
+
+        GenerationMetrics metrics = new GenerationMetrics();
+        new DefaultGenerator().metrics(metrics).opts(clientOptInput).generate();
+
+        // the Java templates don't use the model JSON
+        Map<String, Long> counters = metrics.getCounters();
+        assertTrue(counters.get("modelJson.created") > 0);
+        assertFalse(counters.containsKey("modelJson.computed"));
+        assertTrue(metrics.report(5).contains("modelJson.created"));
+    }
+
+    @Test
+    public void testLazyValuesAreOnlyComputedWhenUsed() throws Exception {
+        GenerationMetrics metrics = new GenerationMetrics();
+        DefaultCodegen codegen = new DefaultCodegen();
+        codegen.setMetrics(metrics);
+        StringProperty source = new StringProperty();
+
+        CodegenProperty first = codegen.fromProperty("name", source);
+        CodegenProperty second = codegen.fromProperty("name", source);
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        GenerationManifest.fingerprint(first);
+        assertFalse(metrics.getCounters().containsKey("propertyJsonSchema.computed"));
+
+        String rendered = Mustache.compiler().escapeHTML(false).compile("{{jsonSchema}}").execute(first);
+        assertEquals(rendered, Json.pretty(source));
+        assertEquals(metrics.getCounters().get("propertyJsonSchema.computed"), Long.valueOf(1));
+
+        // debug output shows the values templates can use
+        assertTrue(Json.pretty(second).contains("\"jsonSchema\""));
+    }
+}
@@ -14,6 +14,7 @@ public class AndroidClientOptionsProvider implements OptionsProvider {
     public static final String INVOKER_PACKAGE_VALUE = "io.swagger.client.test";
     public static final String SORT_PARAMS_VALUE = "false";
     public static final String ENSURE_UNIQUE_PARAMS_VALUE = "true";
+    public static final String SKIP_EXAMPLES_VALUE = "false";
     public static final String GROUP_ID_VALUE = "io.swagger.test";
     public static final String ARTIFACT_VERSION_VALUE = "1.0.0-SNAPSHOT";
     public static final String SOURCE_FOLDER_VALUE = "src/main/java/test";
@@ -32,6 +33,7 @@ public class AndroidClientOptionsProvider implements OptionsProvider {
                 .put(CodegenConstants.API_PACKAGE, API_PACKAGE_VALUE)
                 .put(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG, SORT_PARAMS_VALUE)
                 .put(CodegenConstants.ENSURE_UNIQUE_PARAMS, ENSURE_UNIQUE_PARAMS_VALUE)
+                .put(CodegenConstants.SKIP_EXAMPLES, SKIP_EXAMPLES_VALUE)
                 .put(CodegenConstants.INVOKER_PACKAGE, INVOKER_PACKAGE_VALUE)
                 .put(CodegenConstants.GROUP_ID, GROUP_ID_VALUE)
                 .put(CodegenConstants.ARTIFACT_ID, ARTIFACT_ID_VALUE)
@@ -10,6 +10,7 @@ import java.util.Map;
 public class DartClientOptionsProvider implements OptionsProvider {
     public static final String SORT_PARAMS_VALUE = "false";
     public static final String ENSURE_UNIQUE_PARAMS_VALUE = "true";
+    public static final String SKIP_EXAMPLES_VALUE = "false";
     public static final String BROWSER_CLIENT_VALUE = "true";
     public static final String PUB_NAME_VALUE = "swagger";
     public static final String PUB_VERSION_VALUE = "1.0.0-SNAPSHOT";
@@ -26,6 +27,7 @@ public class DartClientOptionsProvider implements OptionsProvider {
         ImmutableMap.Builder<String, String> builder = new ImmutableMap.Builder<String, String>();
         return builder.put(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG, SORT_PARAMS_VALUE)
                 .put(CodegenConstants.ENSURE_UNIQUE_PARAMS, ENSURE_UNIQUE_PARAMS_VALUE)
+                .put(CodegenConstants.SKIP_EXAMPLES, SKIP_EXAMPLES_VALUE)
                 .put(DartClientCodegen.BROWSER_CLIENT, BROWSER_CLIENT_VALUE)
                 .put(DartClientCodegen.PUB_NAME, PUB_NAME_VALUE)
                 .put(DartClientCodegen.PUB_VERSION, PUB_VERSION_VALUE)
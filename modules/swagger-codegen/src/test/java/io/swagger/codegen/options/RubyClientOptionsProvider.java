@@ -13,6 +13,7 @@ public class RubyClientOptionsProvider implements OptionsProvider {
     public static final String GEM_VERSION_VALUE = "1.0.0-SNAPSHOT";
     public static final String SORT_PARAMS_VALUE = "false";
     public static final String ENSURE_UNIQUE_PARAMS_VALUE = "true";
+    public static final String SKIP_EXAMPLES_VALUE = "false";
     public static final String GEM_LICENSE_VALUE = "MIT";
     public static final String GEM_HOMEPAGE_VALUE = "homepage";
     public static final String GEM_SUMMARY_VALUE = "summary";
@@ -39,6 +40,7 @@ public class RubyClientOptionsProvider implements OptionsProvider {
                 .put(RubyClientCodegen.GEM_AUTHOR_EMAIL, GEM_AUTHOR_EMAIL_VALUE)
                 .put(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG, SORT_PARAMS_VALUE)
                 .put(CodegenConstants.ENSURE_UNIQUE_PARAMS, ENSURE_UNIQUE_PARAMS_VALUE)
+                .put(CodegenConstants.SKIP_EXAMPLES, SKIP_EXAMPLES_VALUE)
                 .build();
     }
 
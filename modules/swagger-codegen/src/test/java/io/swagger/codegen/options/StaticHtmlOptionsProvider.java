@@ -9,6 +9,7 @@ import java.util.Map;
 public class StaticHtmlOptionsProvider implements OptionsProvider {
     public static final String SORT_PARAMS_VALUE = "false";
     public static final String ENSURE_UNIQUE_PARAMS_VALUE = "true";
+    public static final String SKIP_EXAMPLES_VALUE = "false";
     public static final String ARTIFACT_ID_VALUE = "swagger-java-client-test";
     public static final String INVOKER_PACKAGE_VALUE = "io.swagger.client.test";
     public static final String GROUP_ID_VALUE = "io.swagger.test";
@@ -24,6 +25,7 @@ public class StaticHtmlOptionsProvider implements OptionsProvider {
         ImmutableMap.Builder<String, String> builder = new ImmutableMap.Builder<String, String>();
         return builder.put(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG, SORT_PARAMS_VALUE)
                 .put(CodegenConstants.ENSURE_UNIQUE_PARAMS, ENSURE_UNIQUE_PARAMS_VALUE)
+                .put(CodegenConstants.SKIP_EXAMPLES, SKIP_EXAMPLES_VALUE)
                 .put("appName", "Swagger Sample")
                 .put("appDescription", "A sample swagger server")
                 .put("infoUrl", "https://helloreverb.com")
@@ -10,6 +10,7 @@ import java.util.Map;
 public class SwiftOptionsProvider implements OptionsProvider {
     public static final String SORT_PARAMS_VALUE = "false";
     public static final String ENSURE_UNIQUE_PARAMS_VALUE = "true";
+    public static final String SKIP_EXAMPLES_VALUE = "false";
     public static final String PROJECT_NAME_VALUE = "Swagger";
     public static final String RESPONSE_AS_VALUE = "test";
     public static final String UNWRAP_REQUIRED_VALUE = "true";
@@ -36,6 +37,7 @@ public class SwiftOptionsProvider implements OptionsProvider {
         ImmutableMap.Builder<String, String> builder = new ImmutableMap.Builder<String, String>();
         return builder.put(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG, SORT_PARAMS_VALUE)
                 .put(CodegenConstants.ENSURE_UNIQUE_PARAMS, ENSURE_UNIQUE_PARAMS_VALUE)
+                .put(CodegenConstants.SKIP_EXAMPLES, SKIP_EXAMPLES_VALUE)
                 .put(SwiftCodegen.PROJECT_NAME, PROJECT_NAME_VALUE)
                 .put(SwiftCodegen.RESPONSE_AS, RESPONSE_AS_VALUE)
                 .put(SwiftCodegen.UNWRAP_REQUIRED, UNWRAP_REQUIRED_VALUE)
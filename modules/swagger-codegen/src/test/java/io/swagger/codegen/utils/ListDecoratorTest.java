@@ -0,0 +1,66 @@
+package io.swagger.codegen.utils;
+
+import io.swagger.codegen.CodegenProperty;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+public class ListDecoratorTest {
+
+    @Test
+    public void testMediaTypes() {
+        List<Map<String, String>> mediaTypes = ListDecorator.mediaTypes(Arrays.asList("application/json", "application/xml"));
+
+        Map<String, String> json = new HashMap<String, String>();
+        json.put("mediaType", "application/json");
+        json.put("hasMore", "true");
+        Map<String, String> xml = new HashMap<String, String>();
+        xml.put("mediaType", "application/xml");
+        xml.put("hasMore", null);
+        assertEquals(mediaTypes, Arrays.asList(json, xml));
+        assertTrue(mediaTypes.get(1).containsKey("hasMore"));
+        assertNull(mediaTypes.get(1).get("hasMore"));
+        assertFalse(mediaTypes.get(1).containsKey("other"));
+    }
+
+    @Test
+    public void testMediaTypesCanBeChanged() {
+        List<Map<String, String>> mediaTypes = ListDecorator.mediaTypes(Arrays.asList("application/json", "application/xml"));
+
+        Map<String, String> json = mediaTypes.get(0);
+        json.put("isJson", "true");
+        assertEquals(json.get("isJson"), "true");
+        assertEquals(json.get("mediaType"), "application/json");
+        assertEquals(json.get("hasMore"), "true");
+        assertEquals(json.size(), 3);
+
+        Map<String, String> xml = mediaTypes.get(1);
+        xml.put("hasMore", "true");
+        xml.remove("mediaType");
+        assertEquals(xml.get("hasMore"), "true");
+        assertFalse(xml.containsKey("mediaType"));
+        assertEquals(xml.size(), 1);
+    }
+
+    @Test
+    public void testMark() {
+        List<CodegenProperty> properties = new ArrayList<CodegenProperty>();
+        for (int i = 0; i < 3; i++) {
+            properties.add(new CodegenProperty());
+        }
+        properties.get(2).hasMore = true;
+
+        ListDecorator.mark(properties, ListDecorator.PROPERTY_HAS_MORE);
+
+        assertEquals(properties.get(0).hasMore, Boolean.TRUE);
+        assertEquals(properties.get(1).hasMore, Boolean.TRUE);
+        assertNull(properties.get(2).hasMore);
+        assertNull(ListDecorator.mark(null, ListDecorator.PROPERTY_HAS_MORE));
+    }
+}
@@ -0,0 +1,41 @@
+package io.swagger.codegen.utils;
+
+import io.swagger.models.ModelImpl;
+import io.swagger.models.properties.ArrayProperty;
+import io.swagger.models.properties.IntegerProperty;
+import io.swagger.models.properties.RefProperty;
+import io.swagger.models.properties.StringProperty;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class ModelHashTest {
+
+    @Test
+    public void testPropertyOrderDoesNotMatter() {
+        ModelImpl a = new ModelImpl()
+                .property("id", new IntegerProperty())
+                .property("name", new StringProperty());
+        ModelImpl b = new ModelImpl()
+                .property("name", new StringProperty())
+                .property("id", new IntegerProperty());
+
+        assertEquals(ModelHash.of(a), ModelHash.of(b));
+    }
+
+    @Test
+    public void testStructureMatters() {
+        ModelImpl model = new ModelImpl().property("tags", new ArrayProperty(new StringProperty()));
+
+        assertEquals(ModelHash.of(model),
+                ModelHash.of(new ModelImpl().property("tags", new ArrayProperty(new StringProperty()))));
+        assertNotEquals(ModelHash.of(model),
+                ModelHash.of(new ModelImpl().property("tags", new ArrayProperty(new IntegerProperty()))));
+        assertNotEquals(ModelHash.of(model),
+                ModelHash.of(new ModelImpl().property("tags", new ArrayProperty(new RefProperty("Tag")))));
+        assertNotEquals(ModelHash.of(model),
+                ModelHash.of(new ModelImpl().property("labels", new ArrayProperty(new StringProperty()))));
+        assertNotEquals(ModelHash.of(model),
+                ModelHash.of(new ModelImpl().description("tagged").property("tags", new ArrayProperty(new StringProperty()))));
+    }
+}
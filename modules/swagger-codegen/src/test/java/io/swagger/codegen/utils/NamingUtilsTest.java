@@ -0,0 +1,243 @@
+package io.swagger.codegen.utils;
+
+import io.swagger.models.Model;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.Swagger;
+import io.swagger.models.parameters.Parameter;
+import io.swagger.parser.SwaggerParser;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.testng.Assert.*;
+
+/**
+ * Checks the naming utilities against the regular expression based implementations they
+ * replaced, for the names found in the test specs and for random strings.
+ */
+public class NamingUtilsTest {
+    private static final String ALPHABET = "aAbBiIzZ09_-./$[]() \\:;#\n\u00e9\u00df\u2028xX";
+
+    @Test
+    public void testExamples() {
+        assertEquals(NamingUtils.camelize("pet_store/order-item", false), "PetStoreOrder-item");
+        assertEquals(NamingUtils.camelize("find_pets_by_status", true), "findPetsByStatus");
+        assertEquals(NamingUtils.underscore("PetStore.OrderItem"), "pet_store/order_item");
+        assertEquals(NamingUtils.dashize("myName"), "my-name");
+        assertEquals(NamingUtils.sanitizeName("input[a][b].name-x(y)"), "input_a_b_name_x_y");
+        assertEquals(NamingUtils.generateNextName("myName100"), "myName101");
+        assertEquals(NamingUtils.generateNextName("status"), "status2");
+        assertEquals(NamingUtils.removeNonNameElementToCamelCase("x-rate_limit"), "xRateLimit");
+    }
+
+    @Test
+    public void testSameAsRegexForSpecNames() {
+        for (String name : specNames()) {
+            assertSameAsRegex(name);
+        }
+    }
+
+    @Test
+    public void testSameAsRegexForRandomNames() {
+        Random random = new Random(42);
+        for (int n = 0; n < 20000; n++) {
+            int length = random.nextInt(12);
+            StringBuilder sb = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            assertSameAsRegex(sb.toString());
+        }
+    }
+
+    private static void assertSameAsRegex(String name) {
+        assertEquals(result(new Call() {
+            String call(String s) {
+                return NamingUtils.camelize(s, false);
+            }
+        }, name), result(new Call() {
+            String call(String s) {
+                return RegexNaming.camelize(s, false);
+            }
+        }, name), "camelize " + name);
+        assertEquals(result(new Call() {
+            String call(String s) {
+                return NamingUtils.camelize(s, true);
+            }
+        }, name), result(new Call() {
+            String call(String s) {
+                return RegexNaming.camelize(s, true);
+            }
+        }, name), "camelize lower " + name);
+        assertEquals(NamingUtils.underscore(name), RegexNaming.underscore(name), "underscore " + name);
+        assertEquals(NamingUtils.dashize(name), RegexNaming.dashize(name), "dashize " + name);
+        assertEquals(NamingUtils.sanitizeName(name), RegexNaming.sanitizeName(name), "sanitizeName " + name);
+        assertEquals(NamingUtils.removeNonNameElementToCamelCase(name),
+                RegexNaming.removeNonNameElementToCamelCase(name), "removeNonNameElementToCamelCase " + name);
+        assertEquals(result(new Call() {
+            String call(String s) {
+                return NamingUtils.generateNextName(s);
+            }
+        }, name), result(new Call() {
+            String call(String s) {
+                return RegexNaming.generateNextName(s);
+            }
+        }, name), "generateNextName " + name);
+    }
+
+    private static List<String> specNames() {
+        Set<String> names = new LinkedHashSet<String>();
+        File[] files = new File("src/test/resources/2_0").listFiles();
+        assertNotNull(files);
+        for (File file : files) {
+            if (!file.getName().endsWith(".json") && !file.getName().endsWith(".yaml")) {
+                continue;
+            }
+            Swagger swagger = new SwaggerParser().read(file.getPath());
+            if (swagger == null) {
+                continue;
+            }
+            if (swagger.getDefinitions() != null) {
+                for (Map.Entry<String, Model> entry : swagger.getDefinitions().entrySet()) {
+                    names.add(entry.getKey());
+                    if (entry.getValue().getProperties() != null) {
+                        names.addAll(entry.getValue().getProperties().keySet());
+                    }
+                }
+            }
+            if (swagger.getPaths() != null) {
+                for (Map.Entry<String, Path> entry : swagger.getPaths().entrySet()) {
+                    names.add(entry.getKey());
+                    for (Operation operation : entry.getValue().getOperations()) {
+                        names.add(operation.getOperationId());
+                        if (operation.getTags() != null) {
+                            names.addAll(operation.getTags());
+                        }
+                        for (Parameter parameter : operation.getParameters()) {
+                            names.add(parameter.getName());
+                        }
+                    }
+                }
+            }
+        }
+        names.remove(null);
+        assertTrue(names.size() > 100);
+        return new ArrayList<String>(names);
+    }
+
+    private abstract static class Call {
+        abstract String call(String s);
+    }
+
+    /**
+     * The result of the call, or the type of the exception it threw.
+     */
+    private static String result(Call call, String s) {
+        try {
+            return "=" + call.call(s);
+        } catch (RuntimeException e) {
+            return "!" + e.getClass().getName();
+        }
+    }
+
+    /**
+     * The implementations DefaultCodegen used before, kept as the reference.
+     */
+    private static class RegexNaming {
+        static String underscore(String word) {
+            word = word.replaceAll("\\.", "/");
+            word = word.replaceAll("\\$", "__");
+            word = word.replaceAll("([A-Z]+)([A-Z][a-z])", "$1_$2");
+            word = word.replaceAll("([a-z\\d])([A-Z])", "$1_$2");
+            word = word.replace('-', '_');
+            return word.toLowerCase();
+        }
+
+        static String dashize(String word) {
+            return underscore(word).replaceAll("[_ ]", "-");
+        }
+
+        static String generateNextName(String name) {
+            Matcher matcher = Pattern.compile("\\d+\\z").matcher(name);
+            if (matcher.find()) {
+                String numStr = matcher.group();
+                int num = Integer.parseInt(numStr) + 1;
+                return name.substring(0, name.length() - numStr.length()) + num;
+            }
+            return name + "2";
+        }
+
+        static String removeNonNameElementToCamelCase(String name) {
+            StringBuilder sb = new StringBuilder();
+            for (String part : name.split("[-_:;#]")) {
+                if (part.length() > 0) {
+                    sb.append(Character.toTitleCase(part.charAt(0))).append(part.substring(1));
+                }
+            }
+            name = sb.toString();
+            if (name.length() > 0) {
+                name = name.substring(0, 1).toLowerCase() + name.substring(1);
+            }
+            return name;
+        }
+
+        static String camelize(String word, boolean lowercaseFirstLetter) {
+            Pattern p = Pattern.compile("\\/(.?)");
+            Matcher m = p.matcher(word);
+            while (m.find()) {
+                word = m.replaceFirst("." + m.group(1));
+                m = p.matcher(word);
+            }
+            StringBuilder f = new StringBuilder();
+            for (String z : word.split("\\.")) {
+                if (z.length() > 0) {
+                    f.append(Character.toUpperCase(z.charAt(0))).append(z.substring(1));
+                }
+            }
+            word = f.toString();
+            m = p.matcher(word);
+            while (m.find()) {
+                word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0)) + m.group(1).substring(1));
+                m = p.matcher(word);
+            }
+            p = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
+            m = p.matcher(word);
+            if (m.find()) {
+                String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
+                rep = rep.replaceAll("\\$", "\\\\\\$");
+                word = m.replaceAll(rep);
+            }
+            p = Pattern.compile("(_)(.)");
+            m = p.matcher(word);
+            while (m.find()) {
+                word = m.replaceFirst(m.group(2).toUpperCase());
+                m = p.matcher(word);
+            }
+            if (lowercaseFirstLetter) {
+                word = word.substring(0, 1).toLowerCase() + word.substring(1);
+            }
+            return word;
+        }
+
+        static String sanitizeName(String name) {
+            name = name.replaceAll("\\[\\]", "");
+            name = name.replaceAll("\\[", "_");
+            name = name.replaceAll("\\]", "");
+            name = name.replaceAll("\\(", "_");
+            name = name.replaceAll("\\)", "");
+            name = name.replaceAll("\\.", "_");
+            name = name.replaceAll("-", "_");
+            name = name.replaceAll(" ", "_");
+            return name.replaceAll("[^a-zA-Z0-9_]", "");
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package io.swagger.codegen.utils;
+
+import io.swagger.codegen.InlineModelResolver;
+import io.swagger.models.ComposedModel;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import io.swagger.util.Json;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class SpecSynthesizerTest {
+
+    @Test
+    public void testCounts() {
+        Swagger swagger = new SpecSynthesizer()
+                .definitions(300)
+                .paths(120)
+                .tags(7)
+                .inheritanceDepth(2)
+                .inlineSchemas(20)
+                .sharedParameters(3)
+                .generate();
+
+        assertEquals(swagger.getDefinitions().size(), 300);
+        // every path has an item resource, the first inlineSchemas ones a collection resource too
+        assertEquals(swagger.getPaths().size(), 140);
+        assertEquals(swagger.getTags().size(), 7);
+        assertEquals(swagger.getParameters().size(), 3);
+        assertFalse(swagger.getDefinitions().get("Account0") instanceof ComposedModel);
+        assertTrue(swagger.getDefinitions().get("Address1") instanceof ComposedModel);
+    }
+
+    @Test
+    public void testSameSeedSameSpec() throws Exception {
+        String first = Json.mapper().writeValueAsString(new SpecSynthesizer().seed(42).generate());
+        String second = Json.mapper().writeValueAsString(new SpecSynthesizer().seed(42).generate());
+        String other = Json.mapper().writeValueAsString(new SpecSynthesizer().seed(43).generate());
+
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+    }
+
+    @Test
+    public void testParsesAndFlattens() throws Exception {
+        String json = Json.mapper().writeValueAsString(new SpecSynthesizer().definitions(50).paths(20).generate());
+        Swagger swagger = new SwaggerParser().parse(json);
+        int definitions = swagger.getDefinitions().size();
+
+        new InlineModelResolver().flatten(swagger);
+
+        // inline body and response schemas become definitions
+        assertTrue(swagger.getDefinitions().size() > definitions);
+    }
+}
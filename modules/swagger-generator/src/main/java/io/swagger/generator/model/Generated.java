@@ -16,16 +16,18 @@
 
 package io.swagger.generator.model;
 
+import io.swagger.generator.util.Archive;
+
 public class Generated {
-    private String filename;
+    private Archive archive;
     private String friendlyName;
 
-    public String getFilename() {
-        return filename;
+    public Archive getArchive() {
+        return archive;
     }
 
-    public void setFilename(String filename) {
-        this.filename = filename;
+    public void setArchive(Archive archive) {
+        this.archive = archive;
     }
 
     public String getFriendlyName() {
@@ -0,0 +1,90 @@
+package io.swagger.generator.model;
+
+import io.swagger.annotations.ApiModelProperty;
+
+public class JobStatus {
+    public enum Status {
+        QUEUED, RUNNING, DONE, FAILED, TIMED_OUT
+    }
+
+    private String id;
+    private Status status;
+    private String language;
+    private String type;
+    private String message;
+    private String code;
+    private String link;
+
+    public JobStatus() {
+    }
+
+    public JobStatus(String id, Status status, String language, String type) {
+        setId(id);
+        setStatus(status);
+        setLanguage(language);
+        setType(type);
+    }
+
+    @ApiModelProperty(value = "Job id", example = "8d5d4c6e-3f6e-4be4-9f0b-5e0d6a1b2c3d")
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    @ApiModelProperty(value = "State of the generation")
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    @ApiModelProperty(value = "Target language or framework", example = "java")
+    public String getLanguage() {
+        return language;
+    }
+
+    public void setLanguage(String language) {
+        this.language = language;
+    }
+
+    @ApiModelProperty(value = "client or server", example = "client")
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    @ApiModelProperty(value = "Reason of a failed or timed out generation")
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @ApiModelProperty(value = "File download code, once the generation is done", example = "d40029be-eda6-4d62-b1ef-d05e2e91a72a")
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    @ApiModelProperty(value = "URL for fetching the generated files, once the generation is done", example = "http://generator.swagger.io:80/api/gen/download/d40029be-eda6-4d62-b1ef-d05e2e91a72a")
+    public String getLink() {
+        return link;
+    }
+
+    public void setLink(String link) {
+        this.link = link;
+    }
+}
@@ -0,0 +1,250 @@
+package io.swagger.generator.online;
+
+import io.swagger.generator.model.Generated;
+import io.swagger.generator.util.Archive;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generated archives waiting to be downloaded, each under a one-time download code.
+ *
+ * Archives expire after the time to live. When more than <code>maxEntries</code> archives or
+ * more than <code>maxBytes</code> bytes are held, the oldest archives are dropped. Dropped and
+ * expired archives are deleted. A background task removes expired archives, as well as temp
+ * files and folders of generations that were never registered, e.g. because the service was
+ * stopped in between.
+ *
+ * The limits can be set with the system properties <code>generator.downloads.ttl</code>
+ * (seconds), <code>generator.downloads.maxEntries</code> and
+ * <code>generator.downloads.maxBytes</code>.
+ */
+public class DownloadRegistry {
+    static Logger LOGGER = LoggerFactory.getLogger(DownloadRegistry.class);
+
+    public static final long DEFAULT_TTL = 1800;
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+    public static final long DEFAULT_MAX_BYTES = 1024L * 1024 * 1024;
+    private static final long MAX_CLEANUP_INTERVAL = 60000;
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final File tmpDir;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>();
+    private long bytes;
+    private long expired;
+    private long evicted;
+    private ScheduledExecutorService cleaner;
+
+    /**
+     * @param ttl Time an archive waits to be downloaded
+     * @param unit Unit of the time to live
+     * @param maxEntries Maximum number of archives
+     * @param maxBytes Maximum number of bytes of all archives
+     * @param tmpDir Folder of the temp files of generations
+     */
+    public DownloadRegistry(long ttl, TimeUnit unit, int maxEntries, long maxBytes, File tmpDir) {
+        this.ttlMillis = unit.toMillis(ttl);
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.tmpDir = tmpDir;
+    }
+
+    /**
+     * @return a registry configured by the <code>generator.downloads.*</code> system
+     * properties, cleaning up in the background
+     */
+    public static DownloadRegistry fromSystemProperties() {
+        DownloadRegistry registry = new DownloadRegistry(
+                Long.getLong("generator.downloads.ttl", DEFAULT_TTL), TimeUnit.SECONDS,
+                Integer.getInteger("generator.downloads.maxEntries", DEFAULT_MAX_ENTRIES),
+                Long.getLong("generator.downloads.maxBytes", DEFAULT_MAX_BYTES),
+                new File(System.getProperty("java.io.tmpdir")));
+        registry.startCleanup();
+        return registry;
+    }
+
+    /**
+     * Remove expired archives and orphaned temp files periodically.
+     */
+    public synchronized void startCleanup() {
+        if (cleaner != null) {
+            return;
+        }
+        cleaner = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "generator-download-cleanup");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        long interval = Math.max(1, Math.min(ttlMillis, MAX_CLEANUP_INTERVAL));
+        cleaner.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    cleanup();
+                } catch (Exception e) {
+                    LOGGER.error("download cleanup failed", e);
+                }
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void shutdown() {
+        if (cleaner != null) {
+            cleaner.shutdownNow();
+            cleaner = null;
+        }
+    }
+
+    /**
+     * Register an archive for download, dropping the oldest archives if the registry is full.
+     *
+     * @param generated Generated archive, owned by the registry from now on
+     * @return the download code
+     */
+    public synchronized String register(Generated generated) {
+        String code = UUID.randomUUID().toString();
+        entries.put(code, new Entry(generated, System.currentTimeMillis()));
+        bytes += size(generated);
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || bytes > maxBytes) && it.hasNext()) {
+            Map.Entry<String, Entry> oldest = it.next();
+            if (oldest.getKey().equals(code)) {
+                // keep the new archive even if it exceeds the limits on its own
+                continue;
+            }
+            it.remove();
+            drop(oldest.getValue());
+            evicted++;
+        }
+        return code;
+    }
+
+    /**
+     * Take an archive for download; the code can't be used again.
+     *
+     * @param code Download code
+     * @return the archive, to be deleted by the caller, or null if the code is unknown or expired
+     */
+    public synchronized Generated take(String code) {
+        Entry entry = entries.remove(code);
+        if (entry == null) {
+            return null;
+        }
+        bytes -= size(entry.generated);
+        if (isExpired(entry, System.currentTimeMillis())) {
+            deleteArchive(entry.generated);
+            expired++;
+            return null;
+        }
+        return entry.generated;
+    }
+
+    /**
+     * Remove expired archives, and temp files of generations older than the time to live that
+     * are not held by the registry.
+     */
+    public void cleanup() {
+        long now = System.currentTimeMillis();
+        Set<File> live = new HashSet<File>();
+        synchronized (this) {
+            for (Iterator<Entry> it = entries.values().iterator(); it.hasNext(); ) {
+                Entry entry = it.next();
+                if (isExpired(entry, now)) {
+                    it.remove();
+                    drop(entry);
+                    expired++;
+                } else if (entry.generated.getArchive() != null && entry.generated.getArchive().getFile() != null) {
+                    live.add(entry.generated.getArchive().getFile());
+                }
+            }
+        }
+        File[] files = tmpDir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            boolean generation = name.startsWith("codegen-") && (name.endsWith("-tmp") || name.endsWith(".zip"));
+            if (generation && !live.contains(file) && now - file.lastModified() > ttlMillis) {
+                LOGGER.info("deleting orphaned " + file);
+                FileUtils.deleteQuietly(file);
+            }
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return now - entry.registered > ttlMillis;
+    }
+
+    private void drop(Entry entry) {
+        bytes -= size(entry.generated);
+        deleteArchive(entry.generated);
+    }
+
+    private static void deleteArchive(Generated generated) {
+        if (generated.getArchive() != null) {
+            generated.getArchive().delete();
+        }
+    }
+
+    private static long size(Generated generated) {
+        Archive archive = generated.getArchive();
+        return archive == null ? 0 : archive.getSize();
+    }
+
+    /**
+     * @return number of archives waiting to be downloaded
+     */
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * @return number of bytes of the archives waiting to be downloaded
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return number of archives that expired before being downloaded
+     */
+    public synchronized long getExpiredCount() {
+        return expired;
+    }
+
+    /**
+     * @return number of archives dropped to stay within the limits
+     */
+    public synchronized long getEvictedCount() {
+        return evicted;
+    }
+
+    private static class Entry {
+        final Generated generated;
+        final long registered;
+
+        Entry(Generated generated, long registered) {
+            this.generated = generated;
+            this.registered = registered;
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package io.swagger.generator.online;
+
+import io.swagger.generator.exception.ApiException;
+import io.swagger.generator.exception.TooManyRequestsException;
+import io.swagger.generator.model.JobStatus;
+import io.swagger.generator.model.JobStatus.Status;
+import io.swagger.generator.model.ResponseCode;
+
+import org.apache.http.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs generations on a bounded pool of workers instead of the request threads.
+ *
+ * At most <code>queueSize</code> jobs wait for a worker; further jobs are rejected with a
+ * {@link TooManyRequestsException}. A job that runs longer than the timeout is marked as timed
+ * out and its worker is interrupted; a job that waits for a worker longer than the queue timeout
+ * is timed out once it is awaited. Finished jobs are forgotten after the retention time.
+ *
+ * The limits can be set with the system properties <code>generator.jobs.workers</code>,
+ * <code>generator.jobs.queueSize</code>, <code>generator.jobs.timeout</code>,
+ * <code>generator.jobs.queueTimeout</code> and <code>generator.jobs.retention</code> (the last
+ * three in seconds).
+ */
+public class GenerationJobs {
+    static Logger LOGGER = LoggerFactory.getLogger(GenerationJobs.class);
+
+    public static final int DEFAULT_QUEUE_SIZE = 100;
+    public static final long DEFAULT_TIMEOUT = 300;
+    public static final long DEFAULT_QUEUE_TIMEOUT = 300;
+    public static final long DEFAULT_RETENTION = 1800;
+    public static final int RETRY_AFTER = 10;
+
+    private static final ThreadLocal<Job> CURRENT = new ThreadLocal<Job>();
+
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService timer;
+    private final long timeoutMillis;
+    private final long queueTimeoutMillis;
+    private final long retentionMillis;
+    private final ConcurrentMap<String, Job> jobs = new ConcurrentHashMap<String, Job>();
+
+    /**
+     * Jobs that wait for a worker time out after the job timeout.
+     *
+     * @param workers Number of generations running at the same time
+     * @param queueSize Number of jobs waiting for a worker
+     * @param timeout Maximum running time of a job
+     * @param retention Time finished jobs are kept for status requests
+     * @param unit Unit of timeout and retention
+     */
+    public GenerationJobs(int workers, int queueSize, long timeout, long retention, TimeUnit unit) {
+        this(workers, queueSize, timeout, timeout, retention, unit);
+    }
+
+    /**
+     * @param workers Number of generations running at the same time
+     * @param queueSize Number of jobs waiting for a worker
+     * @param timeout Maximum running time of a job
+     * @param queueTimeout Maximum time an awaited job waits for a worker
+     * @param retention Time finished jobs are kept for status requests
+     * @param unit Unit of the times
+     */
+    public GenerationJobs(int workers, int queueSize, long timeout, long queueTimeout, long retention,
+                          TimeUnit unit) {
+        this.workers = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(queueSize), new DaemonThreadFactory("generator-job-"));
+        this.timer = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("generator-job-timeout-"));
+        this.timeoutMillis = unit.toMillis(timeout);
+        this.queueTimeoutMillis = unit.toMillis(queueTimeout);
+        this.retentionMillis = unit.toMillis(retention);
+    }
+
+    /**
+     * @return jobs configured by the <code>generator.jobs.*</code> system properties
+     */
+    public static GenerationJobs fromSystemProperties() {
+        return new GenerationJobs(
+                Integer.getInteger("generator.jobs.workers", Runtime.getRuntime().availableProcessors()),
+                Integer.getInteger("generator.jobs.queueSize", DEFAULT_QUEUE_SIZE),
+                Long.getLong("generator.jobs.timeout", DEFAULT_TIMEOUT),
+                Long.getLong("generator.jobs.queueTimeout", DEFAULT_QUEUE_TIMEOUT),
+                Long.getLong("generator.jobs.retention", DEFAULT_RETENTION),
+                TimeUnit.SECONDS);
+    }
+
+    /**
+     * Queue a generation.
+     *
+     * @param language Target language or framework
+     * @param type Client or server
+     * @param task Generation, returning the download code of its result
+     * @return status of the queued job
+     * @throws TooManyRequestsException if the queue is full
+     */
+    public JobStatus submit(String language, Generator.Type type, Callable<ResponseCode> task)
+            throws TooManyRequestsException {
+        purgeFinished();
+        Job job = new Job(UUID.randomUUID().toString(), language, type, task);
+        jobs.put(job.id, job);
+        try {
+            workers.execute(job);
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw new TooManyRequestsException("Too many generations in progress, please try again later", RETRY_AFTER);
+        }
+        return job.toStatus();
+    }
+
+    /**
+     * @param id Job id
+     * @return status of the job, or null if the job is unknown or was forgotten
+     */
+    public JobStatus getStatus(String id) {
+        Job job = jobs.get(id);
+        return job == null ? null : job.toStatus();
+    }
+
+    /**
+     * Wait for a job to finish, at most the queue timeout and the job timeout. A job that has not
+     * finished by then is timed out, so that it doesn't run for a caller that is gone.
+     *
+     * @param id Job id
+     * @return download code of the result
+     * @throws ApiException the failure of the generation, or a timeout
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public ResponseCode await(String id) throws ApiException, InterruptedException {
+        Job job = jobs.get(id);
+        if (job == null) {
+            throw new ApiException(HttpStatus.SC_NOT_FOUND, "Unknown job " + id);
+        }
+        if (!job.finished.await(queueTimeoutMillis + timeoutMillis, TimeUnit.MILLISECONDS)) {
+            job.timeOut();
+            // a job that published its result just before is about to finish
+            job.finished.await();
+        }
+        switch (job.status.get()) {
+            case DONE:
+                return job.result;
+            case TIMED_OUT:
+                throw new ApiException(HttpStatus.SC_GATEWAY_TIMEOUT, job.message);
+            default:
+                throw job.failure;
+        }
+    }
+
+    /**
+     * Publish the result of the job running on the current thread, e.g. register its download,
+     * unless the job has already timed out. Once the result is published, the job no longer
+     * times out, so a published result is never orphaned by a job that nobody waits for.
+     *
+     * @param publication Publishes the result and returns its download code
+     * @return the download code, or null if the job is no longer running and nothing was published
+     * @throws Exception the failure of the publication
+     */
+    public static ResponseCode publish(Callable<ResponseCode> publication) throws Exception {
+        Job job = CURRENT.get();
+        if (job == null) {
+            return publication.call();
+        }
+        synchronized (job) {
+            if (job.status.get() != Status.RUNNING) {
+                return null;
+            }
+            ResponseCode result = publication.call();
+            job.published = true;
+            return result;
+        }
+    }
+
+    /**
+     * @return number of jobs waiting for a worker
+     */
+    public int getQueueDepth() {
+        return workers.getQueue().size();
+    }
+
+    /**
+     * @return number of running jobs
+     */
+    public int getActiveCount() {
+        return workers.getActiveCount();
+    }
+
+    public void shutdown() {
+        workers.shutdownNow();
+        timer.shutdownNow();
+    }
+
+    private void purgeFinished() {
+        long oldest = System.currentTimeMillis() - retentionMillis;
+        for (Iterator<Job> it = jobs.values().iterator(); it.hasNext(); ) {
+            Job job = it.next();
+            if (job.finishedAt > 0 && job.finishedAt < oldest) {
+                it.remove();
+            }
+        }
+    }
+
+    private class Job implements Runnable {
+        final String id;
+        final String language;
+        final Generator.Type type;
+        final Callable<ResponseCode> task;
+        final AtomicReference<Status> status = new AtomicReference<Status>(Status.QUEUED);
+        final CountDownLatch finished = new CountDownLatch(1);
+        volatile ResponseCode result;
+        volatile ApiException failure;
+        volatile String message;
+        volatile long finishedAt;
+        private Thread runner;
+        private boolean published;
+
+        Job(String id, String language, Generator.Type type, Callable<ResponseCode> task) {
+            this.id = id;
+            this.language = language;
+            this.type = type;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            if (!status.compareAndSet(Status.QUEUED, Status.RUNNING)) {
+                return;
+            }
+            synchronized (this) {
+                runner = Thread.currentThread();
+            }
+            CURRENT.set(this);
+            ScheduledFuture<?> timeout = timer.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    timeOut();
+                }
+            }, timeoutMillis, TimeUnit.MILLISECONDS);
+            try {
+                result = task.call();
+                finish(Status.DONE, null, null);
+            } catch (ApiException e) {
+                finish(Status.FAILED, e.getMessage(), e);
+            } catch (Exception e) {
+                String msg = "Unable to build target: " + e.getMessage();
+                if (finish(Status.FAILED, msg, new ApiException(HttpStatus.SC_INTERNAL_SERVER_ERROR, msg))) {
+                    LOGGER.error("generation job " + id + " failed", e);
+                }
+            } finally {
+                timeout.cancel(false);
+                CURRENT.remove();
+                synchronized (this) {
+                    runner = null;
+                }
+                // clear an interrupt of the timeout that came too late
+                Thread.interrupted();
+            }
+        }
+
+        private void timeOut() {
+            if (status.compareAndSet(Status.QUEUED, Status.RUNNING)) {
+                // never started; the worker skips it once it is dequeued
+                String msg = "Generation did not start within " + TimeUnit.MILLISECONDS.toSeconds(queueTimeoutMillis) + " seconds";
+                finish(Status.TIMED_OUT, msg, null);
+                LOGGER.warn("generation job " + id + " timed out in the queue");
+                return;
+            }
+            String msg = "Generation did not finish within " + TimeUnit.MILLISECONDS.toSeconds(timeoutMillis) + " seconds";
+            synchronized (this) {
+                if (published || !finish(Status.TIMED_OUT, msg, null)) {
+                    return;
+                }
+                LOGGER.warn("generation job " + id + " timed out");
+                if (runner != null) {
+                    runner.interrupt();
+                }
+            }
+        }
+
+        private boolean finish(Status to, String msg, ApiException e) {
+            if (!status.compareAndSet(Status.RUNNING, to)) {
+                return false;
+            }
+            message = msg;
+            failure = e;
+            finishedAt = System.currentTimeMillis();
+            finished.countDown();
+            return true;
+        }
+
+        JobStatus toStatus() {
+            Status current = status.get();
+            JobStatus jobStatus = new JobStatus(id, current, language, type.getTypeName());
+            if (current == Status.DONE) {
+                jobStatus.setCode(result.getCode());
+                jobStatus.setLink(result.getLink());
+            } else if (current == Status.FAILED || current == Status.TIMED_OUT) {
+                jobStatus.setMessage(message);
+            }
+            return jobStatus;
+        }
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        DaemonThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -8,26 +8,45 @@ import io.swagger.codegen.ClientOpts;
 import io.swagger.codegen.Codegen;
 import io.swagger.codegen.CodegenConfig;
 import io.swagger.codegen.CodegenConfigLoader;
+import io.swagger.codegen.GenerationOptions;
+import io.swagger.codegen.ZipOutputSink;
 import io.swagger.generator.exception.ApiException;
 import io.swagger.generator.exception.BadRequestException;
+import io.swagger.generator.model.Generated;
 import io.swagger.generator.model.GeneratorInput;
 import io.swagger.generator.model.InputOption;
-import io.swagger.generator.util.ZipUtil;
+import io.swagger.generator.util.Archive;
 import io.swagger.models.Swagger;
 import io.swagger.parser.SwaggerParser;
 import io.swagger.util.Json;
 
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 public class Generator {
     static Logger LOGGER = LoggerFactory.getLogger(Generator.class);
+    private static final String VERSION = readVersion();
+    private static ResultCache cache = ResultCache.fromSystemProperties();
+
+    /**
+     * @return the cache of generated archives
+     */
+    public static ResultCache getCache() {
+        return cache;
+    }
+
+    public static void setCache(ResultCache cache) {
+        Generator.cache = cache;
+    }
 
     public static Map<String, CliOption> getOptions(String language) throws ApiException {
         CodegenConfig config = null;
@@ -58,15 +77,19 @@ public class Generator {
         }
     }
 
-    public static String generateClient(String language, GeneratorInput opts) throws ApiException {
+    public static Generated generateClient(String language, GeneratorInput opts) throws ApiException {
         return generate(language, opts, Type.CLIENT);
     }
 
-    public static String generateServer(String language, GeneratorInput opts) throws ApiException {
+    public static Generated generateServer(String language, GeneratorInput opts) throws ApiException {
         return generate(language, opts, Type.SERVER);
     }
 
-    private static String generate(String language, GeneratorInput opts, Type type) throws ApiException {
+    /**
+     * Generate into a zip archive. The files are rendered straight into the archive, whose
+     * entries are named as if the output folder had been zipped.
+     */
+    private static Generated generate(String language, GeneratorInput opts, Type type) throws ApiException {
         LOGGER.debug(String.format("generate %s for %s", type.getTypeName(), language));
         if (opts == null) {
             throw new BadRequestException("No options were supplied");
@@ -92,13 +115,13 @@ public class Generator {
 
         ClientOptInput clientOptInput = new ClientOptInput();
         ClientOpts clientOpts = new ClientOpts();
-        String outputFolder = getTmpFolder().getAbsolutePath() + File.separator + language + "-"
-                + type.getTypeName();
-        String outputFilename = outputFolder + "-bundle.zip";
 
+        // system properties of the service must not change what a request generates, nor
+        // what is cached for it
         clientOptInput
                 .opts(clientOpts)
-                .swagger(swagger);
+                .swagger(swagger)
+                .generationOptions(new GenerationOptions());
 
         CodegenConfig codegenConfig=null;
         try {
@@ -107,46 +130,80 @@ public class Generator {
             throw new BadRequestException("Unsupported target " + language + " supplied");
         }
 
+        // the key is taken before generating, which may change the spec
+        String cacheKey = null;
+        if (cache.isEnabled()) {
+            try {
+                cacheKey = ResultCache.key(language, type, swagger, opts.getOptions(), VERSION);
+            } catch (IOException e) {
+                LOGGER.warn("unable to compute cache key", e);
+            }
+        }
+        if (cacheKey != null) {
+            Archive cached = cache.get(cacheKey);
+            if (cached != null) {
+                LOGGER.debug("serving cached " + type.getTypeName() + " for " + language);
+                return generated(language, type, cached);
+            }
+        }
+
         if (opts.getOptions() != null) {
             codegenConfig.additionalProperties().putAll(opts.getOptions());
             codegenConfig.additionalProperties().put("swagger", swagger);
         }
 
+        // configs that write around the output sink still find a folder to write to
+        File tmpFolder = getTmpFolder();
+        String outputFolder = tmpFolder.getAbsolutePath() + File.separator + language + "-"
+                + type.getTypeName();
         codegenConfig.setOutputDir(outputFolder);
 
         LOGGER.debug(Json.pretty(clientOpts));
 
         clientOptInput.setConfig(codegenConfig);
 
+        Archive archive = new Archive();
         try {
-            List<File> files = new Codegen().opts(clientOptInput).generate();
-            if (files.size() > 0) {
-                List<File> filesToAdd = new ArrayList<File>();
-                LOGGER.debug("adding to " + outputFolder);
-                filesToAdd.add(new File(outputFolder));
-                ZipUtil zip = new ZipUtil();
-                zip.compressFiles(filesToAdd, outputFilename);
-            } else {
+            ZipOutputSink zip = new ZipOutputSink(archive, tmpFolder.getAbsolutePath());
+            Codegen codegen = new Codegen();
+            codegen.setOutputSink(zip);
+            List<File> files = codegen.opts(clientOptInput).generate();
+            if (files.size() == 0) {
                 throw new BadRequestException("A target generation was attempted, but no files were created!");
             }
-            for(File file: files) {
-                try {
-                    file.delete();
-                }
-                catch(Exception e) {
-                    LOGGER.error("unable to delete file " + file.getAbsolutePath());
-                }
-            }
-            try {
-                new File(outputFolder).delete();
-            }
-            catch (Exception e) {
-                LOGGER.error("unable to delete output folder " + outputFolder);
-            }
+            zip.close();
+            LOGGER.debug("generated " + zip);
         } catch (Exception e) {
+            archive.delete();
             throw new BadRequestException("Unable to build target: " + e.getMessage());
+        } finally {
+            FileUtils.deleteQuietly(tmpFolder);
+        }
+        if (cacheKey != null) {
+            cache.put(cacheKey, archive);
+        }
+        return generated(language, type, archive);
+    }
+
+    private static Generated generated(String language, Type type, Archive archive) {
+        Generated generated = new Generated();
+        generated.setArchive(archive);
+        generated.setFriendlyName(language + "-" + type.getTypeName());
+        return generated;
+    }
+
+    private static String readVersion() {
+        InputStream stream = Generator.class.getResourceAsStream("/version.prop");
+        if (stream == null) {
+            return "0.0.0";
+        }
+        try {
+            return IOUtils.toString(stream, "UTF-8");
+        } catch (IOException e) {
+            return "0.0.0";
+        } finally {
+            IOUtils.closeQuietly(stream);
         }
-        return outputFilename;
     }
 
     public static InputOption clientOptions(@SuppressWarnings("unused") String language) {
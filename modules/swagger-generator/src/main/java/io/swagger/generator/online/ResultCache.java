@@ -0,0 +1,298 @@
+package io.swagger.generator.online;
+
+import io.swagger.generator.util.Archive;
+import io.swagger.models.Swagger;
+import io.swagger.util.Json;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Archives of previous generations, stored on local disk and looked up by a hash of everything
+ * the output depends on: target, spec, options and generator version.
+ *
+ * The cache holds at most <code>maxSize</code> bytes, evicting the least recently used archives.
+ * Archives handed out are hard links to the cached file where the file system allows it, so
+ * downloading and deleting them never interferes with the cache. The cache starts empty on
+ * every start of the service; only files the cache created itself are deleted from its folder.
+ *
+ * The cache is configured with the system properties <code>generator.cache.dir</code> and
+ * <code>generator.cache.maxSize</code> (bytes, 0 disables the cache).
+ */
+public class ResultCache {
+    static Logger LOGGER = LoggerFactory.getLogger(ResultCache.class);
+
+    public static final long DEFAULT_MAX_SIZE = 256L * 1024 * 1024;
+    private static final String RESULT_PREFIX = "result-";
+    private static final String DOWNLOAD_PREFIX = "download-";
+    private static final String SUFFIX = ".zip";
+
+    private final File dir;
+    private final long maxSize;
+    private final LinkedHashMap<String, File> entries = new LinkedHashMap<String, File>(16, 0.75f, true);
+    private long size;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param dir Folder to store the archives in; archives left in it by an earlier cache are
+     *            deleted, other files are left alone
+     * @param maxSize Maximum number of bytes of all archives, 0 to disable the cache
+     */
+    public ResultCache(File dir, long maxSize) {
+        this.dir = dir;
+        this.maxSize = maxSize;
+        if (maxSize > 0) {
+            try {
+                FileUtils.forceMkdir(dir);
+            } catch (IOException e) {
+                LOGGER.error("unable to prepare cache folder " + dir, e);
+            }
+            deleteOwnFiles();
+        }
+    }
+
+    private void deleteOwnFiles() {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (isOwnFile(file.getName())) {
+                FileUtils.deleteQuietly(file);
+            }
+        }
+    }
+
+    private static boolean isOwnFile(String name) {
+        return (name.startsWith(RESULT_PREFIX) || name.startsWith(DOWNLOAD_PREFIX)) && name.endsWith(SUFFIX);
+    }
+
+    /**
+     * @return a cache configured by the <code>generator.cache.*</code> system properties
+     */
+    public static ResultCache fromSystemProperties() {
+        String dir = System.getProperty("generator.cache.dir",
+                System.getProperty("java.io.tmpdir") + File.separator + "swagger-codegen-cache");
+        return new ResultCache(new File(dir), Long.getLong("generator.cache.maxSize", DEFAULT_MAX_SIZE));
+    }
+
+    /**
+     * Key of a generation. The spec is hashed as parsed, so its formatting does not matter, but
+     * the order of its paths and definitions does, as it is reflected in the output.
+     *
+     * @param language Target language or framework
+     * @param type Client or server
+     * @param swagger Parsed spec, before generation
+     * @param options Generation options, may be null
+     * @param version Generator version
+     * @return hex encoded SHA-256 hash
+     * @throws IOException if the spec can't be serialized
+     */
+    public static String key(String language, Generator.Type type, Swagger swagger, Map<String, String> options,
+                             String version) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        update(digest, version);
+        update(digest, language);
+        update(digest, type.getTypeName());
+        if (options != null) {
+            for (Map.Entry<String, String> option : new TreeMap<String, String>(options).entrySet()) {
+                update(digest, option.getKey());
+                update(digest, option.getValue());
+            }
+        }
+        OutputStream out = new DigestOutputStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        }, digest);
+        Json.mapper().writeValue(out, swagger);
+
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest()) {
+            sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return sb.toString();
+    }
+
+    private static void update(MessageDigest digest, String value) throws IOException {
+        if (value != null) {
+            digest.update(value.getBytes("UTF-8"));
+        }
+        digest.update((byte) 0);
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * @param key Key of the generation
+     * @return a copy of the cached archive, to be deleted by the caller, or null on a miss
+     */
+    public Archive get(String key) {
+        File cached;
+        synchronized (this) {
+            cached = entries.get(key);
+            if (cached == null) {
+                misses++;
+                return null;
+            }
+        }
+        // copied without holding the lock, so that a slow copy doesn't block other lookups
+        File copy = null;
+        try {
+            copy = newFile(DOWNLOAD_PREFIX);
+            linkOrCopy(cached, copy);
+        } catch (IOException e) {
+            // the archive may have been evicted in the meantime
+            LOGGER.warn("unable to read cached archive " + cached, e);
+            FileUtils.deleteQuietly(copy);
+            synchronized (this) {
+                if (cached.equals(entries.get(key))) {
+                    remove(key);
+                }
+                misses++;
+            }
+            return null;
+        }
+        synchronized (this) {
+            hits++;
+        }
+        return Archive.fromFile(copy);
+    }
+
+    /**
+     * Store the archive of a generation, evicting the least recently used archives as needed.
+     * Archives larger than the cache are not stored.
+     *
+     * @param key Key of the generation
+     * @param archive Complete archive, which remains owned by the caller
+     */
+    public void put(String key, Archive archive) {
+        if (!isEnabled() || archive.getSize() > maxSize) {
+            return;
+        }
+        synchronized (this) {
+            if (entries.containsKey(key)) {
+                return;
+            }
+        }
+        // copied without holding the lock, so that a slow copy doesn't block lookups
+        File cached = null;
+        try {
+            cached = newFile(RESULT_PREFIX);
+            if (archive.getFile() != null) {
+                linkOrCopy(archive.getFile(), cached);
+            } else {
+                InputStream in = archive.openStream();
+                OutputStream out = new FileOutputStream(cached);
+                try {
+                    IOUtils.copy(in, out);
+                } finally {
+                    IOUtils.closeQuietly(in);
+                    out.close();
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("unable to cache archive", e);
+            FileUtils.deleteQuietly(cached);
+            return;
+        }
+        store(key, cached);
+    }
+
+    private synchronized void store(String key, File cached) {
+        if (entries.containsKey(key)) {
+            // stored by a concurrent generation of the same key
+            FileUtils.deleteQuietly(cached);
+            return;
+        }
+        entries.put(key, cached);
+        size += cached.length();
+        for (Iterator<Map.Entry<String, File>> it = entries.entrySet().iterator(); size > maxSize && it.hasNext(); ) {
+            File evicted = it.next().getValue();
+            it.remove();
+            size -= evicted.length();
+            FileUtils.deleteQuietly(evicted);
+            evictions++;
+        }
+    }
+
+    private void remove(String key) {
+        File cached = entries.remove(key);
+        if (cached != null) {
+            size -= cached.length();
+            FileUtils.deleteQuietly(cached);
+        }
+    }
+
+    private File newFile(String prefix) throws IOException {
+        File file = File.createTempFile(prefix, SUFFIX, dir);
+        // the file must not exist to be linked
+        file.delete();
+        return file;
+    }
+
+    private static void linkOrCopy(File source, File target) throws IOException {
+        try {
+            Files.createLink(target.toPath(), source.toPath());
+        } catch (IOException e) {
+            FileUtils.copyFile(source, target);
+        } catch (UnsupportedOperationException e) {
+            FileUtils.copyFile(source, target);
+        }
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    /**
+     * @return number of cached archives
+     */
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * @return number of bytes of all cached archives
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+}
@@ -3,6 +3,7 @@ package io.swagger.generator.resource;
 import io.swagger.generator.exception.ApiException;
 import io.swagger.generator.exception.BadRequestException;
 import io.swagger.generator.exception.NotFoundException;
+import io.swagger.generator.exception.TooManyRequestsException;
 import io.swagger.generator.model.ApiResponse;
 import io.swagger.generator.util.ValidationException;
 
@@ -37,9 +38,17 @@ public class ExceptionWriter implements ExceptionMapper<Exception> {
                     .status(Status.BAD_REQUEST)
                     .entity(new ApiResponse(ApiResponse.ERROR, exception
                             .getMessage())).build();
+        } else if (exception instanceof TooManyRequestsException) {
+            TooManyRequestsException e = (TooManyRequestsException) exception;
+            return Response
+                    .status(e.getCode())
+                    .header("Retry-After", e.getRetryAfter())
+                    .entity(new ApiResponse(ApiResponse.TOO_BUSY, exception
+                            .getMessage())).build();
         } else if (exception instanceof ApiException) {
+            int code = ((ApiException) exception).getCode();
             return Response
-                    .status(Status.BAD_REQUEST)
+                    .status(code >= 400 ? code : Status.BAD_REQUEST.getStatusCode())
                     .entity(new ApiResponse(ApiResponse.ERROR, exception
                             .getMessage())).build();
         } else {
@@ -8,27 +8,41 @@ import io.swagger.codegen.Codegen;
 import io.swagger.codegen.CodegenConfig;
 import io.swagger.codegen.CodegenType;
 import io.swagger.generator.exception.BadRequestException;
+import io.swagger.generator.exception.NotFoundException;
 import io.swagger.generator.model.Generated;
 import io.swagger.generator.model.GeneratorInput;
+import io.swagger.generator.model.JobStatus;
 import io.swagger.generator.model.ResponseCode;
+import io.swagger.generator.online.DownloadRegistry;
+import io.swagger.generator.online.GenerationJobs;
 import io.swagger.generator.online.Generator;
-import org.apache.commons.io.FileUtils;
+import io.swagger.generator.online.ResultCache;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.*;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
-import java.io.File;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
 import java.util.*;
+import java.util.concurrent.Callable;
 
 @Path("/gen")
 @Api(value = "/gen", description = "Resource for generating swagger components")
 @SuppressWarnings("static-method")
 public class SwaggerResource {
+    static Logger LOGGER = LoggerFactory.getLogger(SwaggerResource.class);
     static List<String> clients = new ArrayList<String>();
     static List<String> servers = new ArrayList<String>();
-    private static Map<String, Generated> fileMap = new HashMap<String, Generated>();
+    private static DownloadRegistry downloads = DownloadRegistry.fromSystemProperties();
+    private static GenerationJobs jobs = GenerationJobs.fromSystemProperties();
 
     static {
         List<CodegenConfig> extensions = Codegen.getExtensions();
@@ -50,32 +64,32 @@ public class SwaggerResource {
     @ApiOperation(value = "Downloads a pre-generated file",
             notes = "A valid `fileId` is generated by the `/clients/{language}` or `/servers/{language}` POST " +
                     "operations.  The fileId code can be used just once, after which a new `fileId` will need to " +
-                    "be requested.",
+                    "be requested.  Files that are not downloaded expire after a while.",
             response = String.class,
             tags = {"clients", "servers"})
     public Response downloadFile(@PathParam("fileId") String fileId) throws Exception {
-        Generated g = fileMap.get(fileId);
-        System.out.println("looking for fileId " + fileId);
-        System.out.println("got filename " + g.getFilename());
-        if (g.getFilename() != null) {
-            File file = new java.io.File(g.getFilename());
-            byte[] bytes = org.apache.commons.io.FileUtils.readFileToByteArray(file);
-
-            try {
-                FileUtils.deleteDirectory(file.getParentFile());
-            }
-            catch (Exception e) {
-                System.out.println("failed to delete file " + file.getAbsolutePath());
-            }
-
-            return Response.ok(bytes, "application/zip")
-                    .header("Content-Disposition", "attachment; filename=\"" + g.getFriendlyName() + "-generated.zip\"")
-                    .header("Accept-Range", "bytes")
-                    .header("Content-Length", bytes.length)
-                    .build();
-        } else {
+        final Generated g = downloads.take(fileId);
+        LOGGER.debug("looking for fileId " + fileId);
+        if (g == null || g.getArchive() == null) {
             return Response.status(404).build();
         }
+        StreamingOutput stream = new StreamingOutput() {
+            @Override
+            public void write(OutputStream output) throws IOException {
+                InputStream in = g.getArchive().openStream();
+                try {
+                    IOUtils.copy(in, output);
+                } finally {
+                    IOUtils.closeQuietly(in);
+                    g.getArchive().delete();
+                }
+            }
+        };
+        return Response.ok(stream, "application/zip")
+                .header("Content-Disposition", "attachment; filename=\"" + g.getFriendlyName() + "-generated.zip\"")
+                .header("Accept-Range", "bytes")
+                .header("Content-Length", g.getArchive().getSize())
+                .build();
     }
 
     @POST
@@ -90,30 +104,31 @@ public class SwaggerResource {
             @ApiParam(value = "The target language for the client library", required = true) @PathParam("language") String language,
             @ApiParam(value = "Configuration for building the client library", required = true) GeneratorInput opts) throws Exception {
 
-        String filename = Generator.generateClient(language, opts);
-        String scheme = request.getHeader("X-SSL");
-        String port = "";
-        if("1".equals(scheme)) {
-            scheme = "https";
-        }
-        else {
-            scheme = request.getScheme();
-            port = ":" + request.getServerPort();
-        }
+        JobStatus job = jobs.submit(language, Generator.Type.CLIENT,
+                generation(language, opts, Generator.Type.CLIENT, getHost(request)));
+        return Response.ok().entity(jobs.await(job.getId())).build();
+    }
 
-        String host = scheme + "://" + request.getServerName() + port;
-        if (filename != null) {
-            String code = String.valueOf(UUID.randomUUID().toString());
-            Generated g = new Generated();
-            g.setFilename(filename);
-            g.setFriendlyName(language + "-client");
-            fileMap.put(code, g);
-            System.out.println(code + ", " + filename);
-            String link = host + "/api/gen/download/" + code;
-            return Response.ok().entity(new ResponseCode(code, link)).build();
-        } else {
-            return Response.status(500).build();
-        }
+    @POST
+    @Path("/jobs/clients/{language}")
+    @Produces({MediaType.APPLICATION_JSON})
+    @ApiOperation(
+            value = "Queues the generation of a client library",
+            notes = "Accepts a `GeneratorInput` options map for spec location and generation options. Returns at " +
+                    "once with a job, whose status can be polled at `/jobs/{jobId}`; once the job is done, the " +
+                    "status links to the download.  Responds with 429 if too many generations are queued.",
+            response = JobStatus.class,
+            code = 202,
+            tags = "clients")
+    public Response generateClientAsync(
+            @Context HttpServletRequest request,
+            @ApiParam(value = "The target language for the client library", required = true) @PathParam("language") String language,
+            @ApiParam(value = "Configuration for building the client library", required = true) GeneratorInput opts) throws Exception {
+
+        String host = getHost(request);
+        JobStatus job = jobs.submit(language, Generator.Type.CLIENT,
+                generation(language, opts, Generator.Type.CLIENT, host));
+        return Response.accepted(job).location(URI.create(host + "/api/gen/jobs/" + job.getId())).build();
     }
 
     @GET
@@ -198,22 +213,119 @@ public class SwaggerResource {
         if (framework == null) {
             throw new BadRequestException("Framework is required");
         }
-        String filename = Generator.generateServer(framework, opts);
-        System.out.println("generated name: " + filename);
-
-        String host = request.getScheme() + "://" + request.getServerName() + ":" + request.getServerPort();
-
-        if (filename != null) {
-            String code = String.valueOf(UUID.randomUUID().toString());
-            Generated g = new Generated();
-            g.setFilename(filename);
-            g.setFriendlyName(framework + "-server");
-            fileMap.put(code, g);
-            System.out.println(code + ", " + filename);
-            String link = host + "/api/gen/download/" + code;
-            return Response.ok().entity(new ResponseCode(code, link)).build();
-        } else {
-            return Response.status(500).build();
+        JobStatus job = jobs.submit(framework, Generator.Type.SERVER,
+                generation(framework, opts, Generator.Type.SERVER, getHost(request)));
+        return Response.ok().entity(jobs.await(job.getId())).build();
+    }
+
+    @POST
+    @Path("/jobs/servers/{framework}")
+    @Produces({MediaType.APPLICATION_JSON})
+    @ApiOperation(value = "Queues the generation of a server library",
+            notes = "Accepts a `GeneratorInput` options map for spec location and generation options. Returns at " +
+                    "once with a job, whose status can be polled at `/jobs/{jobId}`; once the job is done, the " +
+                    "status links to the download.  Responds with 429 if too many generations are queued.",
+            response = JobStatus.class,
+            code = 202,
+            tags = "servers")
+    public Response generateServerAsync(
+            @Context HttpServletRequest request,
+            @ApiParam(value = "framework", required = true) @PathParam("framework") String framework,
+            @ApiParam(value = "parameters", required = true) GeneratorInput opts)
+            throws Exception {
+        if (framework == null) {
+            throw new BadRequestException("Framework is required");
+        }
+        String host = getHost(request);
+        JobStatus job = jobs.submit(framework, Generator.Type.SERVER,
+                generation(framework, opts, Generator.Type.SERVER, host));
+        return Response.accepted(job).location(URI.create(host + "/api/gen/jobs/" + job.getId())).build();
+    }
+
+    @GET
+    @Path("/jobs/{jobId}")
+    @Produces({MediaType.APPLICATION_JSON})
+    @ApiOperation(value = "Gets the status of a generation job",
+            notes = "A valid `jobId` is returned by the `/jobs/clients/{language}` or `/jobs/servers/{framework}` " +
+                    "POST operations.  Finished jobs are kept for a limited time.",
+            response = JobStatus.class,
+            tags = {"clients", "servers"})
+    public Response getJobStatus(@PathParam("jobId") String jobId) throws Exception {
+        JobStatus job = jobs.getStatus(jobId);
+        if (job == null) {
+            throw new NotFoundException("Unknown job " + jobId);
+        }
+        return Response.ok().entity(job).build();
+    }
+
+    @GET
+    @Path("/metrics")
+    @Produces({MediaType.APPLICATION_JSON})
+    @ApiOperation(value = "Gets counters of the generator service",
+            notes = "Jobs waiting and running, hits, misses and evictions of the cache of generated files, and " +
+                    "files waiting to be downloaded.",
+            response = Long.class,
+            responseContainer = "map")
+    public Response getMetrics() {
+        Map<String, Long> metrics = new LinkedHashMap<String, Long>();
+        metrics.put("jobs.queued", (long) jobs.getQueueDepth());
+        metrics.put("jobs.running", (long) jobs.getActiveCount());
+        ResultCache cache = Generator.getCache();
+        metrics.put("resultCache.hits", cache.getHitCount());
+        metrics.put("resultCache.misses", cache.getMissCount());
+        metrics.put("resultCache.evictions", cache.getEvictionCount());
+        metrics.put("resultCache.entries", (long) cache.getEntryCount());
+        metrics.put("resultCache.bytes", cache.getSize());
+        metrics.put("downloads.entries", (long) downloads.getEntryCount());
+        metrics.put("downloads.bytes", downloads.getBytes());
+        metrics.put("downloads.expired", downloads.getExpiredCount());
+        metrics.put("downloads.evicted", downloads.getEvictedCount());
+        return Response.ok().entity(metrics).build();
+    }
+
+    /**
+     * Generation to run as a job: generates the files and registers them for download.
+     */
+    private static Callable<ResponseCode> generation(final String language, final GeneratorInput opts,
+                                                     final Generator.Type type, final String host) {
+        return new Callable<ResponseCode>() {
+            @Override
+            public ResponseCode call() throws Exception {
+                final Generated g;
+                if (type == Generator.Type.CLIENT) {
+                    g = Generator.generateClient(language, opts);
+                } else {
+                    g = Generator.generateServer(language, opts);
+                }
+                ResponseCode result = GenerationJobs.publish(new Callable<ResponseCode>() {
+                    @Override
+                    public ResponseCode call() {
+                        String code = downloads.register(g);
+                        LOGGER.debug(code + ", " + g.getArchive().getSize() + " bytes");
+                        String link = host + "/api/gen/download/" + code;
+                        return new ResponseCode(code, link);
+                    }
+                });
+                if (result == null) {
+                    // timed out, nobody will download it
+                    g.getArchive().delete();
+                    throw new InterruptedException("Generation of " + language + " timed out");
+                }
+                return result;
+            }
+        };
+    }
+
+    private static String getHost(HttpServletRequest request) {
+        String scheme = request.getHeader("X-SSL");
+        String port = "";
+        if("1".equals(scheme)) {
+            scheme = "https";
+        }
+        else {
+            scheme = request.getScheme();
+            port = ":" + request.getServerPort();
         }
+        return scheme + "://" + request.getServerName() + port;
     }
 }
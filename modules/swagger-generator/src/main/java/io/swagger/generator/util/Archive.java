@@ -0,0 +1,142 @@
+package io.swagger.generator.util;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Generated archive, held in memory up to a threshold and spilled to a temp file beyond it, so
+ * small archives never touch the disk and large ones don't fill the heap.
+ */
+public class Archive extends OutputStream {
+    public static final int DEFAULT_THRESHOLD = 4 * 1024 * 1024;
+
+    private final int threshold;
+    private Buffer memory = new Buffer();
+    private File file;
+    private OutputStream fileOut;
+    private long size;
+
+    public Archive() {
+        this(Integer.getInteger("generator.archive.threshold", DEFAULT_THRESHOLD));
+    }
+
+    /**
+     * @param threshold Number of bytes kept in memory
+     */
+    public Archive(int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * @param file Complete archive, which is deleted with the archive
+     * @return an archive of the given file
+     */
+    public static Archive fromFile(File file) {
+        Archive archive = new Archive(0);
+        archive.memory = null;
+        archive.file = file;
+        archive.size = file.length();
+        return archive;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) throws IOException {
+        if (file == null && memory.size() + len > threshold) {
+            spill();
+        }
+        if (file != null) {
+            fileOut.write(b, off, len);
+        } else {
+            memory.write(b, off, len);
+        }
+        size += len;
+    }
+
+    private void spill() throws IOException {
+        file = File.createTempFile("codegen-", ".zip");
+        fileOut = new BufferedOutputStream(new FileOutputStream(file));
+        memory.writeTo(fileOut);
+        memory = null;
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        if (fileOut != null) {
+            fileOut.flush();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (fileOut != null) {
+            fileOut.close();
+        }
+    }
+
+    /**
+     * @return the content of the archive, which must have been closed
+     * @throws IOException if the spilled file can't be opened
+     */
+    public synchronized InputStream openStream() throws IOException {
+        if (file != null) {
+            return new FileInputStream(file);
+        }
+        if (memory == null) {
+            throw new IOException("archive was deleted");
+        }
+        return memory.toInputStream();
+    }
+
+    /**
+     * @return number of bytes of the archive
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * @return the temp file the archive was spilled to, or null if it is held in memory
+     */
+    public synchronized File getFile() {
+        return file;
+    }
+
+    /**
+     * Release the memory or temp file of the archive.
+     */
+    public synchronized void delete() {
+        memory = null;
+        if (file != null) {
+            if (fileOut != null) {
+                try {
+                    fileOut.close();
+                } catch (IOException e) {
+                    // nothing to do, the file is deleted anyway
+                }
+            }
+            file.delete();
+            file = null;
+        }
+    }
+
+    private static class Buffer extends ByteArrayOutputStream {
+        /**
+         * @return the content without copying it
+         */
+        InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
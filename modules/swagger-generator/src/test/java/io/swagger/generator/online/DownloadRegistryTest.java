@@ -0,0 +1,90 @@
+package io.swagger.generator.online;
+
+import io.swagger.generator.model.Generated;
+import io.swagger.generator.util.Archive;
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+public class DownloadRegistryTest {
+    private final File dir = new File("target/download-registry-test");
+
+    @AfterMethod
+    public void tearDown() {
+        FileUtils.deleteQuietly(dir);
+    }
+
+    @Test
+    public void testCodeCanBeUsedOnce() throws Exception {
+        DownloadRegistry registry = new DownloadRegistry(1, TimeUnit.HOURS, 10, 1000, dir);
+        Generated generated = generated("0123456789");
+        String code = registry.register(generated);
+
+        assertEquals(registry.getEntryCount(), 1);
+        assertEquals(registry.getBytes(), 10);
+        assertSame(registry.take(code), generated);
+        assertNull(registry.take(code));
+        assertEquals(registry.getEntryCount(), 0);
+        assertEquals(registry.getBytes(), 0);
+    }
+
+    @Test
+    public void testOldestArchivesAreDroppedBeyondLimits() throws Exception {
+        DownloadRegistry registry = new DownloadRegistry(1, TimeUnit.HOURS, 2, 25, dir);
+        String first = registry.register(generated("0123456789"));
+        String second = registry.register(generated("0123456789"));
+        String third = registry.register(generated("0123456789"));
+
+        assertNull(registry.take(first));
+        assertEquals(registry.getEvictedCount(), 1);
+
+        String large = registry.register(generated("012345678901234567890123456789"));
+        assertNull(registry.take(second));
+        assertNull(registry.take(third));
+        assertNotNull(registry.take(large));
+        assertEquals(registry.getEvictedCount(), 3);
+    }
+
+    @Test
+    public void testExpiredArchivesAndOrphansAreDeleted() throws Exception {
+        DownloadRegistry registry = new DownloadRegistry(50, TimeUnit.MILLISECONDS, 10, 1000, dir);
+        Archive spilled = new Archive(0);
+        spilled.write("0123456789".getBytes("UTF-8"));
+        spilled.close();
+        Generated generated = new Generated();
+        generated.setArchive(spilled);
+        registry.register(generated);
+
+        File orphan = new File(dir, "codegen-123-tmp");
+        FileUtils.forceMkdir(orphan);
+        File other = new File(dir, "other-tmp");
+        FileUtils.forceMkdir(other);
+        long old = System.currentTimeMillis() - 1000;
+        orphan.setLastModified(old);
+        other.setLastModified(old);
+
+        Thread.sleep(100);
+        registry.cleanup();
+
+        assertEquals(registry.getEntryCount(), 0);
+        assertEquals(registry.getExpiredCount(), 1);
+        assertNull(spilled.getFile());
+        assertFalse(orphan.exists());
+        assertTrue(other.exists());
+    }
+
+    private static Generated generated(String content) throws Exception {
+        Archive archive = new Archive();
+        archive.write(content.getBytes("UTF-8"));
+        archive.close();
+        Generated generated = new Generated();
+        generated.setArchive(archive);
+        generated.setFriendlyName("java-client");
+        return generated;
+    }
+}
@@ -0,0 +1,212 @@
+package io.swagger.generator.online;
+
+import io.swagger.generator.exception.ApiException;
+import io.swagger.generator.exception.BadRequestException;
+import io.swagger.generator.exception.TooManyRequestsException;
+import io.swagger.generator.model.JobStatus;
+import io.swagger.generator.model.ResponseCode;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.*;
+
+public class GenerationJobsTest {
+
+    @Test
+    public void testJobLinksToDownload() throws Exception {
+        GenerationJobs jobs = new GenerationJobs(1, 1, 10, 10, TimeUnit.SECONDS);
+        try {
+            JobStatus job = jobs.submit("java", Generator.Type.CLIENT, new Callable<ResponseCode>() {
+                @Override
+                public ResponseCode call() {
+                    return new ResponseCode("code", "http://localhost/api/gen/download/code");
+                }
+            });
+            assertEquals(jobs.await(job.getId()).getCode(), "code");
+
+            JobStatus status = jobs.getStatus(job.getId());
+            assertEquals(status.getStatus(), JobStatus.Status.DONE);
+            assertEquals(status.getType(), "client");
+            assertEquals(status.getLink(), "http://localhost/api/gen/download/code");
+            assertNull(jobs.getStatus("unknown"));
+        } finally {
+            jobs.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailureIsReported() throws Exception {
+        GenerationJobs jobs = new GenerationJobs(1, 1, 10, 10, TimeUnit.SECONDS);
+        try {
+            JobStatus job = jobs.submit("java", Generator.Type.CLIENT, new Callable<ResponseCode>() {
+                @Override
+                public ResponseCode call() throws Exception {
+                    throw new BadRequestException("The swagger specification supplied was not valid");
+                }
+            });
+            try {
+                jobs.await(job.getId());
+                fail("failure expected");
+            } catch (BadRequestException e) {
+                assertEquals(e.getMessage(), "The swagger specification supplied was not valid");
+            }
+            assertEquals(jobs.getStatus(job.getId()).getStatus(), JobStatus.Status.FAILED);
+        } finally {
+            jobs.shutdown();
+        }
+    }
+
+    @Test
+    public void testFullQueueIsRejected() throws Exception {
+        GenerationJobs jobs = new GenerationJobs(1, 1, 10, 10, TimeUnit.SECONDS);
+        final CountDownLatch release = new CountDownLatch(1);
+        Callable<ResponseCode> blocked = new Callable<ResponseCode>() {
+            @Override
+            public ResponseCode call() throws Exception {
+                release.await();
+                return new ResponseCode("code", "link");
+            }
+        };
+        try {
+            JobStatus running = jobs.submit("java", Generator.Type.CLIENT, blocked);
+            JobStatus queued = jobs.submit("java", Generator.Type.CLIENT, blocked);
+            try {
+                jobs.submit("java", Generator.Type.CLIENT, blocked);
+                fail("rejection expected");
+            } catch (TooManyRequestsException e) {
+                assertEquals(e.getCode(), 429);
+            }
+            assertEquals(jobs.getStatus(queued.getId()).getStatus(), JobStatus.Status.QUEUED);
+
+            release.countDown();
+            jobs.await(running.getId());
+            jobs.await(queued.getId());
+        } finally {
+            jobs.shutdown();
+        }
+    }
+
+    @Test
+    public void testSlowJobTimesOut() throws Exception {
+        GenerationJobs jobs = new GenerationJobs(1, 1, 100, 10000, TimeUnit.MILLISECONDS);
+        try {
+            JobStatus job = jobs.submit("java", Generator.Type.SERVER, new Callable<ResponseCode>() {
+                @Override
+                public ResponseCode call() throws Exception {
+                    Thread.sleep(10000);
+                    return new ResponseCode("code", "link");
+                }
+            });
+            try {
+                jobs.await(job.getId());
+                fail("timeout expected");
+            } catch (ApiException e) {
+                assertEquals(e.getCode(), 504);
+            }
+            assertEquals(jobs.getStatus(job.getId()).getStatus(), JobStatus.Status.TIMED_OUT);
+        } finally {
+            jobs.shutdown();
+        }
+    }
+
+    @Test
+    public void testAwaitedJobTimesOutInQueue() throws Exception {
+        GenerationJobs jobs = new GenerationJobs(1, 1, 200, 100, 10000, TimeUnit.MILLISECONDS);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicBoolean ran = new AtomicBoolean();
+        try {
+            jobs.submit("java", Generator.Type.CLIENT, new Callable<ResponseCode>() {
+                @Override
+                public ResponseCode call() {
+                    // ignores the interrupt of its timeout
+                    awaitUninterruptibly(release);
+                    return new ResponseCode("code", "link");
+                }
+            });
+            JobStatus queued = jobs.submit("java", Generator.Type.CLIENT, new Callable<ResponseCode>() {
+                @Override
+                public ResponseCode call() {
+                    ran.set(true);
+                    return new ResponseCode("code", "link");
+                }
+            });
+            try {
+                jobs.await(queued.getId());
+                fail("timeout expected");
+            } catch (ApiException e) {
+                assertEquals(e.getCode(), 504);
+            }
+            assertEquals(jobs.getStatus(queued.getId()).getStatus(), JobStatus.Status.TIMED_OUT);
+
+            release.countDown();
+            JobStatus next = jobs.submit("java", Generator.Type.CLIENT, new Callable<ResponseCode>() {
+                @Override
+                public ResponseCode call() {
+                    return new ResponseCode("next", "link");
+                }
+            });
+            assertEquals(jobs.await(next.getId()).getCode(), "next");
+            assertFalse(ran.get());
+        } finally {
+            jobs.shutdown();
+        }
+    }
+
+    @Test
+    public void testTimedOutJobDoesntPublish() throws Exception {
+        GenerationJobs jobs = new GenerationJobs(1, 1, 100, 10000, TimeUnit.MILLISECONDS);
+        final CountDownLatch timedOut = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(1);
+        final AtomicBoolean published = new AtomicBoolean();
+        final AtomicReference<ResponseCode> result = new AtomicReference<ResponseCode>();
+        try {
+            JobStatus job = jobs.submit("java", Generator.Type.CLIENT, new Callable<ResponseCode>() {
+                @Override
+                public ResponseCode call() throws Exception {
+                    awaitUninterruptibly(timedOut);
+                    try {
+                        result.set(GenerationJobs.publish(new Callable<ResponseCode>() {
+                            @Override
+                            public ResponseCode call() {
+                                published.set(true);
+                                return new ResponseCode("code", "link");
+                            }
+                        }));
+                        return result.get();
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            });
+            try {
+                jobs.await(job.getId());
+                fail("timeout expected");
+            } catch (ApiException e) {
+                assertEquals(e.getCode(), 504);
+            }
+            timedOut.countDown();
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertNull(result.get());
+            assertFalse(published.get());
+            assertEquals(jobs.getStatus(job.getId()).getStatus(), JobStatus.Status.TIMED_OUT);
+        } finally {
+            jobs.shutdown();
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException e) {
+                // keep waiting
+            }
+        }
+    }
+}
@@ -11,9 +11,10 @@ import io.swagger.codegen.CodegenConstants;
 import io.swagger.codegen.languages.JavaClientCodegen;
 import io.swagger.codegen.options.*;
 import io.swagger.generator.exception.ApiException;
+import io.swagger.generator.model.Generated;
 import io.swagger.generator.model.GeneratorInput;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
@@ -26,10 +27,17 @@ import java.util.*;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
 
 public class OnlineGeneratorOptionsTest {
     private static final String OPTIONS_PROVIDER = "optionsProvider";
 
+    @BeforeClass
+    public void disableResultCache() {
+        // cache keys read every option, which would hide options the generator ignores
+        Generator.setCache(new ResultCache(new File("target"), 0));
+    }
+
     @DataProvider(name = OPTIONS_PROVIDER)
     private static Object[][] listOptions() {
         return new Object[][]{{new AkkaScalaClientOptionsProvider()}, {new AndroidClientOptionsProvider()},
@@ -76,19 +84,14 @@ public class OnlineGeneratorOptionsTest {
         input.setOptions(Maps.transformEntries(options, transformer));
         final ObjectMapper mapper = new ObjectMapper();
         input.setSpec(mapper.readTree(loadClassResource(getClass(), "petstore.json")));
-        String outputFilename;
+        Generated generated;
         if (provider.isServer()) {
-            outputFilename = Generator.generateServer(provider.getLanguage(), input);
+            generated = Generator.generateServer(provider.getLanguage(), input);
         } else {
-            outputFilename = Generator.generateClient(provider.getLanguage(), input);
-        }
-        final File dir = new File(new File(outputFilename).getParent());
-        
-        try {
-            FileUtils.deleteDirectory(dir);
-        } catch (Exception e) { // directory can't be deleted for some reasons
-            e.printStackTrace();
+            generated = Generator.generateClient(provider.getLanguage(), input);
         }
+        assertTrue(generated.getArchive().getSize() > 0);
+        generated.getArchive().delete();
         for (InvocationCounter option : options.values()) {
             assertNotEquals(option.getCounter(), 0, String.format("Option \"%s\" wasn't processed.",
                     option.getValue()));
@@ -0,0 +1,105 @@
+package io.swagger.generator.online;
+
+import io.swagger.generator.util.Archive;
+import io.swagger.models.Info;
+import io.swagger.models.Swagger;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.Collections;
+
+import static org.testng.Assert.*;
+
+public class ResultCacheTest {
+    private final File dir = new File("target/result-cache-test");
+
+    @AfterMethod
+    public void tearDown() {
+        FileUtils.deleteQuietly(dir);
+    }
+
+    @Test
+    public void testKeyDependsOnTargetSpecAndOptions() throws Exception {
+        Swagger petstore = new Swagger().info(new Info().title("Petstore"));
+        String key = ResultCache.key("java", Generator.Type.CLIENT, petstore,
+                Collections.singletonMap("library", "okhttp-gson"), "2.1.6");
+
+        assertEquals(ResultCache.key("java", Generator.Type.CLIENT, new Swagger().info(new Info().title("Petstore")),
+                Collections.singletonMap("library", "okhttp-gson"), "2.1.6"), key);
+        assertNotEquals(ResultCache.key("java", Generator.Type.CLIENT, new Swagger().info(new Info().title("Store")),
+                Collections.singletonMap("library", "okhttp-gson"), "2.1.6"), key);
+        assertNotEquals(ResultCache.key("java", Generator.Type.CLIENT, petstore,
+                Collections.singletonMap("library", "retrofit2"), "2.1.6"), key);
+        assertNotEquals(ResultCache.key("java", Generator.Type.SERVER, petstore,
+                Collections.singletonMap("library", "okhttp-gson"), "2.1.6"), key);
+        assertNotEquals(ResultCache.key("java", Generator.Type.CLIENT, petstore,
+                Collections.singletonMap("library", "okhttp-gson"), "2.1.7"), key);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedArchiveIsEvicted() throws Exception {
+        ResultCache cache = new ResultCache(dir, 25);
+        cache.put("a", archive("aaaaaaaaaa"));
+        cache.put("b", archive("bbbbbbbbbb"));
+
+        Archive a = cache.get("a");
+        assertEquals(read(a), "aaaaaaaaaa");
+        // the copy handed out is independent of the cache
+        a.delete();
+
+        cache.put("c", archive("cccccccccc"));
+        assertNull(cache.get("b"));
+        assertEquals(read(cache.get("a")), "aaaaaaaaaa");
+        assertEquals(read(cache.get("c")), "cccccccccc");
+
+        assertEquals(cache.getHitCount(), 3);
+        assertEquals(cache.getMissCount(), 1);
+        assertEquals(cache.getEvictionCount(), 1);
+        assertEquals(cache.getEntryCount(), 2);
+        assertEquals(cache.getSize(), 20);
+    }
+
+    @Test
+    public void testDisabledCacheStoresNothing() throws Exception {
+        ResultCache cache = new ResultCache(dir, 0);
+        cache.put("a", archive("aaaaaaaaaa"));
+
+        assertFalse(cache.isEnabled());
+        assertNull(cache.get("a"));
+        assertEquals(cache.getEntryCount(), 0);
+    }
+
+    @Test
+    public void testOnlyOwnFilesAreDeletedOnStart() throws Exception {
+        FileUtils.forceMkdir(dir);
+        File stale = new File(dir, "result-123.zip");
+        File other = new File(dir, "other.zip");
+        FileUtils.writeStringToFile(stale, "stale");
+        FileUtils.writeStringToFile(other, "other");
+
+        new ResultCache(dir, 25);
+
+        assertFalse(stale.exists());
+        assertTrue(other.exists());
+    }
+
+    private static Archive archive(String content) throws Exception {
+        Archive archive = new Archive(4);
+        archive.write(content.getBytes("UTF-8"));
+        archive.close();
+        return archive;
+    }
+
+    private static String read(Archive archive) throws Exception {
+        InputStream in = archive.openStream();
+        try {
+            return IOUtils.toString(in, "UTF-8");
+        } finally {
+            in.close();
+        }
+    }
+}
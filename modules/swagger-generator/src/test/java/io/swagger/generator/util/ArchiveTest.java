@@ -0,0 +1,48 @@
+package io.swagger.generator.util;
+
+import org.apache.commons.io.IOUtils;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.InputStream;
+
+import static org.testng.Assert.*;
+
+public class ArchiveTest {
+
+    @Test
+    public void testSmallArchiveStaysInMemory() throws Exception {
+        Archive archive = new Archive(16);
+        archive.write("0123456789".getBytes("UTF-8"));
+        archive.close();
+
+        assertNull(archive.getFile());
+        assertEquals(archive.getSize(), 10);
+        assertEquals(read(archive), "0123456789");
+    }
+
+    @Test
+    public void testLargeArchiveIsSpilled() throws Exception {
+        Archive archive = new Archive(16);
+        archive.write("0123456789".getBytes("UTF-8"));
+        archive.write("0123456789".getBytes("UTF-8"));
+        archive.close();
+
+        File file = archive.getFile();
+        assertNotNull(file);
+        assertEquals(file.length(), 20);
+        assertEquals(read(archive), "01234567890123456789");
+
+        archive.delete();
+        assertFalse(file.exists());
+    }
+
+    private static String read(Archive archive) throws Exception {
+        InputStream in = archive.openStream();
+        try {
+            return IOUtils.toString(in, "UTF-8");
+        } finally {
+            in.close();
+        }
+    }
+}